@@ -0,0 +1,60 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.managers.HeadlessMode;
+import com.example.demo.managers.SoundManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LevelParent#generateEnemyFire()} on a headless level.
+ * The fired projectiles are cleared after every invocation, returning them to their pools,
+ * so the benchmark reflects the steady state where shots reuse pooled projectiles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyFireBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int entityCount;
+
+    private LevelOne level;
+
+    @Setup
+    public void setUp() {
+        HeadlessMode.setEnabled(true);
+        level = new LevelOne(1300, 750, new SoundManager(), null);
+        Random random = new Random(11);
+        for (int i = 0; i < entityCount; i++) {
+            level.addEnemyUnit(new EnemyPlane(random.nextDouble() * 1300, random.nextDouble() * 600, 1));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearProjectiles() {
+        level.entityManager.clearAllProjectiles();
+    }
+
+    @Benchmark
+    public void generateEnemyFire() {
+        level.generateEnemyFire();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.managers;
+
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.actor.UserPlane;
+import com.example.demo.projectiles.UserProjectile;
+
+import java.util.Random;
+
+/**
+ * Builds the actors used by the benchmarks at reproducible positions spread over the screen.
+ * Benchmarks run in {@link HeadlessMode}, so no display or graphics pipeline is needed.
+ */
+final class BenchmarkActors {
+
+    static final double SCREEN_WIDTH = 1300;
+    static final double SCREEN_HEIGHT = 750;
+
+    private BenchmarkActors() {
+    }
+
+    /**
+     * Creates an entity manager holding enemies, user projectiles and friendly planes.
+     *
+     * @param enemies     The number of enemy planes.
+     * @param projectiles The number of user projectiles.
+     * @param friendlies  The number of friendly planes.
+     * @param seed        The seed for the positions.
+     * @return The populated entity manager.
+     */
+    static EntityManager populate(int enemies, int projectiles, int friendlies, long seed) {
+        HeadlessMode.setEnabled(true);
+        Random random = new Random(seed);
+        EntityManager entityManager = new EntityManager(new javafx.scene.Group());
+        for (int i = 0; i < enemies; i++) {
+            entityManager.addEnemyUnit(new EnemyPlane(x(random), y(random), 1));
+        }
+        for (int i = 0; i < projectiles; i++) {
+            entityManager.addUserProjectile(new UserProjectile(x(random), y(random)));
+        }
+        for (int i = 0; i < friendlies; i++) {
+            UserPlane plane = new UserPlane(1);
+            plane.setTranslateX(x(random));
+            plane.setTranslateY(y(random));
+            entityManager.addFriendlyUnit(plane);
+        }
+        return entityManager;
+    }
+
+    private static double x(Random random) {
+        return random.nextDouble() * SCREEN_WIDTH;
+    }
+
+    private static double y(Random random) {
+        return random.nextDouble() * SCREEN_HEIGHT;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.managers;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EntityManager#removeAllDestroyedActors()} with a tenth of the actors destroyed.
+ * Removal consumes the state, so it is rebuilt before every invocation; the benchmark therefore
+ * runs in single-shot mode over many invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 200, batchSize = 1)
+@Measurement(iterations = 500, batchSize = 1)
+@Fork(1)
+public class CleanupBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int entityCount;
+
+    private EntityManager entityManager;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        entityManager = BenchmarkActors.populate(entityCount / 2, entityCount / 2, 0, 3);
+        destroyEveryTenth(entityManager.getEnemyUnits());
+        destroyEveryTenth(entityManager.getUserProjectiles());
+    }
+
+    @Benchmark
+    public int removeAllDestroyedActors() {
+        return entityManager.removeAllDestroyedActors();
+    }
+
+    private static void destroyEveryTenth(List<ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i += 10) {
+            actors.get(i).destroy();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.managers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the collision passes of a frame for every broadphase strategy.
+ * Destroyed actors are still tested by the collision manager, so every invocation finds the same pairs
+ * and the state does not need to be rebuilt between invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int entityCount;
+
+    @Param({"BRUTE_FORCE", "SPATIAL_HASH", "SWEEP_AND_PRUNE"})
+    private CollisionManager.Strategy strategy;
+
+    private CollisionManager collisionManager;
+    private EntityManager entityManager;
+
+    @Setup
+    public void setUp() {
+        collisionManager = new CollisionManager(strategy);
+        entityManager = BenchmarkActors.populate(entityCount / 2, entityCount / 2, entityCount / 2, 7);
+    }
+
+    @Benchmark
+    public void handleUserProjectileCollisions() {
+        collisionManager.handleUserProjectileCollisions(entityManager.getUserProjectiles(), entityManager.getEnemyUnits());
+    }
+
+    @Benchmark
+    public void handlePlaneCollisions() {
+        collisionManager.handlePlaneCollisions(entityManager.getFriendlyUnits(), entityManager.getEnemyUnits());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.managers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EntityManager#updateEntities()}, the movement and view sync of every actor in a frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityUpdateBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int entityCount;
+
+    private EntityManager entityManager;
+
+    /**
+     * Rebuilds the actors before each iteration, so they stay on screen while being moved.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        entityManager = BenchmarkActors.populate(entityCount / 2, entityCount / 2, 1, 42);
+    }
+
+    @Benchmark
+    public void updateEntities() {
+        entityManager.updateEntities();
+    }
+}
@@ -1,16 +1,15 @@
 package com.example.demo.actor;
 
+import com.example.demo.managers.SpriteCache;
 import javafx.scene.image.*;
 
-import java.util.Objects;
-
 /**
  * Abstract class representing an active actor in the game. This class extends ImageView to represent graphical elements.
  */
 public abstract class ActiveActor extends ImageView {
 
 	//Path to the folder containing images for active actors.
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	public static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
 	/**
 	 * Constructor to initialize an ActiveActor with a specific image, size, and position.
@@ -21,8 +20,8 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos  the initial Y position of the actor
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		//Load the image for the actor, ensuring the file exists.
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + imageName)).toExternalForm()));
+		//Take the shared image for the actor, pre-scaled to its display height and decoded only once.
+		this.setImage(SpriteCache.get(IMAGE_LOCATION + imageName, imageHeight));
 
 		//Set the initial position of the actor.
 		this.setLayoutX(initialXPos);
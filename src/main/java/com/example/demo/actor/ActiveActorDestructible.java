@@ -18,9 +18,31 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	//The current health of the actor.
 	protected int health;
 
-	//A rectangle representing the actor's bounding box for collision detection.
+	//A rectangle visualizing the actor's bounding box, kept in sync with the hitbox for debugging.
 	protected Rectangle boundingBox;
 
+	//Hitbox placement relative to the sprite: an offset from its top-left corner and a scale of its size.
+	private double hitboxOffsetX;
+	private double hitboxOffsetY;
+	private double hitboxScaleWidth = 1;
+	private double hitboxScaleHeight = 1;
+
+	//Size of the sprite, captured once since the image and fit height never change.
+	private final double spriteWidth;
+	private final double spriteHeight;
+
+	//The hitbox used for collision detection, as plain coordinates in the parent.
+	private double hitboxMinX;
+	private double hitboxMinY;
+	private double hitboxMaxX;
+	private double hitboxMaxY;
+
+	//The entity store holding this actor's simulation state, or null when unmanaged.
+	private EntityStore store;
+
+	//The slot this actor occupies in its entity store.
+	private int storeSlot = -1;
+
 	/**
 	 * Constructor to initialize a destructible active actor with an image, size, and position.
 	 *
@@ -33,6 +55,10 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		isDestroyed = false;
 
+		Bounds spriteBounds = getBoundsInLocal();
+		spriteWidth = spriteBounds.getWidth();
+		spriteHeight = spriteBounds.getHeight();
+
 		//Initialize the bounding box for collision detection.
 		boundingBox = new Rectangle();
 		boundingBox.setStroke(Color.RED); // For visibility during debugging
@@ -73,6 +99,16 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 	protected void setDestroyed() {
 		this.isDestroyed = true;
+		if (store != null) {
+			store.markDestroyed(storeSlot); // Keep the store's destroyed flag in sync.
+		}
+	}
+
+	/**
+	 * Clears the actor's destroyed state so a recycled actor can re-enter the game.
+	 */
+	protected void revive() {
+		this.isDestroyed = false;
 	}
 
 	/**
@@ -85,16 +121,66 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	}
 
 	/**
-	 * Updates the bounding box to match the actor's current position and size.
-	 * This is essential for accurate collision detection.
+	 * Updates the hitbox to match the actor's current position, applying the hitbox offsets and scale.
+	 * The position is computed from the layout, translate and image offsets directly, so no Bounds are allocated.
 	 */
 	public void updateBoundingBox() {
-		//Get the current bounds of the actor in the parent container.
-		Bounds bounds = this.getBoundsInParent();
-		boundingBox.setX(bounds.getMinX());
-		boundingBox.setY(bounds.getMinY());
-		boundingBox.setWidth(bounds.getWidth());
-		boundingBox.setHeight(bounds.getHeight());
+		double minX = getLayoutX() + getTranslateX() + getX() + hitboxOffsetX;
+		double minY = getLayoutY() + getTranslateY() + getY() + hitboxOffsetY;
+		placeBoundingBox(minX, minY, spriteWidth * hitboxScaleWidth, spriteHeight * hitboxScaleHeight);
+	}
+
+	/**
+	 * Sets how the hitbox is placed relative to the sprite. Called by subclasses whose sprites
+	 * have transparent margins that should not count for collisions.
+	 *
+	 * @param offsetX      the horizontal offset from the sprite's left edge
+	 * @param offsetY      the vertical offset from the sprite's top edge
+	 * @param scaleWidth   the fraction of the sprite's width covered by the hitbox
+	 * @param scaleHeight  the fraction of the sprite's height covered by the hitbox
+	 */
+	protected void setHitbox(double offsetX, double offsetY, double scaleWidth, double scaleHeight) {
+		this.hitboxOffsetX = offsetX;
+		this.hitboxOffsetY = offsetY;
+		this.hitboxScaleWidth = scaleWidth;
+		this.hitboxScaleHeight = scaleHeight;
+		updateBoundingBox();
+	}
+
+	/**
+	 * Retrieves the left edge of the actor's hitbox.
+	 *
+	 * @return the minimum X coordinate of the hitbox
+	 */
+	public double getHitboxMinX() {
+		return hitboxMinX;
+	}
+
+	/**
+	 * Retrieves the top edge of the actor's hitbox.
+	 *
+	 * @return the minimum Y coordinate of the hitbox
+	 */
+	public double getHitboxMinY() {
+		return hitboxMinY;
+	}
+
+	/**
+	 * Retrieves the right edge of the actor's hitbox.
+	 *
+	 * @return the maximum X coordinate of the hitbox
+	 */
+	public double getHitboxMaxX() {
+		return hitboxMaxX;
+	}
+
+	/**
+	 * Retrieves the bottom edge of the actor's hitbox.
+	 *
+	 * @return the maximum Y coordinate of the hitbox
+	 */
+	public double getHitboxMaxY() {
+		return hitboxMaxY;
 	}
 
 	/**
@@ -106,6 +192,24 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		return boundingBox;
 	}
 
+	/**
+	 * Retrieves the width the sprite is displayed at.
+	 *
+	 * @return the sprite width
+	 */
+	public double getSpriteWidth() {
+		return spriteWidth;
+	}
+
+	/**
+	 * Retrieves the height the sprite is displayed at.
+	 *
+	 * @return the sprite height
+	 */
+	public double getSpriteHeight() {
+		return spriteHeight;
+	}
+
 	/**
 	 * Removes the actor and its bounding box from the scene graph.
 	 * Marks the actor as destroyed and performs any additional cleanup if needed.
@@ -125,6 +229,7 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 	public void setHealth(int health) {
 		this.health = health;
+		syncHealth(health);
 	}
 
 	/**
@@ -135,4 +240,90 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public int getHealth() {
 		return this.health;
 	}
+
+	/**
+	 * Checks whether the actor moves with a constant velocity every frame.
+	 * Kinematic actors are integrated directly by their entity store instead of through updateActor().
+	 *
+	 * @return true if the actor's motion is fully described by its velocity, false otherwise
+	 */
+	public boolean isKinematic() {
+		return false;
+	}
+
+	/**
+	 * Retrieves the horizontal distance the actor moves each frame when kinematic.
+	 *
+	 * @return the horizontal velocity
+	 */
+	public double getVelocityX() {
+		return 0;
+	}
+
+	/**
+	 * Retrieves the vertical distance the actor moves each frame when kinematic.
+	 *
+	 * @return the vertical velocity
+	 */
+	public double getVelocityY() {
+		return 0;
+	}
+
+	/**
+	 * Records a health change in the entity store, if the actor is bound to one.
+	 *
+	 * @param health the actor's new health
+	 */
+	protected final void syncHealth(int health) {
+		if (store != null) {
+			store.setHealth(storeSlot, health);
+		}
+	}
+
+	/**
+	 * Records a velocity change in the entity store, if the actor is bound to one.
+	 */
+	protected final void syncVelocity() {
+		if (store != null) {
+			store.setVelocity(storeSlot, getVelocityX(), getVelocityY());
+		}
+	}
+
+	/**
+	 * Binds the actor to the slot holding its state in an entity store.
+	 *
+	 * @param store the entity store
+	 * @param slot  the slot index
+	 */
+	void bindToStore(EntityStore store, int slot) {
+		this.store = store;
+		this.storeSlot = slot;
+	}
+
+	/**
+	 * Detaches the actor from its entity store.
+	 */
+	void unbindFromStore() {
+		this.store = null;
+		this.storeSlot = -1;
+	}
+
+	/**
+	 * Places the hitbox and its debug rectangle at the given coordinates.
+	 *
+	 * @param x      the X coordinate of the box
+	 * @param y      the Y coordinate of the box
+	 * @param width  the width of the box
+	 * @param height the height of the box
+	 */
+	void placeBoundingBox(double x, double y, double width, double height) {
+		hitboxMinX = x;
+		hitboxMinY = y;
+		hitboxMaxX = x + width;
+		hitboxMaxY = y + height;
+		boundingBox.setX(x);
+		boundingBox.setY(y);
+		boundingBox.setWidth(width);
+		boundingBox.setHeight(height);
+	}
 }
@@ -1,9 +1,9 @@
 package com.example.demo.actor;
 
 import com.example.demo.projectiles.BossProjectile;
-import javafx.geometry.Bounds;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * The Boss class represents a boss character in the game. It extends FighterPlane
@@ -12,13 +12,13 @@ import java.util.*;
 public class Boss extends FighterPlane {
 
 	// Constants defining the boss's behavior, appearance, and gameplay attributes.
-	private static final String IMAGE_NAME = "bossplane.png";
+	public static final String IMAGE_NAME = "bossplane.png";
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
 	private static final double BOSS_FIRE_RATE = .04;
 	private static final double BOSS_SHIELD_PROBABILITY = 0.05;
-	private static final int IMAGE_HEIGHT = 300;
+	public static final int IMAGE_HEIGHT = 300;
 	private static final int VERTICAL_VELOCITY = 8;
 	private static final int HEALTH = 20;
 	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
@@ -27,6 +27,10 @@ public class Boss extends FighterPlane {
 	private static final int Y_POSITION_UPPER_BOUND = -100;
 	private static final int Y_POSITION_LOWER_BOUND = 475;
 	private static final int MAX_FRAMES_WITH_SHIELD = 100;
+	private static final double HITBOX_OFFSET_X = 50;
+	private static final double HITBOX_OFFSET_Y = 100;
+	private static final double HITBOX_SCALE_WIDTH = 0.9;
+	private static final double HITBOX_SCALE_HEIGHT = 0.3;
 	private final List<Integer> movePattern;
 	private boolean isShielded;
 	private int consecutiveMovesInSameDirection;
@@ -37,9 +41,22 @@ public class Boss extends FighterPlane {
 
 	/**
 	 * Constructor to initialize the boss with its default attributes and behaviors.
+	 * Its decisions are drawn from the thread's shared random generator.
 	 */
 	public Boss() {
+		this(null);
+	}
+
+	/**
+	 * Constructor to initialize the boss with its default attributes and behaviors,
+	 * drawing its moves, shots and shield from the given random stream.
+	 *
+	 * @param random the level's random stream for the boss, or null to use the thread's shared generator.
+	 */
+	public Boss(RandomGenerator random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		setRandom(random);
+		setHitbox(HITBOX_OFFSET_X, HITBOX_OFFSET_Y, HITBOX_SCALE_WIDTH, HITBOX_SCALE_HEIGHT);
 		currentHealth = HEALTH;
 		movePattern = new ArrayList<>();
 		consecutiveMovesInSameDirection = 0;
@@ -49,6 +66,23 @@ public class Boss extends FighterPlane {
 		initializeMovePattern();
 	}
 
+	/**
+	 * Returns the boss to its initial state: full health, unshielded, at its starting position and at the
+	 * start of its move pattern. A destroyed boss is brought back.
+	 */
+	public void reset() {
+		revive();
+		currentHealth = HEALTH;
+		setHealth(HEALTH);
+		setTranslateX(0);
+		setTranslateY(0);
+		consecutiveMovesInSameDirection = 0;
+		indexOfCurrentMove = 0;
+		movePattern.clear();
+		initializeMovePattern(); // Undo earlier shuffles, so the first shuffle matches a new boss's.
+		deactivateShield();
+	}
+
 	/**
 	 * Returns the current health of the boss.
 	 *
@@ -83,12 +117,19 @@ public class Boss extends FighterPlane {
 
 	/**
 	 * Fires a projectile if the boss decides to fire in the current frame.
+	 * The projectile is taken from the attached pool when there is one.
 	 *
-	 * @return a new BossProjectile instance if firing, otherwise null.
+	 * @return a BossProjectile instance if firing, otherwise null.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+		if (!bossFiresInCurrentFrame()) {
+			return null;
+		}
+		if (getProjectilePools() != null) {
+			return getProjectilePools().getBossProjectilePool().obtain(BossProjectile.INITIAL_X_POSITION, getProjectileInitialPosition());
+		}
+		return new BossProjectile(getProjectileInitialPosition());
 	}
 
 	/**
@@ -104,12 +145,14 @@ public class Boss extends FighterPlane {
 				currentHealth = 0;
 				destroy(); // Handle destruction or death logic
 			}
+			syncHealth(currentHealth);
 		}
 	}
 
 	/**
 	 * Initializes the boss's movement pattern with a mix of vertical and stationary moves.
-	 * The pattern is shuffled for unpredictability.
+	 * The pattern is shuffled for unpredictability at the start of every cycle, so no random
+	 * numbers are drawn before the boss first moves.
 	 */
 	private void initializeMovePattern() {
 		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
@@ -117,7 +160,6 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
 	}
 
 	/**
@@ -141,6 +183,9 @@ public class Boss extends FighterPlane {
 	 * @return the next move value.
 	 */
 	private int getNextMove() {
+		if (indexOfCurrentMove == 0 && consecutiveMovesInSameDirection == 0) {
+			Collections.shuffle(movePattern, getRandom()); // Shuffle at the start of every cycle
+		}
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
@@ -148,7 +193,6 @@ public class Boss extends FighterPlane {
 			indexOfCurrentMove++;
 			if (indexOfCurrentMove >= movePattern.size()) {
 				indexOfCurrentMove = 0;
-				Collections.shuffle(movePattern); // Shuffle after completing a cycle
 			}
 		}
 		return currentMove;
@@ -160,7 +204,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the boss fires, false otherwise.
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return getRandom().nextDouble() < BOSS_FIRE_RATE;
 	}
 
 	/**
@@ -187,7 +231,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the shield should be activated, false otherwise.
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return getRandom().nextDouble() < BOSS_SHIELD_PROBABILITY;
 	}
 
 	/**
@@ -213,22 +257,4 @@ public class Boss extends FighterPlane {
 		isShielded = false;
 		framesWithShieldActivated = 0;
 	}
-
-	/**
-	 * Updates the bounding box of the boss for collision detection.
-	 * Adjusts the bounding box dimensions and offsets for better accuracy.
-	 */
-	@Override
-	public void updateBoundingBox() {
-		double offsetX = 50;  // Horizontal offset for bounding box.
-		double offsetY = 100; // Vertical offset for bounding box.
-		double scaleWidth = 0.9;  // Scaling factor for width.
-		double scaleHeight = 0.3; // Scaling factor for height.
-
-		Bounds bounds = this.getBoundsInParent();
-		boundingBox.setX(bounds.getMinX() + offsetX);
-		boundingBox.setY(bounds.getMinY() + offsetY);
-		boundingBox.setWidth(bounds.getWidth() * scaleWidth);
-		boundingBox.setHeight(bounds.getHeight() * scaleHeight);
-	}
 }
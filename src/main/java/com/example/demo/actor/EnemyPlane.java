@@ -1,7 +1,6 @@
 package com.example.demo.actor;
 
 import com.example.demo.projectiles.EnemyProjectile;
-import javafx.geometry.Bounds;
 
 /**
  * The EnemyPlane class represents an enemy aircraft in the game.
@@ -11,11 +10,15 @@ import javafx.geometry.Bounds;
 public class EnemyPlane extends FighterPlane {
 
 	//Constants defining the enemy plane's image, dimensions, and behavior.
-	private static final String IMAGE_NAME = "enemyplane.png";
-	private static final int IMAGE_HEIGHT = 120;
+	public static final String IMAGE_NAME = "enemyplane.png";
+	public static final int IMAGE_HEIGHT = 120;
 	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
 	private static final double FIRE_RATE = 0.01;
+	private static final double HITBOX_OFFSET_X = 5;
+	private static final double HITBOX_OFFSET_Y = 35;
+	private static final double HITBOX_SCALE_WIDTH = 0.9;
+	private static final double HITBOX_SCALE_HEIGHT = 0.4;
 
 	//Horizontal velocity of the enemy plane.
 	protected double horizontalVelocity;
@@ -29,6 +32,7 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	public EnemyPlane(double initialXPos, double initialYPos, int health) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, health);
+		setHitbox(HITBOX_OFFSET_X, HITBOX_OFFSET_Y, HITBOX_SCALE_WIDTH, HITBOX_SCALE_HEIGHT);
 		this.horizontalVelocity = -6;
 	}
 
@@ -44,42 +48,49 @@ public class EnemyPlane extends FighterPlane {
 	/**
 	 * Fires a projectile from the enemy plane if a random chance meets the fire rate.
 	 *
+	 * The projectile is taken from the attached pool when there is one.
+	 *
 	 * @return an EnemyProjectile instance if the plane fires; otherwise, null.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+		if (getRandom().nextDouble() < FIRE_RATE) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+			if (getProjectilePools() != null) {
+				return getProjectilePools().getEnemyProjectilePool().obtain(projectileXPosition, projectileYPosition);
+			}
 			return new EnemyProjectile(projectileXPosition, projectileYPosition);
 		}
 		return null;
 	}
 
 	/**
-	 * Updates the enemy plane's behavior. Currently, it updates its position.
+	 * Enemy planes fly in a straight line, so their motion is integrated by the entity store.
+	 *
+	 * @return true, as the plane's motion is fully described by its velocity.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public boolean isKinematic() {
+		return true;
 	}
 
 	/**
-	 * Updates the bounding box of the enemy plane for collision detection.
-	 * The bounding box's dimensions and offsets are adjusted for accuracy.
+	 * Gets the horizontal distance the enemy plane moves each frame.
+	 *
+	 * @return the horizontal velocity.
 	 */
 	@Override
-	public void updateBoundingBox() {
-		double offsetX = 5;    // Adjust as needed
-		double offsetY = 35;   // Adjust as needed
-		double scaleWidth = 0.9;
-		double scaleHeight = 0.4;
+	public double getVelocityX() {
+		return horizontalVelocity;
+	}
 
-		Bounds bounds = this.getBoundsInParent();
-		boundingBox.setX(bounds.getMinX() + offsetX);
-		boundingBox.setY(bounds.getMinY() + offsetY);
-		boundingBox.setWidth(bounds.getWidth() * scaleWidth);
-		boundingBox.setHeight(bounds.getHeight() * scaleHeight);
+	/**
+	 * Updates the enemy plane's behavior. Currently, it updates its position.
+	 */
+	@Override
+	public void updateActor() {
+		updatePosition();
 	}
 
 	/**
@@ -90,6 +101,7 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	public void setSpeed(double speed) {
 		this.horizontalVelocity = -speed; // Negative for leftward movement
+		syncVelocity();
 	}
 
 	/**
@@ -0,0 +1,419 @@
+package com.example.demo.actor;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Struct-of-arrays store holding the simulation state of one group of destructible actors.
+ * Positions, velocities, health, flags and bounding-box extents live in parallel primitive arrays,
+ * so the per-frame update and cleanup passes are linear sweeps over contiguous memory.
+ * The actors themselves act as views of this state and are synced once per frame.
+ */
+public class EntityStore {
+
+	//Bit flags packed into the flags array.
+	private static final byte FLAG_DESTROYED = 1;
+	private static final byte FLAG_KINEMATIC = 1 << 1;
+
+	//Initial number of slots allocated for each array.
+	private static final int INITIAL_CAPACITY = 16;
+
+	//Simulation state, one entry per slot.
+	private double[] x; // World X position (layout plus translate).
+	private double[] y; // World Y position (layout plus translate).
+	private double[] previousX; // X position before the last update, used to interpolate rendering.
+	private double[] previousY; // Y position before the last update, used to interpolate rendering.
+	private double[] vx; // Horizontal velocity per frame for kinematic actors.
+	private double[] vy; // Vertical velocity per frame for kinematic actors.
+	private double[] originX; // Layout X of the view, used to derive its translate.
+	private double[] originY; // Layout Y of the view, used to derive its translate.
+	private int[] health;
+	private byte[] flags;
+
+	//Bounding-box extents relative to the actor's position, captured once per kind of actor.
+	private double[] boxOffsetX;
+	private double[] boxOffsetY;
+	private double[] boxWidth;
+	private double[] boxHeight;
+
+	//The actor acting as the view for each slot.
+	private ActiveActorDestructible[] actors;
+
+	private int size;
+
+	//Live list view over the occupied slots.
+	private final List<ActiveActorDestructible> listView = new ActorListView();
+
+	/**
+	 * Constructor to initialize an empty entity store.
+	 */
+	public EntityStore() {
+		x = new double[INITIAL_CAPACITY];
+		y = new double[INITIAL_CAPACITY];
+		previousX = new double[INITIAL_CAPACITY];
+		previousY = new double[INITIAL_CAPACITY];
+		vx = new double[INITIAL_CAPACITY];
+		vy = new double[INITIAL_CAPACITY];
+		originX = new double[INITIAL_CAPACITY];
+		originY = new double[INITIAL_CAPACITY];
+		health = new int[INITIAL_CAPACITY];
+		flags = new byte[INITIAL_CAPACITY];
+		boxOffsetX = new double[INITIAL_CAPACITY];
+		boxOffsetY = new double[INITIAL_CAPACITY];
+		boxWidth = new double[INITIAL_CAPACITY];
+		boxHeight = new double[INITIAL_CAPACITY];
+		actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Adds an actor to the store, capturing its current state into a new slot.
+	 *
+	 * @param actor the actor to add
+	 */
+	public void add(ActiveActorDestructible actor) {
+		ensureCapacity(size + 1);
+		int slot = size++;
+		actors[slot] = actor;
+		originX[slot] = actor.getLayoutX();
+		originY[slot] = actor.getLayoutY();
+		x[slot] = originX[slot] + actor.getTranslateX();
+		y[slot] = originY[slot] + actor.getTranslateY();
+		previousX[slot] = x[slot];
+		previousY[slot] = y[slot];
+		vx[slot] = actor.getVelocityX();
+		vy[slot] = actor.getVelocityY();
+		health[slot] = actor.getHealth();
+		flags[slot] = 0;
+		if (actor.isKinematic()) {
+			flags[slot] |= FLAG_KINEMATIC;
+		}
+		if (actor.isDestroyed()) {
+			flags[slot] |= FLAG_DESTROYED;
+		}
+
+		//Capture the box extents relative to the actor's position.
+		actor.updateBoundingBox();
+		boxOffsetX[slot] = actor.getHitboxMinX() - x[slot];
+		boxOffsetY[slot] = actor.getHitboxMinY() - y[slot];
+		boxWidth[slot] = actor.getHitboxMaxX() - actor.getHitboxMinX();
+		boxHeight[slot] = actor.getHitboxMaxY() - actor.getHitboxMinY();
+
+		actor.bindToStore(this, slot);
+	}
+
+	/**
+	 * Advances every actor by one frame. Kinematic actors are integrated directly from the velocity
+	 * arrays; scripted actors (the user's plane, the boss) run their own update and are read back.
+	 */
+	public void update() {
+		for (int i = 0; i < size; i++) {
+			previousX[i] = x[i];
+			previousY[i] = y[i];
+			if ((flags[i] & FLAG_KINEMATIC) != 0) {
+				x[i] += vx[i];
+				y[i] += vy[i];
+			} else {
+				ActiveActorDestructible actor = actors[i];
+				actor.updateActor();
+				x[i] = originX[i] + actor.getTranslateX();
+				y[i] = originY[i] + actor.getTranslateY();
+			}
+		}
+	}
+
+	/**
+	 * Pushes the simulation state to the actors so the scene graph and collision boxes reflect it.
+	 */
+	public void syncViews() {
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actors[i];
+			actor.setTranslateX(x[i] - originX[i]);
+			actor.setTranslateY(y[i] - originY[i]);
+			actor.placeBoundingBox(x[i] + boxOffsetX[i], y[i] + boxOffsetY[i], boxWidth[i], boxHeight[i]);
+		}
+	}
+
+	/**
+	 * Places the views of kinematic actors between their previous and current positions, so rendering
+	 * stays smooth when frames are drawn more often than the simulation steps.
+	 * Only the views move; the simulation state and collision boxes keep the current positions.
+	 * Scripted actors are left alone, as their view is their simulation state.
+	 *
+	 * @param alpha how far to blend from the previous position (0) to the current one (1)
+	 */
+	public void interpolateViews(double alpha) {
+		for (int i = 0; i < size; i++) {
+			if ((flags[i] & FLAG_KINEMATIC) != 0) {
+				ActiveActorDestructible actor = actors[i];
+				actor.setTranslateX(getInterpolatedX(i, alpha) - originX[i]);
+				actor.setTranslateY(getInterpolatedY(i, alpha) - originY[i]);
+			}
+		}
+	}
+
+	/**
+	 * Removes every destroyed actor with a single compacting sweep over the flags array.
+	 * Surviving actors keep their relative order.
+	 *
+	 * @param onRemoved callback invoked for each removed actor, e.g. to detach its view
+	 * @return the number of actors removed
+	 */
+	public int removeDestroyed(Consumer<ActiveActorDestructible> onRemoved) {
+		int write = 0;
+		for (int read = 0; read < size; read++) {
+			if ((flags[read] & FLAG_DESTROYED) != 0) {
+				ActiveActorDestructible removed = actors[read];
+				removed.unbindFromStore();
+				onRemoved.accept(removed);
+				continue;
+			}
+			if (write != read) {
+				moveSlot(read, write);
+			}
+			write++;
+		}
+		int removedCount = size - write;
+		Arrays.fill(actors, write, size, null);
+		size = write;
+		return removedCount;
+	}
+
+	/**
+	 * Removes the actor at the given slot, shifting later slots down to keep their order.
+	 *
+	 * @param slot the slot to remove
+	 * @return the removed actor
+	 */
+	public ActiveActorDestructible removeAt(int slot) {
+		if (slot < 0 || slot >= size) {
+			throw new IndexOutOfBoundsException("Slot " + slot + " out of bounds for size " + size);
+		}
+		ActiveActorDestructible removed = actors[slot];
+		removed.unbindFromStore();
+		for (int i = slot + 1; i < size; i++) {
+			moveSlot(i, i - 1);
+		}
+		actors[--size] = null;
+		return removed;
+	}
+
+	/**
+	 * Removes every actor from the store.
+	 *
+	 * @param onRemoved callback invoked for each removed actor
+	 */
+	public void clear(Consumer<ActiveActorDestructible> onRemoved) {
+		for (int i = 0; i < size; i++) {
+			actors[i].unbindFromStore();
+			onRemoved.accept(actors[i]);
+		}
+		Arrays.fill(actors, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * Returns a live list view over the actors in the store.
+	 * Removing through the view removes the actor's slot from the store.
+	 *
+	 * @return the list view
+	 */
+	public List<ActiveActorDestructible> asList() {
+		return listView;
+	}
+
+	/**
+	 * Returns the number of actors in the store.
+	 *
+	 * @return the number of occupied slots
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the actor occupying a slot.
+	 *
+	 * @param slot the slot index
+	 * @return the actor in that slot
+	 */
+	public ActiveActorDestructible getActor(int slot) {
+		return actors[slot];
+	}
+
+	/**
+	 * Returns the world X position stored for a slot.
+	 *
+	 * @param slot the slot index
+	 * @return the X position
+	 */
+	public double getX(int slot) {
+		return x[slot];
+	}
+
+	/**
+	 * Returns the world Y position stored for a slot.
+	 *
+	 * @param slot the slot index
+	 * @return the Y position
+	 */
+	public double getY(int slot) {
+		return y[slot];
+	}
+
+	/**
+	 * Returns the X position of a slot blended between its previous and current value.
+	 *
+	 * @param slot  the slot index
+	 * @param alpha how far to blend from the previous position (0) to the current one (1)
+	 * @return the interpolated X position
+	 */
+	public double getInterpolatedX(int slot, double alpha) {
+		return previousX[slot] + (x[slot] - previousX[slot]) * alpha;
+	}
+
+	/**
+	 * Returns the Y position of a slot blended between its previous and current value.
+	 *
+	 * @param slot  the slot index
+	 * @param alpha how far to blend from the previous position (0) to the current one (1)
+	 * @return the interpolated Y position
+	 */
+	public double getInterpolatedY(int slot, double alpha) {
+		return previousY[slot] + (y[slot] - previousY[slot]) * alpha;
+	}
+
+	/**
+	 * Returns the health stored for a slot.
+	 *
+	 * @param slot the slot index
+	 * @return the health value
+	 */
+	public int getHealth(int slot) {
+		return health[slot];
+	}
+
+	/**
+	 * Checks whether the actor in a slot has been destroyed.
+	 *
+	 * @param slot the slot index
+	 * @return true if the slot is flagged as destroyed
+	 */
+	public boolean isDestroyed(int slot) {
+		return (flags[slot] & FLAG_DESTROYED) != 0;
+	}
+
+	/**
+	 * Flags a slot as destroyed. Called by the bound actor when it is destroyed.
+	 *
+	 * @param slot the slot index
+	 */
+	void markDestroyed(int slot) {
+		flags[slot] |= FLAG_DESTROYED;
+	}
+
+	/**
+	 * Records a new health value for a slot. Called by the bound actor when its health changes.
+	 *
+	 * @param slot   the slot index
+	 * @param value  the new health value
+	 */
+	void setHealth(int slot, int value) {
+		health[slot] = value;
+	}
+
+	/**
+	 * Records a new velocity for a slot. Called by the bound actor when its speed changes.
+	 *
+	 * @param slot       the slot index
+	 * @param velocityX  the new horizontal velocity
+	 * @param velocityY  the new vertical velocity
+	 */
+	void setVelocity(int slot, double velocityX, double velocityY) {
+		vx[slot] = velocityX;
+		vy[slot] = velocityY;
+	}
+
+	/**
+	 * Copies every array entry of one slot into another and rebinds the moved actor.
+	 *
+	 * @param from the source slot
+	 * @param to   the destination slot
+	 */
+	private void moveSlot(int from, int to) {
+		x[to] = x[from];
+		y[to] = y[from];
+		previousX[to] = previousX[from];
+		previousY[to] = previousY[from];
+		vx[to] = vx[from];
+		vy[to] = vy[from];
+		originX[to] = originX[from];
+		originY[to] = originY[from];
+		health[to] = health[from];
+		flags[to] = flags[from];
+		boxOffsetX[to] = boxOffsetX[from];
+		boxOffsetY[to] = boxOffsetY[from];
+		boxWidth[to] = boxWidth[from];
+		boxHeight[to] = boxHeight[from];
+		actors[to] = actors[from];
+		actors[to].bindToStore(this, to);
+	}
+
+	/**
+	 * Grows every array so the store can hold at least the given number of slots.
+	 *
+	 * @param required the minimum capacity needed
+	 */
+	private void ensureCapacity(int required) {
+		if (required <= actors.length) {
+			return;
+		}
+		int capacity = Math.max(required, actors.length * 2);
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		previousX = Arrays.copyOf(previousX, capacity);
+		previousY = Arrays.copyOf(previousY, capacity);
+		vx = Arrays.copyOf(vx, capacity);
+		vy = Arrays.copyOf(vy, capacity);
+		originX = Arrays.copyOf(originX, capacity);
+		originY = Arrays.copyOf(originY, capacity);
+		health = Arrays.copyOf(health, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+		boxOffsetX = Arrays.copyOf(boxOffsetX, capacity);
+		boxOffsetY = Arrays.copyOf(boxOffsetY, capacity);
+		boxWidth = Arrays.copyOf(boxWidth, capacity);
+		boxHeight = Arrays.copyOf(boxHeight, capacity);
+		actors = Arrays.copyOf(actors, capacity);
+	}
+
+	/**
+	 * List view over the occupied slots, so existing list-based callers keep working.
+	 */
+	private class ActorListView extends AbstractList<ActiveActorDestructible> {
+
+		@Override
+		public ActiveActorDestructible get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+			}
+			return actors[index];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean add(ActiveActorDestructible actor) {
+			EntityStore.this.add(actor);
+			return true;
+		}
+
+		@Override
+		public ActiveActorDestructible remove(int index) {
+			return removeAt(index);
+		}
+	}
+}
@@ -1,5 +1,10 @@
 package com.example.demo.actor;
 
+import com.example.demo.projectiles.ProjectilePools;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Abstract class representing a fighter plane in the game.
  * It extends ActiveActorDestructible and provides functionality for health management
@@ -10,6 +15,12 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	//The current health of the fighter plane.
 	private int health;
 
+	//Pools supplying this plane's projectiles, or null to construct a new projectile for every shot.
+	private ProjectilePools projectilePools;
+
+	//Source of this plane's random decisions, or null to use the thread's shared generator.
+	private RandomGenerator random;
+
 	/**
 	 * Constructor to initialize the fighter plane with an image, size, position, and health.
 	 *
@@ -32,6 +43,42 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public abstract ActiveActorDestructible fireProjectile();
 
+	/**
+	 * Sets the pools this plane takes its projectiles from.
+	 *
+	 * @param projectilePools the projectile pools shared by the level, or null to disable pooling.
+	 */
+	public void setProjectilePools(ProjectilePools projectilePools) {
+		this.projectilePools = projectilePools;
+	}
+
+	/**
+	 * Gets the pools this plane takes its projectiles from.
+	 *
+	 * @return the projectile pools, or null if projectiles are not pooled.
+	 */
+	protected ProjectilePools getProjectilePools() {
+		return projectilePools;
+	}
+
+	/**
+	 * Sets the random generator this plane's decisions are drawn from, so they can be reproduced from a seed.
+	 *
+	 * @param random the level's random stream for this plane, or null to use the thread's shared generator.
+	 */
+	public void setRandom(RandomGenerator random) {
+		this.random = random;
+	}
+
+	/**
+	 * Gets the random generator this plane's decisions are drawn from.
+	 *
+	 * @return the attached random stream, or the thread's shared generator if none is attached.
+	 */
+	protected RandomGenerator getRandom() {
+		return random != null ? random : ThreadLocalRandom.current();
+	}
+
 	/**
 	 * Handles the fighter plane taking damage. Decreases health by 1 if health is above 0.
 	 * If health reaches zero, the plane is destroyed.
@@ -40,12 +87,24 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	public void takeDamage() {
 		if (health > 0) {
 			health--;
+			syncHealth(health);
 			if (healthAtZero()) {
 				this.destroy(); //Trigger destruction logic when health reaches zero.
 			}
 		}
 	}
 
+	/**
+	 * Sets the fighter plane's health, as when it is reset for a new game.
+	 *
+	 * @param health the new health value (negative values are treated as zero).
+	 */
+	@Override
+	public void setHealth(int health) {
+		this.health = Math.max(0, health);
+		super.setHealth(this.health);
+	}
+
 	/**
 	 * Calculates the X-coordinate for a projectile based on an offset.
 	 *
@@ -1,7 +1,6 @@
 package com.example.demo.actor;
 
 import com.example.demo.projectiles.UserProjectile;
-import javafx.geometry.Bounds;
 
 /**
  * Class representing the User's Plane in the game.
@@ -10,16 +9,20 @@ import javafx.geometry.Bounds;
 public class UserPlane extends FighterPlane {
 
 	//Constants defining the UserPlane's properties and movement boundaries.
-	private static final String DEFAULT_IMAGE_NAME = "userplane.png";
+	public static final String DEFAULT_IMAGE_NAME = "userplane.png";
 	private static final double Y_UPPER_BOUND = -40;
 	private static final double Y_LOWER_BOUND = 600.0;
 	private static final double X_LEFT_BOUND = 0;
 	private static final double X_RIGHT_BOUND = 800.0;
 	private static final double INITIAL_X_POSITION = 5.0;
 	private static final double INITIAL_Y_POSITION = 300.0;
-	private static final int IMAGE_HEIGHT = 150;
+	public static final int IMAGE_HEIGHT = 150;
 	private static final int VERTICAL_VELOCITY = 15;
 	private static final int HORIZONTAL_VELOCITY = 15;
+	private static final double HITBOX_OFFSET_X = 10;
+	private static final double HITBOX_OFFSET_Y = 50;
+	private static final double HITBOX_SCALE_WIDTH = 0.9;
+	private static final double HITBOX_SCALE_HEIGHT = 0.3;
 
 	// Variables for controlling movement and tracking game state.
 	private int verticalVelocityMultiplier;
@@ -44,6 +47,7 @@ public class UserPlane extends FighterPlane {
 	 */
 	public UserPlane(String imageName, int initialHealth) {
 		super(imageName, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+		setHitbox(HITBOX_OFFSET_X, HITBOX_OFFSET_Y, HITBOX_SCALE_WIDTH, HITBOX_SCALE_HEIGHT);
 		this.initialHealth = initialHealth;
 		verticalVelocityMultiplier = 0;
 		horizontalVelocityMultiplier = 0;
@@ -88,8 +92,10 @@ public class UserPlane extends FighterPlane {
 
 	/**
 	 * Resets the UserPlane to its initial state, including position, health, and kill count.
+	 * A destroyed plane is brought back.
 	 */
 	public void reset() {
+		revive();
 		setHealth(initialHealth);
 		setTranslateX(0);
 		setTranslateY(0);
@@ -106,13 +112,18 @@ public class UserPlane extends FighterPlane {
 	}
 
 	/**
-	 * Fires a projectile from the UserPlane.
+	 * Fires a projectile from the UserPlane, reusing a pooled projectile when pools are attached.
 	 *
-	 * @return A new UserProjectile instance.
+	 * @return A UserProjectile ready to be added to the game.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(getProjectileXPosition(50), getProjectileYPosition(25));
+		double projectileXPosition = getProjectileXPosition(50);
+		double projectileYPosition = getProjectileYPosition(25);
+		if (getProjectilePools() != null) {
+			return getProjectilePools().getUserProjectilePool().obtain(projectileXPosition, projectileYPosition);
+		}
+		return new UserProjectile(projectileXPosition, projectileYPosition);
 	}
 
 	/**
@@ -175,25 +186,6 @@ public class UserPlane extends FighterPlane {
 		horizontalVelocityMultiplier = 0;
 	}
 
-	/**
-	 * Updates the bounding box for the plane, adjusting for offsets and scaling.
-	 * Used for accurate collision detection.
-	 */
-	@Override
-	public void updateBoundingBox() {
-
-		double offsetX = 10;
-		double offsetY = 50;
-		double scaleWidth = 0.9;
-		double scaleHeight = 0.3;
-
-		Bounds bounds = this.getBoundsInParent();
-		boundingBox.setX(bounds.getMinX() + offsetX);
-		boundingBox.setY(bounds.getMinY() + offsetY);
-		boundingBox.setWidth(bounds.getWidth() * scaleWidth);
-		boundingBox.setHeight(bounds.getHeight() * scaleHeight);
-	}
-
 	/**
 	 * Increments the kill count by a specified value.
 	 *
@@ -1,13 +1,19 @@
 package com.example.demo.controller;
 
+import com.example.demo.level.LevelAssets;
 import com.example.demo.level.LevelListener;
 import com.example.demo.level.LevelParent;
+import com.example.demo.managers.AssetManifest;
+import com.example.demo.managers.AssetPreloader;
+import com.example.demo.managers.SceneCache;
 import com.example.demo.managers.SoundManager;
 import javafx.application.Platform;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
+import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 import java.lang.reflect.Constructor;
@@ -71,28 +77,78 @@ public class Controller implements LevelListener {
 
 	/**
 	 * Loads and transitions to the specified level.
+	 * If the level's assets are not loaded yet, a loading screen is shown while they load in the background.
 	 *
 	 * @param className The fully qualified name of the level's class.
 	 */
 	private void goToLevel(String className) {
 		Platform.runLater(() -> {
-			try {
-				removeLevelListener();
-				Class<?> myClass = Class.forName(className);
-				Constructor<?> constructor = myClass.getConstructor(double.class, double.class, SoundManager.class, Stage.class);
-				LevelParent myLevel = (LevelParent) constructor.newInstance(1300, 750, soundManager, stage);
-				currentLevel = myLevel;
-				myLevel.addLevelListener(this); // Add this controller as a listener
-				Scene scene = myLevel.initializeScene();
-				stage.setScene(scene);
-				myLevel.startGame();
-			} catch (Exception e) {
-				logger.log(Level.SEVERE, "Error loading level: " + className, e);
-				showErrorAlert(e);
+			removeLevelListener();
+			AssetManifest manifest = LevelAssets.manifestFor(className);
+			if (AssetPreloader.isWarm(manifest)) {
+				startLevel(className, manifest);
+				return;
 			}
+			AssetPreloader preloader = new AssetPreloader(manifest, soundManager);
+			preloader.setOnSucceeded(e -> startLevel(className, manifest));
+			preloader.setOnFailed(e -> {
+				logger.log(Level.WARNING, "Preloading failed for level: " + className, preloader.getException());
+				startLevel(className, manifest);
+			});
+			stage.setScene(createLoadingScene(preloader));
+			preloader.start();
 		});
 	}
 
+	/**
+	 * Creates the level, shows it and starts it, then begins loading the following level's assets.
+	 *
+	 * @param className The fully qualified name of the level's class.
+	 * @param manifest  The level's asset manifest.
+	 */
+	private void startLevel(String className, AssetManifest manifest) {
+		try {
+			Class<?> myClass = Class.forName(className);
+			Constructor<?> constructor = myClass.getConstructor(double.class, double.class, SoundManager.class, Stage.class);
+			LevelParent myLevel = (LevelParent) constructor.newInstance(1300, 750, soundManager, stage);
+			currentLevel = myLevel;
+			myLevel.addLevelListener(this); // Add this controller as a listener
+			Scene scene = myLevel.initializeScene();
+			stage.setScene(scene);
+			myLevel.startGame();
+		} catch (Exception e) {
+			logger.log(Level.SEVERE, "Error loading level: " + className, e);
+			showErrorAlert(e);
+			return;
+		}
+
+		//Warm the next level while this one is played
+		String nextLevelClassName = manifest.getNextLevelClassName();
+		if (nextLevelClassName != null) {
+			AssetManifest nextManifest = LevelAssets.manifestFor(nextLevelClassName);
+			if (!AssetPreloader.isWarm(nextManifest)) {
+				new AssetPreloader(nextManifest, soundManager).start();
+			}
+		}
+	}
+
+	/**
+	 * Creates the loading screen, with a progress bar and label bound to the preloader.
+	 *
+	 * @param preloader The preloader whose progress is shown.
+	 * @return The loading scene.
+	 */
+	private Scene createLoadingScene(AssetPreloader preloader) {
+		ProgressBar progressBar = new ProgressBar();
+		progressBar.setPrefWidth(400);
+		progressBar.progressProperty().bind(preloader.progressProperty());
+		Label label = new Label();
+		label.textProperty().bind(preloader.messageProperty());
+		VBox root = new VBox(10, label, progressBar);
+		root.setAlignment(Pos.CENTER);
+		return new Scene(root, 1300, 750);
+	}
+
 	/**
 	 * Removes the listener from the current level and stops the level.
 	 * Clears the scene and sets the current level to null.
@@ -137,28 +193,26 @@ public class Controller implements LevelListener {
 	}
 
 	/**
-	 * Restarts the current level by reloading it.
+	 * Restarts the current level in place, reusing its scene and managers instead of building it again.
 	 */
 	@Override
 	public void restartLevel() {
 		if (currentLevel != null) {
-			String currentLevelClassName = currentLevel.getClass().getName();
-			goToLevel(currentLevelClassName);
+			currentLevel.resetLevel();
+			currentLevel.startGame();
 		}
 	}
 
 	/**
-	 * Loads the main menu FXML file and sets the scene to the stage.
+	 * Shows the main menu, reusing the menu parsed the first time it was shown.
 	 *
 	 * @throws Exception If there is an issue loading the FXML file.
 	 */
 	private void loadMainMenu() throws Exception {
-		FXMLLoader loader = new FXMLLoader(getClass().getResource("/MenuScreen.fxml"));
-		Parent root = loader.load();
-		MenuController menuController = loader.getController();
+		MenuController menuController = SceneCache.getController(SceneCache.MENU_SCREEN);
 		menuController.setStage(stage);
-		Scene scene = new Scene(root, 1300, 750);
-		stage.setScene(scene);
+		menuController.setSoundManager(soundManager);
+		stage.setScene(SceneCache.getScene(SceneCache.MENU_SCREEN, 1300, 750));
 	}
 
 	/**
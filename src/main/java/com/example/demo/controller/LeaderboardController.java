@@ -1,26 +1,31 @@
 package com.example.demo.controller;
 
+import com.example.demo.managers.LeaderboardIndex;
 import com.example.demo.managers.LeaderboardManager;
+import com.example.demo.managers.LeaderboardPeriod;
+import com.example.demo.managers.SceneCache;
+import com.example.demo.managers.ScoreEntry;
 import com.example.demo.managers.SoundManager;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ListView;
 import javafx.stage.Stage;
 
-import java.io.IOException;
-import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Controller for managing the leaderboard screen.
  * Handles displaying top scores and navigation back to the main menu.
+ * While the screen is shown, new scores are patched into the rows they rank at instead of reloading the list.
  */
 public class LeaderboardController {
 
+    //Number of scores shown on the leaderboard.
+    private static final int DISPLAYED_SCORES = 5;
+
     //Button for navigating back to the main menu.
     public Button backButton;
 
@@ -31,6 +36,26 @@ public class LeaderboardController {
     //Reference to the sound manager for managing audio effects and music.
     private SoundManager soundManager;
 
+    //Scores currently shown, best first.
+    private final List<Integer> shownScores = new ArrayList<>();
+
+    //Patches the list when the all-time endless leaderboard changes.
+    private final LeaderboardIndex.Listener boardListener = new LeaderboardIndex.Listener() {
+        @Override
+        public void onInsert(String mode, LeaderboardPeriod period, int rank, ScoreEntry entry, boolean evicted) {
+            if (isShownBoard(mode, period)) {
+                runOnFxThread(() -> insertScore(rank, entry.getScore()));
+            }
+        }
+
+        @Override
+        public void onReset(String mode, LeaderboardPeriod period) {
+            if (isShownBoard(mode, period)) {
+                runOnFxThread(LeaderboardController.this::loadTopScores);
+            }
+        }
+    };
+
     /**
      * Sets the SoundManager instance for managing game audio.
      *
@@ -41,11 +66,22 @@ public class LeaderboardController {
     }
 
     /**
-     * Initializes the leaderboard screen by loading the top scores into the ListView.
+     * Initializes the leaderboard screen by loading the top scores into the ListView,
+     * and starts listening for new scores.
      * This method is automatically invoked by JavaFX when the FXML file is loaded.
      */
     @FXML
     public void initialize() {
+        refresh();
+    }
+
+    /**
+     * Reloads the top scores and starts listening for new scores. The screen is parsed once and reused,
+     * so this is called every time it is shown again.
+     */
+    public void refresh() {
+        LeaderboardManager.removeListener(boardListener); //Never listen twice.
+        LeaderboardManager.addListener(boardListener); //Before loading, so no change made meanwhile is missed.
         loadTopScores();
     }
 
@@ -55,10 +91,11 @@ public class LeaderboardController {
      */
     private void loadTopScores() {
         //Retrieve the top 5 scores from the leaderboard.
-        List<Integer> topScores = LeaderboardManager.getTopScores(5);
+        List<Integer> topScores = LeaderboardManager.getTopScores(DISPLAYED_SCORES);
 
         //Clear the ListView before adding new items.
         leaderboardListView.getItems().clear();
+        shownScores.clear();
 
         //Display a placeholder if no scores are available.
         if (topScores.isEmpty()) {
@@ -69,39 +106,91 @@ public class LeaderboardController {
         //Add the scores to the ListView with ranking.
         int rank = 1;
         for (int score : topScores) {
-            leaderboardListView.getItems().add("Rank " + rank + ": " + score);
+            leaderboardListView.getItems().add(formatRow(rank, score));
+            shownScores.add(score);
             rank++;
         }
     }
 
+    /**
+     * Inserts a new score at its rank. Only the rows at and below the rank change;
+     * they move down one and are relabeled, and the row pushed past the last shown rank is removed.
+     *
+     * @param rank  The row the score ranks at, starting from 0.
+     * @param score The score.
+     */
+    protected void insertScore(int rank, int score) {
+        if (rank >= DISPLAYED_SCORES || rank > shownScores.size()) {
+            return;
+        }
+        List<String> items = leaderboardListView.getItems();
+        if (shownScores.isEmpty()) {
+            items.clear(); //Remove the placeholder.
+        }
+        shownScores.add(rank, score);
+        items.add(rank, formatRow(rank + 1, score));
+        if (shownScores.size() > DISPLAYED_SCORES) {
+            shownScores.remove(DISPLAYED_SCORES);
+            items.remove(DISPLAYED_SCORES);
+        }
+        for (int i = rank + 1; i < shownScores.size(); i++) {
+            items.set(i, formatRow(i + 1, shownScores.get(i)));
+        }
+    }
+
+    /**
+     * Formats one row of the leaderboard.
+     *
+     * @param rank  The rank, starting from 1.
+     * @param score The score.
+     * @return The row's text.
+     */
+    private static String formatRow(int rank, int score) {
+        return "Rank " + rank + ": " + score;
+    }
+
+    /**
+     * Checks whether a leaderboard is the one this screen shows.
+     *
+     * @param mode   The game mode of the leaderboard.
+     * @param period The period of the leaderboard.
+     * @return True for the all-time endless leaderboard, false otherwise.
+     */
+    private static boolean isShownBoard(String mode, LeaderboardPeriod period) {
+        return LeaderboardManager.ENDLESS_MODE.equals(mode) && period == LeaderboardPeriod.ALL_TIME;
+    }
+
+    /**
+     * Runs an update of the list on the JavaFX thread.
+     *
+     * @param update The update to run.
+     */
+    private static void runOnFxThread(Runnable update) {
+        if (Platform.isFxApplicationThread()) {
+            update.run();
+        } else {
+            Platform.runLater(update);
+        }
+    }
+
     /**
      * Handles the back button action to navigate back to the main menu.
-     * Loads the main menu FXML file and switches the scene.
+     * Shows the cached main menu and stops listening for new scores while the screen is hidden.
      */
     @FXML
     protected void backToMenu() {
+        LeaderboardManager.removeListener(boardListener);
         try {
-            //Load the main menu FXML file.
-            URL menuFxml = getClass().getResource("/MenuScreen.fxml");
-            if (menuFxml == null) {
-                System.err.println("Could not find MenuScreen.fxml");
-                return;
-            }
-
-            FXMLLoader loader = new FXMLLoader(menuFxml);
-            Parent root = loader.load();
-
             //Get the MenuController instance and configure it.
-            MenuController menuController = loader.getController();
+            MenuController menuController = SceneCache.getController(SceneCache.MENU_SCREEN);
             Stage currentStage = (Stage) leaderboardListView.getScene().getWindow();
             menuController.setStage(currentStage);
             menuController.setSoundManager(soundManager);
 
             //Switch the scene to the main menu.
-            Scene scene = new Scene(root, 1300, 750);
-            currentStage.setScene(scene);
+            currentStage.setScene(SceneCache.getScene(SceneCache.MENU_SCREEN, 1300, 750));
             currentStage.show();
-        } catch (IOException e) {
+        } catch (RuntimeException e) {
             //Show an alert if there is an error navigating back to the main menu.
             Alert alert = new Alert(Alert.AlertType.ERROR);
             alert.setTitle("Error");
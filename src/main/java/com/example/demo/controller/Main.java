@@ -1,10 +1,10 @@
 package com.example.demo.controller;
 
+import com.example.demo.managers.AssetManifest;
+import com.example.demo.managers.AssetPreloader;
+import com.example.demo.managers.SceneCache;
 import com.example.demo.managers.SoundManager;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.util.logging.*;
@@ -33,21 +33,22 @@ public class Main extends Application {
 		SoundManager soundManager = new SoundManager();
 
 		try {
-			//Load the main menu FXML file.
-			FXMLLoader loader = new FXMLLoader(getClass().getClassLoader().getResource("MenuScreen.fxml"));
-			Parent root = loader.load();
-
-			//Get the controller for the menu and pass the stage and sound manager.
-			MenuController menuController = loader.getController();
+			//Load the main menu FXML file and get its controller to pass the stage and sound manager.
+			MenuController menuController = SceneCache.getController(SceneCache.MENU_SCREEN);
 			menuController.setStage(stage);
 			menuController.setSoundManager(soundManager);
 
-			//Create a scene with the specified dimensions and set it on the stage.
-			Scene scene = new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT);
-			stage.setScene(scene);
+			//Show the menu's scene with the specified dimensions.
+			stage.setScene(SceneCache.getScene(SceneCache.MENU_SCREEN, SCREEN_WIDTH, SCREEN_HEIGHT));
 			stage.setTitle(TITLE);
 			stage.setResizable(false); // Prevent resizing for consistent UI layout.
 			stage.show();
+
+			//Parse the other screens in the background while the menu is shown.
+			new AssetPreloader(new AssetManifest()
+					.fxml(SceneCache.LEADERBOARD)
+					.fxml(SceneCache.SOUND_SETTINGS)
+					.fxml(SceneCache.PAUSE_MENU), null).start();
 		} catch (Exception e) {
 			//Print an error message if the FXML file fails to load.
 			System.err.println("Error loading FXML file: " + e.getMessage());
@@ -1,11 +1,9 @@
 package com.example.demo.controller;
 
+import com.example.demo.managers.SceneCache;
 import com.example.demo.managers.SoundManager;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.stage.Stage;
@@ -51,6 +49,9 @@ public class MenuController {
     private Stage stage;
     private SoundManager soundManager;
 
+    //Window showing the sound settings, kept so it is reused instead of opened again.
+    private Stage settingsStage;
+
     /**
      * Sets the primary stage for this controller.
      *
@@ -107,13 +108,10 @@ public class MenuController {
     protected void showLeaderboard() {
         LOGGER.info("Leaderboard button clicked");
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/leaderboard.fxml"));
-            Parent root = loader.load();
-
-            LeaderboardController controller = loader.getController();
+            LeaderboardController controller = SceneCache.getController(SceneCache.LEADERBOARD);
             controller.setSoundManager(soundManager); //Pass the sound manager if required.
-            Scene scene = new Scene(root, 1300, 750);
-            stage.setScene(scene);
+            controller.refresh(); //The screen is reused, so bring its scores up to date.
+            stage.setScene(SceneCache.getScene(SceneCache.LEADERBOARD, 1300, 750));
             stage.show();
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error loading Leaderboard.fxml", e);
@@ -123,23 +121,23 @@ public class MenuController {
 
     /**
      * Handles the "Sound Settings" button click.
-     * Opens the sound settings screen in a new stage.
+     * Opens the sound settings screen in its own stage, created on the first click and shown again afterwards.
      */
     @FXML
     protected void openSoundSettings() {
         LOGGER.info("Sound Settings button clicked");
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/SoundSettings.fxml"));
-            Parent root = loader.load();
-
-            SoundSettingsController controller = loader.getController();
+            SoundSettingsController controller = SceneCache.getController(SceneCache.SOUND_SETTINGS);
             controller.setSoundManager(soundManager);
 
-            Stage settingsStage = new Stage();
-            settingsStage.setTitle("Sound Settings");
-            settingsStage.setScene(new Scene(root));
-            settingsStage.initOwner(stage); // Set the main stage as the owner for the settings stage.
+            if (settingsStage == null) {
+                settingsStage = new Stage();
+                settingsStage.setTitle("Sound Settings");
+                settingsStage.setScene(SceneCache.getScene(SceneCache.SOUND_SETTINGS));
+                settingsStage.initOwner(stage); // Set the main stage as the owner for the settings stage.
+            }
             settingsStage.show();
+            settingsStage.toFront();
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error loading SoundSettings.fxml", e);
             //Optionally, show an alert to the user.
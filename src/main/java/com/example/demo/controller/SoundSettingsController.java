@@ -27,6 +27,9 @@ public class SoundSettingsController {
     //Reference to the SoundManager for controlling audio settings.
     private SoundManager soundManager;
 
+    //Whether the slider listeners are attached; they read the current sound manager, so they are added once.
+    private boolean listenersAdded;
+
     /**
      * Initializes the controller. Called automatically by JavaFX when the FXML file is loaded.
      * Used for initial setup of components if necessary.
@@ -37,14 +40,18 @@ public class SoundSettingsController {
 
     /**
      * Sets the SoundManager instance for managing audio.
-     * Initializes the sliders and adds listeners to handle user interactions.
+     * Initializes the sliders and, the first time, adds listeners to handle user interactions.
+     * The screen is reused each time it is opened, so this may be called more than once.
      *
      * @param soundManager The SoundManager instance.
      */
     public void setSoundManager(SoundManager soundManager) {
         this.soundManager = soundManager;
         initializeSliders(); // Set initial slider values based on the current sound manager settings.
-        addSliderListeners(); // Add listeners to sliders to handle volume adjustments.
+        if (!listenersAdded) {
+            addSliderListeners(); // Add listeners to sliders to handle volume adjustments.
+            listenersAdded = true;
+        }
     }
 
     /**
@@ -18,7 +18,10 @@ import javafx.util.Duration;
 public class BossLevel extends LevelParent {
 
 	//Path to the background image for the level.
-	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background.jpg";
+	static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background.jpg";
+
+	//Path to the Boss-specific background music.
+	static final String BOSS_MUSIC = "/sounds/boss.background.mp3";
 
 	//Initial health for the player.
 	private static final int PLAYER_INITIAL_HEALTH = 5;
@@ -32,6 +35,9 @@ public class BossLevel extends LevelParent {
 	//Tracks whether the shield is blinking during activation.
 	private boolean isBlinking;
 
+	//Animation blinking the shield, while it runs.
+	private Timeline blinkTimeline;
+
 	/**
 	 * Constructor to initialize the BossLevel.
 	 *
@@ -68,13 +74,13 @@ public class BossLevel extends LevelParent {
 
 	/**
 	 * Starts the Boss level gameplay.
-	 * Focuses the background, plays the timeline, and starts Boss-specific music.
+	 * Focuses the background, starts the game loop, and starts Boss-specific music.
 	 */
 	@Override
 	public void startGame() {
 		background.requestFocus(); //Focus on the background for keyboard events.
-		timeline.play(); //Start the game timeline.
-		soundManager.playBackgroundMusic("/sounds/boss.background.mp3"); //Play Boss-specific music.
+		playLoop(); //Start the game loop.
+		soundManager.playBackgroundMusic(BOSS_MUSIC); //Play Boss-specific music.
 	}
 
 	/**
@@ -91,6 +97,19 @@ public class BossLevel extends LevelParent {
 		}
 	}
 
+	/**
+	 * Stops the shield animation and hides the shield when the level is reset.
+	 */
+	@Override
+	protected void resetLevelState() {
+		if (blinkTimeline != null) {
+			blinkTimeline.stop();
+			blinkTimeline = null;
+		}
+		isBlinking = false;
+		shieldImage.hideShield();
+	}
+
 	/**
 	 * Spawns enemy units in the level. Ensures only the Boss is added as the enemy.
 	 */
@@ -144,10 +163,14 @@ public class BossLevel extends LevelParent {
 	 * Starts a blinking animation for the shield to indicate activation.
 	 */
 	private void startShieldBlinkAnimation() {
+		if (isHeadless()) {
+			shieldImage.showShield(); //No animations without a display.
+			return;
+		}
 		isBlinking = true;
 
 		//Create a timeline for the blinking animation.
-		Timeline blinkTimeline = new Timeline(
+		blinkTimeline = new Timeline(
 				new KeyFrame(Duration.millis(300), e -> {
 					if (shieldImage.isVisible()) {
 						shieldImage.setVisible(false); //Hide the shield on every other frame.
@@ -162,6 +185,7 @@ public class BossLevel extends LevelParent {
 			shieldImage.setVisible(true); //Ensure the shield is visible after blinking.
 			shieldImage.setOpacity(1.0); //Set to fully opaque after blinking.
 			isBlinking = false; //Reset the blinking state.
+			blinkTimeline = null;
 		});
 		blinkTimeline.play(); //Start the animation.
 	}
@@ -5,6 +5,7 @@ import com.example.demo.actor.EnemyPlane;
 import com.example.demo.levelview.EndlessLevelView;
 import com.example.demo.levelview.LevelView;
 import com.example.demo.managers.LeaderboardManager;
+import com.example.demo.managers.ScoreEntry;
 import com.example.demo.managers.SoundManager;
 import javafx.stage.Stage;
 import java.util.logging.Logger;
@@ -19,7 +20,7 @@ public class EndlessMode extends LevelParent {
     private static final Logger logger = Logger.getLogger(EndlessMode.class.getName());
 
     // Configuration constants for the Endless Mode.
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background.jpg";
+    static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background.jpg";
     private static final int INITIAL_ENEMIES = 5;
     private static final int MAXIMUM_ENEMIES = 10;
     private static final double INITIAL_SPAWN_RATE = 0.3;
@@ -62,7 +63,9 @@ public class EndlessMode extends LevelParent {
     @Override
     protected void checkIfGameOver() {
         if (userIsDestroyed()) {
-            saveScore(getUserKillCount());
+            if (!isHeadless()) { // Simulated runs must not touch the real leaderboard.
+                saveScore(getUserKillCount());
+            }
             loseGame();
             logger.info("Game over detected. Score saved.");
         }
@@ -89,8 +92,8 @@ public class EndlessMode extends LevelParent {
 
         // Spawn new enemies up to the limit.
         for (int i = 0; i < maxEnemies - currentEnemies; i++) {
-            if (Math.random() < spawnRate) {
-                double yPos = ENEMY_Y_UPPER_BOUND + Math.random() * getEnemyMaximumYPosition();
+            if (getSpawnRandom().nextDouble() < spawnRate) {
+                double yPos = ENEMY_Y_UPPER_BOUND + getSpawnRandom().nextDouble() * getEnemyMaximumYPosition();
                 double xPos = getScreenWidth();
                 ActiveActorDestructible enemy = createEnemyPlaneOne(xPos, yPos);
                 addEnemyUnit(enemy);
@@ -130,54 +133,42 @@ public class EndlessMode extends LevelParent {
     }
 
     /**
-     * Saves the player's score to the leaderboard.
+     * Saves the player's score to the leaderboard, along with the wave reached and the game time played.
      *
      * @param score The player's final score.
      */
     private void saveScore(int score) {
-        LeaderboardManager.addScore(score);
+        LeaderboardManager.addScore(new ScoreEntry(System.currentTimeMillis(), LeaderboardManager.ENDLESS_MODE,
+                score, currentWave, getElapsedMillis()));
     }
 
     /**
-     * Cleans up the game state before restarting.
-     * Resets variables, clears entities, and resets the player's plane and UI elements.
+     * Returns the waves to the first one when the level is reset.
      */
-    private void cleanupGameState() {
-        stopGame(); // Stop all animations and timelines.
-
-        // Reset game variables to their initial states.
+    @Override
+    protected void resetLevelState() {
         totalEnemies = INITIAL_ENEMIES;
         spawnRate = INITIAL_SPAWN_RATE;
         currentWave = 1;
+    }
 
-        // Reset the player's plane.
-        getUser().reset();
-
-        // Clear all enemies and projectiles.
-        entityManager.clearEnemies();
-        entityManager.clearAllProjectiles();
-
-        // Reset UI elements for EndlessLevelView.
-        if (levelView instanceof EndlessLevelView) {
-            ((EndlessLevelView) levelView).updateKillCount(0);
-            ((EndlessLevelView) levelView).resetKillCountDisplay();
-        }
+    /**
+     * Retrieves the wave currently being played.
+     *
+     * @return The wave, starting from 1.
+     */
+    public int getCurrentWave() {
+        return currentWave;
     }
 
     /**
-     * Restarts the Endless Mode by cleaning up the current state and creating a new instance.
+     * Restarts the Endless Mode in place: the level is reset, keeping its scene, and played again.
      */
     @Override
     public void restartLevel() {
         logger.info("Restarting the Endless Mode...");
-
-        cleanupGameState(); // Clean up the current state.
-
-        // Create and start a new Endless Mode instance.
-        EndlessMode newGame = new EndlessMode(soundManager, stage);
-        stage.setScene(newGame.initializeScene());
-        newGame.startGame();
-
-        logger.info("New EndlessMode instance started after cleanup.");
+        resetLevel();
+        startGame();
+        logger.info("EndlessMode restarted.");
     }
 }
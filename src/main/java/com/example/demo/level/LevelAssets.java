@@ -0,0 +1,76 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.Boss;
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.actor.UserPlane;
+import com.example.demo.managers.AssetManifest;
+import com.example.demo.managers.SceneCache;
+import com.example.demo.projectiles.BossProjectile;
+import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.ui.GameOverImage;
+import com.example.demo.ui.HeartDisplay;
+import com.example.demo.ui.ShieldImage;
+import com.example.demo.ui.WinImage;
+
+/**
+ * Builds the asset manifest of each level, listing every image, layout and music track
+ * the level uses so they can be loaded before it starts.
+ */
+public final class LevelAssets {
+
+    /**
+     * Private constructor, as the manifests are only built through the static factory.
+     */
+    private LevelAssets() {
+    }
+
+    /**
+     * Builds the manifest for a level.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @return The level's asset manifest, or a manifest of the shared assets for an unknown level.
+     */
+    public static AssetManifest manifestFor(String levelClassName) {
+        AssetManifest manifest = commonAssets();
+        if (LevelOne.class.getName().equals(levelClassName)) {
+            manifest.image(LevelOne.BACKGROUND_IMAGE_NAME)
+                    .image(ActiveActor.IMAGE_LOCATION + EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT)
+                    .music(LevelParent.BACKGROUND_MUSIC)
+                    .nextLevel(LevelOne.NEXT_LEVEL);
+        } else if (LevelTwo.class.getName().equals(levelClassName)) {
+            manifest.image(LevelTwo.BACKGROUND_IMAGE_NAME)
+                    .image(ActiveActor.IMAGE_LOCATION + EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT)
+                    .music(LevelParent.BACKGROUND_MUSIC)
+                    .nextLevel(LevelTwo.NEXT_LEVEL);
+        } else if (BossLevel.class.getName().equals(levelClassName)) {
+            manifest.image(BossLevel.BACKGROUND_IMAGE_NAME)
+                    .image(ActiveActor.IMAGE_LOCATION + Boss.IMAGE_NAME, Boss.IMAGE_HEIGHT)
+                    .music(BossLevel.BOSS_MUSIC);
+        } else if (EndlessMode.class.getName().equals(levelClassName)) {
+            manifest.image(EndlessMode.BACKGROUND_IMAGE_NAME)
+                    .image(ActiveActor.IMAGE_LOCATION + EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT)
+                    .music(LevelParent.BACKGROUND_MUSIC);
+        }
+        return manifest;
+    }
+
+    /**
+     * Builds a manifest of the assets every level uses: the player, all projectiles and the shared UI.
+     *
+     * @return A manifest of the shared assets.
+     */
+    private static AssetManifest commonAssets() {
+        return new AssetManifest()
+                .image(ActiveActor.IMAGE_LOCATION + UserPlane.DEFAULT_IMAGE_NAME, UserPlane.IMAGE_HEIGHT)
+                .image(ActiveActor.IMAGE_LOCATION + UserProjectile.IMAGE_NAME, UserProjectile.IMAGE_HEIGHT)
+                .image(ActiveActor.IMAGE_LOCATION + EnemyProjectile.IMAGE_NAME, EnemyProjectile.IMAGE_HEIGHT)
+                .image(ActiveActor.IMAGE_LOCATION + BossProjectile.IMAGE_NAME, BossProjectile.IMAGE_HEIGHT)
+                .image(HeartDisplay.HEART_IMAGE_NAME, HeartDisplay.HEART_HEIGHT)
+                .image(ShieldImage.IMAGE_NAME)
+                .image(GameOverImage.IMAGE_NAME)
+                .image(WinImage.IMAGE_NAME)
+                .fxml(SceneCache.PAUSE_MENU);
+    }
+}
@@ -13,8 +13,8 @@ import javafx.stage.Stage;
 public class LevelOne extends LevelParent {
 
 	//Constants for the level configuration.
-	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background.jpg";
-	private static final String NEXT_LEVEL = "com.example.demo.level.LevelTwo";
+	static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background.jpg";
+	static final String NEXT_LEVEL = "com.example.demo.level.LevelTwo";
 	private static final int TOTAL_ENEMIES = 5; //Maximum number of enemies on screen.
 	private static final double ENEMY_SPAWN_PROBABILITY = 0.20; //Probability of spawning an enemy.
 	private static final int PLAYER_INITIAL_HEALTH = 5; //Player's initial health.
@@ -82,6 +82,15 @@ public class LevelOne extends LevelParent {
 		return scene;
 	}
 
+	/**
+	 * Clears the kill count when the level is reset.
+	 */
+	@Override
+	protected void resetLevelState() {
+		currentKills = 0;
+		getLevelView().updateKillCountDisplay(currentKills, TOTAL_KILLS_TO_WIN);
+	}
+
 	/**
 	 * Spawns enemy units in the level.
 	 * Ensures the number of enemies on screen does not exceed the maximum allowed.
@@ -90,8 +99,8 @@ public class LevelOne extends LevelParent {
 	protected void spawnEnemyUnits() {
 		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
 		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
+			if (getSpawnRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+				double newEnemyInitialYPosition = getSpawnRandom().nextDouble() * getEnemyMaximumYPosition();
 				EnemyPlane newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, 1); //Enemy health is set to 1.
 				addEnemyUnit(newEnemy);
 			}
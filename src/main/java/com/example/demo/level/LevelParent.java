@@ -6,16 +6,21 @@ import com.example.demo.actor.FighterPlane;
 import com.example.demo.actor.UserPlane;
 import com.example.demo.levelview.EndlessLevelView;
 import com.example.demo.levelview.LevelView;
+import com.example.demo.levelview.ProfilerOverlay;
 import com.example.demo.managers.*;
+import com.example.demo.projectiles.ProjectilePools;
 import javafx.animation.Timeline;
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import com.example.demo.managers.SoundManager;
 import javafx.stage.Stage;
-import java.util.Objects;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract base class for all levels in the game.
@@ -28,6 +33,9 @@ public abstract class LevelParent {
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
 	private static final int MILLISECOND_DELAY = 50;
 
+	//Background music played by levels that do not choose their own.
+	static final String BACKGROUND_MUSIC = "/sounds/background.mp3";
+
 	//Core properties of the level.
 	protected final double screenWidth;
 	protected final double screenHeight;
@@ -36,6 +44,11 @@ public abstract class LevelParent {
 	//Game components.
 	protected final Group root;
 	protected final Timeline timeline;
+	private FixedStepGameLoop fixedStepLoop; //Drives the game instead of the timeline in fixed-step mode.
+	private final boolean headless; //Whether the level runs without a scene, input or pause menu.
+	private boolean finished; //Whether the level has been won, lost or left.
+	private long step; //Number of simulation steps run so far.
+	private int enemiesDestroyed; //Number of enemies destroyed so far, whatever the level counts as a kill.
 	protected final UserPlane user;
 	private final Scene scene;
 	protected final ImageView background;
@@ -53,6 +66,20 @@ public abstract class LevelParent {
 
 	private final PauseManager pauseManager;
 
+	//Seeded source of the level's random decisions, with one stream per subsystem.
+	private final GameRandom gameRandom;
+
+	//Recording of the player's input, and the recording fed to the level instead of the keyboard (both optional).
+	private InputRecorder inputRecorder;
+	private InputPlayback inputPlayback;
+	private Path recordingDirectory; //Directory the recording is saved to when the level ends, if any.
+	private boolean recordingSaved; //Whether this run's recording has been saved already.
+	private int userViewIndex = -1; //Position of the player in the root group when the level was built.
+
+	//Per-phase frame timings, and the overlay showing them (toggled with F3, dumped with F4).
+	private final FrameProfiler frameProfiler = new FrameProfiler();
+	private final ProfilerOverlay profilerOverlay;
+
 	protected final SoundManager soundManager;
 
 	//Logger for debugging and tracking game events.
@@ -66,11 +93,12 @@ public abstract class LevelParent {
 	 * @param screenHeight        Height of the game screen.
 	 * @param playerInitialHealth Initial health of the player's plane.
 	 * @param soundManager        Manager for handling sound effects and music.
-	 * @param stage               The primary application stage.
+	 * @param stage               The primary application stage, or null in {@link HeadlessMode}.
 	 */
 	public LevelParent(String backgroundImageName, double screenWidth, double screenHeight, int playerInitialHealth, SoundManager soundManager, Stage stage) {
+		this.headless = HeadlessMode.isEnabled();
 		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
+		this.scene = headless ? null : new Scene(root, screenWidth, screenHeight);
 		this.timeline = new Timeline();
 		this.user = new UserPlane(playerInitialHealth);
 		this.screenWidth = screenWidth;
@@ -79,27 +107,57 @@ public abstract class LevelParent {
 		this.stage = stage;
 
 		//Load background image and calculate enemy spawn bounds.
-		this.background = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(backgroundImageName)).toExternalForm()));
+		this.background = headless ? new ImageView() : new ImageView(SpriteCache.get(backgroundImageName));
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.gameRandom = GameRandom.fromSystemProperty();
+		logger.info(getClass().getSimpleName() + " seeded with " + gameRandom.getSeed());
 
 		//Initialize level view and optional boss.
 		this.levelView = instantiateLevelView();
-		this.boss = new Boss();
+		this.boss = new Boss(gameRandom.stream(GameRandom.Stream.BOSS));
 
 		//Initialize managers.
-		this.pauseManager = new PauseManager(scene, root, stage, soundManager, this::onPause, this::onResume, this::restartLevel);
+		this.pauseManager = headless ? null : new PauseManager(scene, root, stage, soundManager, this::onPause, this::onResume, this::restartLevel);
 		this.collisionManager = new CollisionManager();
-		this.entityManager = new EntityManager(root);
+		this.entityManager = new EntityManager(root, ProjectilePools.DEFAULT_CAPACITY,
+				EntityManager.RenderMode.fromSystemProperty(), screenWidth, screenHeight);
 		this.navigationManager = new NavigationManager();
 		this.gameInitializer = new GameInitializer(root, background, user, timeline, MILLISECOND_DELAY);
-		this.inputManager = new InputManager(user, scene, pauseManager, this::fireProjectile);
+		this.inputManager = headless ? null : new InputManager(scene, pauseManager, this::handleInput);
+		this.profilerOverlay = headless ? null : new ProfilerOverlay(root, frameProfiler, MILLISECOND_DELAY);
 
 		initializeGame();//Set up the game.
+		initializeInputLogging();
 	}
 	protected void initializeFriendlyUnits() {
 		gameInitializer.initializeFriendlyUnits();
 	}
 
+	/**
+	 * Starts recording or replaying input as requested by the `demo.record` (a directory recordings are
+	 * saved to) and `demo.replay` (a recording file) system properties. A recording is only replayed in
+	 * the level it was made in.
+	 */
+	private void initializeInputLogging() {
+		String replayFile = System.getProperty("demo.replay");
+		if (replayFile != null) {
+			try {
+				InputLog log = InputLog.load(Path.of(replayFile));
+				if (log.getLevelClassName().equals(getClass().getName())) {
+					replay(log);
+					return;
+				}
+			} catch (IOException e) {
+				logger.log(Level.WARNING, "Failed to load input recording " + replayFile, e);
+			}
+		}
+		String recordDirectory = System.getProperty("demo.record");
+		if (recordDirectory != null) {
+			recordingDirectory = Path.of(recordDirectory);
+			startRecording();
+		}
+	}
+
 	/**
 	 * Initializes the game by setting up background, units, input handling, and the game timeline.
 	 */
@@ -107,10 +165,19 @@ public abstract class LevelParent {
 		gameInitializer.initializeBackground();
 		initializeFriendlyUnits();
 		levelView.showHeartDisplay();
-		gameInitializer.initializeTimeline(this::updateScene);
+		entityManager.addFriendlyUnit(user);
+		userViewIndex = root.getChildren().indexOf(user);
+		if (headless) {
+			return; //Headless levels are stepped directly, without a loop or input.
+		}
+		if (getLoopMode() == GameInitializer.LoopMode.FIXED_STEP) {
+			fixedStepLoop = gameInitializer.createFixedStepLoop(this::simulateStep, this::renderFrame);
+		} else {
+			gameInitializer.initializeTimeline(this::updateScene);
+		}
 		inputManager.initializeInputHandling();
 		pauseManager.initializePauseHandler();
-		entityManager.addFriendlyUnit(user);
+		profilerOverlay.attach(scene);
 	}
 
 	public void addLevelListener(LevelListener listener) {
@@ -129,6 +196,128 @@ public abstract class LevelParent {
 		return levelView;
 	}
 
+	/**
+	 * Chooses how this level's game loop is driven. Levels may override this to pick a mode;
+	 * by default it is read from the `demo.loopMode` system property.
+	 * Called from the constructor, so overrides must not depend on subclass fields.
+	 *
+	 * @return The loop mode of the level.
+	 */
+	protected GameInitializer.LoopMode getLoopMode() {
+		return GameInitializer.LoopMode.fromSystemProperty();
+	}
+
+	/**
+	 * Starts or resumes the game loop.
+	 */
+	protected void playLoop() {
+		if (headless) {
+			return;
+		}
+		if (fixedStepLoop != null) {
+			fixedStepLoop.start();
+		} else {
+			timeline.play();
+		}
+	}
+
+	/**
+	 * Pauses the game loop.
+	 */
+	private void pauseLoop() {
+		if (fixedStepLoop != null) {
+			fixedStepLoop.stop();
+		} else {
+			timeline.pause();
+		}
+	}
+
+	/**
+	 * Stops the game loop.
+	 */
+	private void stopLoop() {
+		if (fixedStepLoop != null) {
+			fixedStepLoop.stop();
+		} else if (timeline != null) {
+			timeline.stop();
+		}
+	}
+
+	/**
+	 * Advances a headless level by a number of steps, as fast as possible, stopping early once the level
+	 * is won, lost or left. Each step is exactly what one frame of the game loop would simulate.
+	 *
+	 * @param steps The maximum number of steps to run.
+	 * @return The number of steps actually run.
+	 * @throws IllegalStateException If the level is not headless.
+	 */
+	public int simulate(int steps) {
+		if (!headless) {
+			throw new IllegalStateException("Only headless levels can be stepped directly");
+		}
+		int run = 0;
+		while (run < steps && !finished) {
+			simulateStep();
+			run++;
+		}
+		return run;
+	}
+
+	/**
+	 * Checks whether the level runs without a display.
+	 *
+	 * @return True if the level is headless, false otherwise.
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	/**
+	 * Retrieves the number of simulation steps run so far.
+	 *
+	 * @return The step count.
+	 */
+	public long getStepCount() {
+		return step;
+	}
+
+	/**
+	 * Retrieves the game time played so far, counted in simulation steps rather than wall-clock time,
+	 * so pauses are not included.
+	 *
+	 * @return The elapsed game time in milliseconds.
+	 */
+	public long getElapsedMillis() {
+		return step * MILLISECOND_DELAY;
+	}
+
+	/**
+	 * Retrieves the number of enemies destroyed so far.
+	 *
+	 * @return The number of enemies destroyed in this level.
+	 */
+	public int getEnemiesDestroyed() {
+		return enemiesDestroyed;
+	}
+
+	/**
+	 * Retrieves the player's current health.
+	 *
+	 * @return The health of the player's plane.
+	 */
+	public int getUserHealth() {
+		return user.getHealth();
+	}
+
+	/**
+	 * Checks whether the level has ended, by a win, a loss or moving to the next level.
+	 *
+	 * @return True if the level has ended, false otherwise.
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
 	/**
 	 * Abstract method for checking if the game is over.
 	 * Subclasses must implement this to handle win/lose conditions.
@@ -162,36 +351,148 @@ public abstract class LevelParent {
 	 */
 	public void startGame() {
 		background.requestFocus();
-		timeline.play();
-		soundManager.playBackgroundMusic("/sounds/background.mp3");
+		playLoop();
+		soundManager.playBackgroundMusic(BACKGROUND_MUSIC);
 		logger.info("Game started.");
 	}
 
 	public void goToNextLevel(String levelName) {
+		finish();
 		notifyLevelChange(levelName);
 	}
 
 	//Gameplay logic methods.
 
 	/**
-	 * Updates the game scene, including spawning enemies, handling collisions, and checking game status.
+	 * Runs one timeline frame: a single simulation step followed by rendering it.
 	 */
 	private void updateScene() {
+		simulateStep();
+		renderFrame(1);
+	}
+
+	/**
+	 * Draws a frame and plays the sound effects requested since the previous one.
+	 *
+	 * @param alpha How far the frame lies between the last two simulation steps (0 to 1).
+	 */
+	private void renderFrame(double alpha) {
+		entityManager.render(alpha);
+		soundManager.flushSoundEffects();
+	}
+
+	/**
+	 * Advances the game by one step, including spawning enemies, handling collisions, and checking game status.
+	 */
+	private void simulateStep() {
+		if (inputPlayback != null) {
+			inputPlayback.applyDue(step, this::applyInput);
+		}
+		step++;
+		frameProfiler.beginFrame();
 		spawnEnemyUnits();
+		frameProfiler.mark(FrameProfiler.Phase.SPAWN);
 		entityManager.updateEntities();
+		frameProfiler.mark(FrameProfiler.Phase.UPDATE);
+		entityManager.destroyOffscreenProjectiles(screenWidth);
+		frameProfiler.mark(FrameProfiler.Phase.CULL);
 		generateEnemyFire();
+		frameProfiler.mark(FrameProfiler.Phase.ENEMY_FIRE);
 		collisionManager.handleEnemyPenetration(entityManager.getEnemyUnits(), user, root, screenWidth);
+		frameProfiler.mark(FrameProfiler.Phase.PENETRATION);
 		collisionManager.handleUserProjectileCollisions(entityManager.getUserProjectiles(), entityManager.getEnemyUnits());
+		frameProfiler.mark(FrameProfiler.Phase.USER_PROJECTILE_COLLISIONS);
 		collisionManager.handleEnemyProjectileCollisions(entityManager.getEnemyProjectiles(), entityManager.getFriendlyUnits());
+		frameProfiler.mark(FrameProfiler.Phase.ENEMY_PROJECTILE_COLLISIONS);
 		collisionManager.handlePlaneCollisions(entityManager.getFriendlyUnits(), entityManager.getEnemyUnits());
+		frameProfiler.mark(FrameProfiler.Phase.PLANE_COLLISIONS);
 		int enemiesDestroyed = entityManager.removeAllDestroyedActors();
+		frameProfiler.mark(FrameProfiler.Phase.CLEANUP);
 		if (enemiesDestroyed > 0) {
+			this.enemiesDestroyed += enemiesDestroyed;
 			incrementKillCount(enemiesDestroyed);
 			soundManager.playSoundEffect("explosion");
 		}
 		updateKillCount();
 		updateLevelView();
+		frameProfiler.mark(FrameProfiler.Phase.HUD);
 		checkIfGameOver();
+		frameProfiler.mark(FrameProfiler.Phase.GAME_OVER_CHECK);
+		frameProfiler.endFrame();
+		if (profilerOverlay != null) {
+			profilerOverlay.onFrame();
+		}
+	}
+
+	/**
+	 * Retrieves the profiler recording how long each phase of a frame takes.
+	 *
+	 * @return The frame profiler.
+	 */
+	public FrameProfiler getFrameProfiler() {
+		return frameProfiler;
+	}
+
+	/**
+	 * Starts recording the player's input, together with the level's seed, so the session can be replayed.
+	 *
+	 * @throws IllegalStateException If the level has already started or is replaying a recording.
+	 */
+	public void startRecording() {
+		if (step > 0 || inputPlayback != null) {
+			throw new IllegalStateException("Recording must start before the level does, and not during a replay");
+		}
+		inputRecorder = new InputRecorder(getClass().getName(), gameRandom.getSeed());
+	}
+
+	/**
+	 * Retrieves the input recorded so far, with the current step count, enemies destroyed and player health
+	 * as the outcome a replay is checked against.
+	 *
+	 * @return The recording, or null if input is not being recorded.
+	 */
+	public InputLog getRecording() {
+		return inputRecorder == null ? null : inputRecorder.toLog(step, enemiesDestroyed, user.getHealth());
+	}
+
+	/**
+	 * Feeds the level from a recording instead of the keyboard. The level is reseeded with the recording's
+	 * seed, so it plays out exactly as it did when recorded.
+	 *
+	 * @param log The recording to replay.
+	 * @throws IllegalStateException    If the level has already started.
+	 * @throws IllegalArgumentException If the recording was made in a different level.
+	 */
+	public void replay(InputLog log) {
+		if (step > 0) {
+			throw new IllegalStateException("A recording must be replayed from the start of the level");
+		}
+		if (!log.getLevelClassName().equals(getClass().getName())) {
+			throw new IllegalArgumentException("Recording was made in " + log.getLevelClassName());
+		}
+		gameRandom.reseed(log.getSeed());
+		inputRecorder = null;
+		inputPlayback = new InputPlayback(log);
+		logger.info(getClass().getSimpleName() + " replaying " + log.size() + " recorded actions");
+	}
+
+	/**
+	 * Checks whether the level is fed from a recording.
+	 *
+	 * @return True if a recording is being replayed, false otherwise.
+	 */
+	public boolean isReplaying() {
+		return inputPlayback != null;
+	}
+
+	/**
+	 * Retrieves the seeded random source the level's decisions are drawn from.
+	 * Starting a level with the same `demo.seed` and the same input replays the same game.
+	 *
+	 * @return The level's random source.
+	 */
+	public GameRandom getGameRandom() {
+		return gameRandom;
 	}
 
 	/**
@@ -212,7 +513,7 @@ public abstract class LevelParent {
 	 * Pauses the game by stopping the timeline.
 	 */
 	private void onPause() {
-		timeline.pause();
+		pauseLoop();
 		logger.info("Game paused.");
 	}
 
@@ -220,7 +521,7 @@ public abstract class LevelParent {
 	 * Resumes the game by restarting the timeline and refocusing the background.
 	 */
 	private void onResume() {
-		timeline.play();
+		playLoop();
 		background.requestFocus();
 		logger.info("Game resumed.");
 	}
@@ -234,6 +535,78 @@ public abstract class LevelParent {
 		logger.info("RestartLevel called. Subclass should handle the restart.");
 	}
 
+	/**
+	 * Returns the level to the state it was constructed in, reusing its scene, timeline, managers and pools.
+	 * The loop is stopped and not restarted; call {@link #startGame()} to play again. Listeners stay registered.
+	 * The level is reseeded as a new level would be, unless it replays a recording, which is replayed again
+	 * from the start. A level that was recording starts a new recording.
+	 */
+	public void resetLevel() {
+		stopLoop();
+		InputLog replayLog = inputPlayback == null ? null : inputPlayback.getLog();
+		boolean recording = inputRecorder != null;
+		finished = false;
+		step = 0;
+		enemiesDestroyed = 0;
+		inputPlayback = null;
+		inputRecorder = null;
+		recordingSaved = false;
+
+		//Remove every actor, returning projectiles to their pools, then bring the player back.
+		entityManager.clearEnemies();
+		entityManager.clearAllProjectiles();
+		entityManager.clearFriendlyUnits();
+		user.reset();
+		entityManager.addFriendlyUnit(user);
+		if (userViewIndex >= 0 && root.getChildren().remove(user)) { //Below the HUD again, as in a new level.
+			root.getChildren().add(Math.min(userViewIndex, root.getChildren().size()), user);
+		}
+		boss.reset();
+		levelView.reset();
+		resetLevelState();
+
+		if (replayLog != null) {
+			replay(replayLog);
+		} else {
+			gameRandom.reseed(GameRandom.fromSystemProperty().getSeed());
+			if (recording) {
+				startRecording();
+			}
+		}
+		logger.info(getClass().getSimpleName() + " reset, seeded with " + gameRandom.getSeed());
+	}
+
+	/**
+	 * Returns the level's own state to its initial values when the level is reset. Called after the actors
+	 * and the level view are reset. Levels that keep state of their own override this.
+	 */
+	protected void resetLevelState() {
+	}
+
+	/**
+	 * Handles an action from the keyboard. It is ignored while replaying, and recorded if recording.
+	 *
+	 * @param action The action mapped from a key.
+	 */
+	private void handleInput(InputAction action) {
+		if (inputPlayback != null) {
+			return;
+		}
+		applyInput(action);
+		if (inputRecorder != null) {
+			inputRecorder.record(step, action);
+		}
+	}
+
+	/**
+	 * Performs an input action on the player's plane.
+	 *
+	 * @param action The action to perform.
+	 */
+	private void applyInput(InputAction action) {
+		action.apply(user, this::fireProjectile);
+	}
+
 	protected void fireProjectile() {
 		ActiveActorDestructible projectile = user.fireProjectile();
 		entityManager.addUserProjectile(projectile);
@@ -242,8 +615,9 @@ public abstract class LevelParent {
 
 	/**
 	 * Spawns projectiles fired by enemy units.
+	 * Package-private so the benchmarks can measure it on its own.
 	 */
-	private void generateEnemyFire() {
+	void generateEnemyFire() {
 		for (ActiveActorDestructible enemy : entityManager.getEnemyUnits()) {
 			ActiveActorDestructible projectile = ((FighterPlane) enemy).fireProjectile();
 			if (projectile != null) {
@@ -276,26 +650,50 @@ public abstract class LevelParent {
 	}
 
 	protected void winGame() {
-		timeline.stop();  //Stops the game timeline and displays the win screen.
-		levelView.showWinImage();
+		finish();
+		stopLoop();  //Stops the game loop and displays the win screen.
+		if (!headless) { //A headless level has no scene to show the win screen on.
+			levelView.showWinImage();
+		}
 		soundManager.stopBackgroundMusic();
 		soundManager.playSoundEffect("win");
+		soundManager.flushSoundEffects(); //The loop has stopped, so no later frame will flush it.
 		logger.info("Player won the game.");
 	}
 
 	protected void loseGame() {
-		timeline.stop();    //Stops the game timeline and displays the game-over screen.
-		levelView.showGameOverImage();
+		finish();
+		stopLoop();    //Stops the game loop and displays the game-over screen.
+		if (!headless) { //A headless level has no scene to show the game-over screen on.
+			levelView.showGameOverImage();
+		}
 		soundManager.stopBackgroundMusic();
 		soundManager.playSoundEffect("game_over");
+		soundManager.flushSoundEffects(); //The loop has stopped, so no later frame will flush it.
 	}
 
-	public void stopGame() {
-		if (timeline != null) {
-			timeline.stop();
+	/**
+	 * Marks the level as ended and saves its input recording if one was requested.
+	 */
+	private void finish() {
+		finished = true;
+		if (inputRecorder != null && recordingDirectory != null && !recordingSaved) {
+			Path file = recordingDirectory.resolve(getClass().getSimpleName() + "-" + System.currentTimeMillis() + ".skyr");
+			try {
+				Files.createDirectories(recordingDirectory);
+				getRecording().save(file);
+				logger.info("Input recording saved to " + file.toAbsolutePath());
+			} catch (IOException e) {
+				logger.log(Level.WARNING, "Failed to save input recording " + file, e);
+			}
+			recordingSaved = true; //Save once, even if the level ends in more than one way.
 		}
 	}
 
+	public void stopGame() {
+		stopLoop();
+	}
+
 	protected Group getRoot() {
 		return root;
 	}
@@ -306,10 +704,18 @@ public abstract class LevelParent {
 	}
 
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
-		//Adds an enemy unit to the game.
+		//Adds an enemy unit to the game; enemy planes other than the boss fire from the shared enemy stream.
+		if (enemy instanceof FighterPlane plane && enemy != boss) {
+			plane.setRandom(gameRandom.stream(GameRandom.Stream.ENEMY_FIRE));
+		}
 		entityManager.addEnemyUnit(enemy);
 	}
 
+	protected RandomGenerator getSpawnRandom() {
+		//Returns the random stream that decides whether and where enemies spawn.
+		return gameRandom.stream(GameRandom.Stream.SPAWN);
+	}
+
 	protected double getEnemyMaximumYPosition() {
 		//Returns the maximum Y-coordinate where enemies can spawn.
 		return enemyMaximumYPosition;
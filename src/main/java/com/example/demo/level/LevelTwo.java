@@ -13,8 +13,8 @@ import javafx.stage.Stage;
 public class LevelTwo extends LevelParent {
 
     // Level-specific constants.
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background.jpg";
-    private static final String NEXT_LEVEL = "com.example.demo.level.BossLevel";
+    static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background.jpg";
+    static final String NEXT_LEVEL = "com.example.demo.level.BossLevel";
     private static final int TOTAL_ENEMIES = 7; // Total number of enemies allowed on screen.
     private static final double ENEMY_SPAWN_PROBABILITY = 0.25; // Probability of spawning new enemies.
     private static final int PLAYER_INITIAL_HEALTH = 5; // Player's initial health.
@@ -82,6 +82,15 @@ public class LevelTwo extends LevelParent {
         return scene;
     }
 
+    /**
+     * Clears the kill count when the level is reset.
+     */
+    @Override
+    protected void resetLevelState() {
+        currentKills = 0;
+        getLevelView().updateKillCountDisplay(currentKills, TOTAL_KILLS_TO_WIN);
+    }
+
     /**
      * Spawns enemy units based on the current number of enemies and spawn probability.
      * Adds faster and stronger enemies to increase difficulty.
@@ -90,8 +99,8 @@ public class LevelTwo extends LevelParent {
     protected void spawnEnemyUnits() {
         int currentNumberOfEnemies = getCurrentNumberOfEnemies(); // Check current enemies on screen.
         for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition(); // Random Y position.
+            if (getSpawnRandom().nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+                double newEnemyInitialYPosition = getSpawnRandom().nextDouble() * getEnemyMaximumYPosition(); // Random Y position.
                 EnemyPlane newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, 2); // Enemy with higher health.
 
                 newEnemy.setHealth(5); // Set the health of the enemy.
@@ -0,0 +1,359 @@
+package com.example.demo.level;
+
+import com.example.demo.managers.HeadlessMode;
+import com.example.demo.managers.InputLog;
+import com.example.demo.managers.SoundManager;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Re-simulates recorded play sessions headlessly, as fast as possible, one session per worker thread.
+ * Each session is replayed from its seed and input, and its step count, enemies destroyed and the player's
+ * final health are compared with the recording, so a directory of real sessions serves both as a
+ * determinism regression suite and as a throughput benchmark.
+ * Run from the command line with the recordings directory and, optionally, the number of threads.
+ */
+public class ReplayBatchRunner {
+
+    // File extension of recorded sessions.
+    public static final String RECORDING_EXTENSION = ".skyr";
+
+    // Screen size every level is played at.
+    static final double SCREEN_WIDTH = 1300;
+    static final double SCREEN_HEIGHT = 750;
+
+    /**
+     * The outcome of replaying one session.
+     */
+    public static final class Result {
+        private final Path file;
+        private final InputLog log;
+        private final long steps;
+        private final int enemiesDestroyed;
+        private final int userHealth;
+        private final long nanos;
+        private final String error;
+
+        /**
+         * Constructor to initialize a result.
+         *
+         * @param file             The recording that was replayed.
+         * @param log              The recording, or null if it could not be read.
+         * @param steps            The number of steps the replay ran.
+         * @param enemiesDestroyed The number of enemies destroyed in the replay.
+         * @param userHealth       The player's health at the end of the replay.
+         * @param nanos            The time the replay took.
+         * @param error            Why the replay could not run, or null if it ran.
+         */
+        Result(Path file, InputLog log, long steps, int enemiesDestroyed, int userHealth, long nanos, String error) {
+            this.file = file;
+            this.log = log;
+            this.steps = steps;
+            this.enemiesDestroyed = enemiesDestroyed;
+            this.userHealth = userHealth;
+            this.nanos = nanos;
+            this.error = error;
+        }
+
+        /**
+         * Retrieves the recording that was replayed.
+         *
+         * @return The recording's file.
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * Retrieves the number of steps the replay ran.
+         *
+         * @return The step count.
+         */
+        public long getSteps() {
+            return steps;
+        }
+
+        /**
+         * Retrieves the number of enemies destroyed in the replay.
+         *
+         * @return The number of enemies destroyed.
+         */
+        public int getEnemiesDestroyed() {
+            return enemiesDestroyed;
+        }
+
+        /**
+         * Retrieves the player's health at the end of the replay.
+         *
+         * @return The player's health.
+         */
+        public int getUserHealth() {
+            return userHealth;
+        }
+
+        /**
+         * Retrieves why the replay could not run.
+         *
+         * @return The error message, or null if the replay ran.
+         */
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * Checks whether the replay ran and matched the recording. Outcomes the recording did not capture
+         * are not compared.
+         *
+         * @return True if the step count and every recorded outcome match, false otherwise.
+         */
+        public boolean matches() {
+            return error == null
+                    && steps == log.getSteps()
+                    && (log.getEnemiesDestroyed() == InputLog.UNKNOWN || enemiesDestroyed == log.getEnemiesDestroyed())
+                    && (log.getUserHealth() == InputLog.UNKNOWN || userHealth == log.getUserHealth());
+        }
+
+        /**
+         * Computes how fast the session was simulated.
+         *
+         * @return The simulation steps per second of this replay.
+         */
+        public double getStepsPerSecond() {
+            return nanos == 0 ? 0 : steps * 1e9 / nanos;
+        }
+
+        /**
+         * Describes the result on one line.
+         *
+         * @return The result's summary.
+         */
+        @Override
+        public String toString() {
+            if (error != null) {
+                return String.format(Locale.ROOT, "ERROR    %s: %s", file.getFileName(), error);
+            }
+            return String.format(Locale.ROOT, "%-8s %s %s: steps %d/%d, destroyed %d/%d, health %d/%d, %.0f steps/s",
+                    matches() ? "OK" : "MISMATCH", file.getFileName(), log.getLevelClassName(),
+                    steps, log.getSteps(), enemiesDestroyed, log.getEnemiesDestroyed(), userHealth, log.getUserHealth(),
+                    getStepsPerSecond());
+        }
+    }
+
+    /**
+     * The outcome of replaying a batch of sessions.
+     */
+    public static final class Report {
+        private final List<Result> results;
+        private final long wallNanos;
+
+        /**
+         * Constructor to initialize a report.
+         *
+         * @param results   The result of each session, in file order.
+         * @param wallNanos The time the whole batch took.
+         */
+        Report(List<Result> results, long wallNanos) {
+            this.results = results;
+            this.wallNanos = wallNanos;
+        }
+
+        /**
+         * Retrieves the result of each session.
+         *
+         * @return The results, in file order.
+         */
+        public List<Result> getResults() {
+            return results;
+        }
+
+        /**
+         * Counts the sessions that failed to run or did not match their recording.
+         *
+         * @return The number of failed sessions.
+         */
+        public int getFailureCount() {
+            return (int) results.stream().filter(result -> !result.matches()).count();
+        }
+
+        /**
+         * Computes the total number of steps simulated.
+         *
+         * @return The steps of every session combined.
+         */
+        public long getTotalSteps() {
+            return results.stream().mapToLong(Result::getSteps).sum();
+        }
+
+        /**
+         * Computes the combined throughput of all workers.
+         *
+         * @return The steps simulated per second of wall-clock time.
+         */
+        public double getStepsPerSecond() {
+            return wallNanos == 0 ? 0 : getTotalSteps() * 1e9 / wallNanos;
+        }
+
+        /**
+         * Summarizes the batch on one line.
+         *
+         * @return The batch's summary.
+         */
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d sessions, %d failed, %d steps in %.2f s, %.0f steps/s",
+                    results.size(), getFailureCount(), getTotalSteps(), wallNanos / 1e9, getStepsPerSecond());
+        }
+    }
+
+    private final int threads; // Number of sessions replayed at once.
+
+    /**
+     * Constructor to initialize a runner using every available core.
+     */
+    public ReplayBatchRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor to initialize a runner with a fixed number of workers.
+     *
+     * @param threads The number of sessions replayed at once.
+     * @throws IllegalArgumentException If the number of threads is not positive.
+     */
+    public ReplayBatchRunner(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Replays every recording in a directory.
+     *
+     * @param directory The directory holding the recordings.
+     * @return The report of the batch.
+     * @throws IOException If the directory cannot be listed.
+     */
+    public Report run(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.filter(file -> file.getFileName().toString().endsWith(RECORDING_EXTENSION)).sorted().toList();
+        }
+        return run(files);
+    }
+
+    /**
+     * Replays a list of recordings. Headless mode is switched on for the duration of the batch.
+     *
+     * @param files The recordings to replay.
+     * @return The report of the batch.
+     */
+    public Report run(List<Path> files) {
+        boolean wasHeadless = HeadlessMode.isEnabled();
+        HeadlessMode.setEnabled(true);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<Result>> futures = new ArrayList<>();
+            for (Path file : files) {
+                futures.add(executor.submit(() -> replay(file)));
+            }
+            List<Result> results = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                results.add(await(files.get(i), futures.get(i)));
+            }
+            return new Report(results, System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+            HeadlessMode.setEnabled(wasHeadless);
+        }
+    }
+
+    /**
+     * Waits for a session's replay to finish.
+     *
+     * @param file   The recording being replayed.
+     * @param future The replay's pending result.
+     * @return The result, or an error result if the replay threw.
+     */
+    private static Result await(Path file, Future<Result> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(file, null, 0, 0, 0, 0, "Interrupted");
+        } catch (ExecutionException e) {
+            return new Result(file, null, 0, 0, 0, 0, String.valueOf(e.getCause()));
+        }
+    }
+
+    /**
+     * Replays one recording in a fresh headless level, for exactly as many steps as it was recorded for.
+     *
+     * @param file The recording to replay.
+     * @return The result of the replay.
+     */
+    static Result replay(Path file) {
+        InputLog log;
+        LevelParent level;
+        try {
+            log = InputLog.load(file);
+            level = createLevel(log.getLevelClassName());
+            level.replay(log);
+        } catch (IOException | ReflectiveOperationException | RuntimeException e) {
+            return new Result(file, null, 0, 0, 0, 0, e.toString());
+        }
+        long start = System.nanoTime();
+        level.simulate((int) Math.min(log.getSteps(), Integer.MAX_VALUE));
+        long nanos = System.nanoTime() - start;
+        return new Result(file, log, level.getStepCount(), level.getEnemiesDestroyed(), level.getUserHealth(), nanos, null);
+    }
+
+    /**
+     * Creates a level by class name, the way the game does.
+     *
+     * @param className The fully qualified name of the level's class.
+     * @return The new level.
+     * @throws ReflectiveOperationException If the class is not a level that can be created.
+     */
+    static LevelParent createLevel(String className) throws ReflectiveOperationException {
+        Class<? extends LevelParent> levelClass = Class.forName(className).asSubclass(LevelParent.class);
+        try {
+            Constructor<? extends LevelParent> constructor = levelClass.getConstructor(double.class, double.class, SoundManager.class, Stage.class);
+            return constructor.newInstance(SCREEN_WIDTH, SCREEN_HEIGHT, new SoundManager(), null);
+        } catch (NoSuchMethodException e) {
+            return levelClass.getConstructor(SoundManager.class, Stage.class).newInstance(new SoundManager(), null); // Endless mode.
+        }
+    }
+
+    /**
+     * Replays the recordings in a directory and prints a line per session and a summary.
+     * The process exits with status 1 if any session fails to match its recording.
+     *
+     * @param args The recordings directory, optionally followed by the number of threads.
+     * @throws IOException If the directory cannot be listed.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayBatchRunner <recordings directory> [threads]");
+            System.exit(2);
+        }
+        ReplayBatchRunner runner = args.length > 1 ? new ReplayBatchRunner(Integer.parseInt(args[1])) : new ReplayBatchRunner();
+        Report report = runner.run(Path.of(args[0]));
+        report.getResults().forEach(System.out::println);
+        System.out.println(report);
+        System.exit(report.getFailureCount() == 0 ? 0 : 1);
+    }
+}
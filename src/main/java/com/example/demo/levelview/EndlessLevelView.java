@@ -1,5 +1,7 @@
 package com.example.demo.levelview;
 
+import com.example.demo.managers.SpriteCache;
+import com.example.demo.ui.GameOverImage;
 import javafx.animation.PauseTransition;
 import javafx.scene.Group;
 import javafx.scene.image.Image;
@@ -7,7 +9,6 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.text.Text;
 import javafx.util.Duration;
-import java.util.Objects;
 import java.util.logging.Logger;
 
 /**
@@ -19,6 +20,8 @@ public class EndlessLevelView extends LevelView {
     private static final Logger logger = Logger.getLogger(EndlessLevelView.class.getName());
 
     private final Text killCountText;
+    private StackPane gameOverOverlay; // Shown over the level once the game is lost, until it is reset.
+    private PauseTransition leaderboardDelay; // Waits before leaving for the leaderboard.
 
     /**
      * Constructor to initialize the endless mode level view.
@@ -72,7 +75,7 @@ public class EndlessLevelView extends LevelView {
      */
     public void showGameOverImage() {
         try {
-            Image gameOverImage = new Image(Objects.requireNonNull(getClass().getResource("/com/example/demo/images/gameover.png")).toExternalForm());
+            Image gameOverImage = SpriteCache.get(GameOverImage.IMAGE_NAME);
             ImageView gameOverView = new ImageView(gameOverImage);
             gameOverView.setPreserveRatio(true);
             gameOverView.setFitWidth(400); //Adjust size as needed
@@ -84,11 +87,13 @@ public class EndlessLevelView extends LevelView {
 
             root.getChildren().add(overlay);
             overlay.toFront(); //Ensure it's on top
+            gameOverOverlay = overlay;
 
             //Delay before navigating to leaderboard
             PauseTransition pause = new PauseTransition(Duration.seconds(3)); // 3-second delay
             pause.setOnFinished(event -> navigateToLeaderboard());
             pause.play();
+            leaderboardDelay = pause;
         } catch (NullPointerException e) {
             logger.severe("Game over image not found.");
             //Navigate immediately if image not found
@@ -105,6 +110,24 @@ public class EndlessLevelView extends LevelView {
         //Implement navigation logic here, e.g., changing the scene or calling a navigation manager
     }
 
+    /**
+     * Returns the view to how it looked when the game started, removing the game-over overlay
+     * and cancelling the move to the leaderboard.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        if (leaderboardDelay != null) {
+            leaderboardDelay.stop();
+            leaderboardDelay = null;
+        }
+        if (gameOverOverlay != null) {
+            root.getChildren().remove(gameOverOverlay);
+            gameOverOverlay = null;
+        }
+        resetKillCountDisplay();
+    }
+
     /**
      * Resets the kill count display to zero.
      * Ensures the text element stays on top after the reset.
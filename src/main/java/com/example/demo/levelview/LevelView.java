@@ -1,5 +1,6 @@
 package com.example.demo.levelview;
 
+import com.example.demo.managers.HeadlessMode;
 import com.example.demo.ui.GameOverImage;
 import com.example.demo.ui.HeartDisplay;
 import com.example.demo.ui.ShieldImage;
@@ -40,6 +41,7 @@ public class LevelView {
 
 	private boolean killCountDisplayVisible;
 	private Label warningLabel; //Optional warning label for specific levels
+	private final String warningMessage; //Message the warning label starts with.
 
 	/**
 	 * Constructor for LevelView.
@@ -74,7 +76,8 @@ public class LevelView {
 		this.killCountText.setText(""); // Initially empty
 		this.killCountDisplayVisible = false;
 
-		if (hasWarningLabel) {
+		this.warningMessage = warningMessage;
+		if (hasWarningLabel && !HeadlessMode.isEnabled()) { //Labels need a running toolkit.
 			initializeWarningLabel(warningMessage);
 		}
 	}
@@ -184,6 +187,19 @@ public class LevelView {
 		bossHealthText.setText("Boss HP: " + bossHealth);
 	}
 
+	/**
+	 * Returns the view to how it looked when the level started: every heart shown, no win or game-over
+	 * image, no shield and the original warning. Displays the level chose to show stay shown.
+	 */
+	public void reset() {
+		heartDisplay.reset();
+		root.getChildren().removeAll(winImage, gameOverImage);
+		hideShield();
+		if (warningLabel != null) {
+			warningLabel.setText(warningMessage);
+		}
+	}
+
 	/**
 	 * Displays the boss health text on the screen.
 	 */
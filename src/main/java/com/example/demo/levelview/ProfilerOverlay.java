@@ -0,0 +1,129 @@
+package com.example.demo.levelview;
+
+import com.example.demo.managers.FrameProfiler;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * On-screen table of the frame profiler's per-phase timings.
+ * F3 shows or hides the overlay, and F4 dumps the timings to a CSV file in the working directory.
+ * Phases whose 99th percentile exceeds the frame budget are flagged.
+ */
+public class ProfilerOverlay {
+    private static final Logger logger = Logger.getLogger(ProfilerOverlay.class.getName());
+
+    private static final int REFRESH_INTERVAL = 10; // Frames between refreshes of the table.
+    private static final double X_POSITION = 10;
+    private static final double Y_POSITION = 110;
+
+    private final Group root; // Root group the overlay is shown in.
+    private final FrameProfiler profiler; // Source of the timings.
+    private final long frameBudgetNanos; // Time available for one frame.
+    private final Text text; // Table of timings.
+    private boolean visible; // Whether the overlay is shown.
+
+    /**
+     * Constructor to initialize the overlay.
+     *
+     * @param root          The root group the overlay is shown in.
+     * @param profiler      The profiler whose timings are shown.
+     * @param frameBudgetMs The time available for one frame in milliseconds.
+     */
+    public ProfilerOverlay(Group root, FrameProfiler profiler, double frameBudgetMs) {
+        this.root = root;
+        this.profiler = profiler;
+        this.frameBudgetNanos = (long) (frameBudgetMs * 1_000_000);
+        this.text = new Text();
+        text.setFill(Color.LIME);
+        text.setFont(Font.font("Monospaced", 12));
+        text.setLayoutX(X_POSITION);
+        text.setLayoutY(Y_POSITION);
+        text.setMouseTransparent(true);
+    }
+
+    /**
+     * Adds the F3 (toggle) and F4 (dump) key handlers to the scene.
+     *
+     * @param scene The scene to listen to.
+     */
+    public void attach(Scene scene) {
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == KeyCode.F3) {
+                toggle();
+            } else if (e.getCode() == KeyCode.F4) {
+                dump();
+            }
+        });
+    }
+
+    /**
+     * Shows the overlay if hidden, or hides it if shown.
+     */
+    public void toggle() {
+        visible = !visible;
+        if (visible) {
+            refresh();
+            root.getChildren().add(text);
+        } else {
+            root.getChildren().remove(text);
+        }
+    }
+
+    /**
+     * Checks whether the overlay is shown.
+     *
+     * @return True if the overlay is visible, false otherwise.
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Called after every frame; refreshes the table every few frames while the overlay is shown.
+     */
+    public void onFrame() {
+        if (visible && profiler.getFrameCount() % REFRESH_INTERVAL == 0) {
+            refresh();
+        }
+    }
+
+    /**
+     * Rebuilds the table from the profiler's current statistics.
+     */
+    private void refresh() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-28s %8s %8s %8s%n", "phase (ms)", "p50", "p95", "p99"));
+        for (Map.Entry<FrameProfiler.Phase, FrameProfiler.Stats> entry : profiler.getAllStats().entrySet()) {
+            FrameProfiler.Stats stats = entry.getValue();
+            table.append(String.format(Locale.ROOT, "%-28s %8.3f %8.3f %8.3f%s%n", entry.getKey(),
+                    stats.getP50() / 1e6, stats.getP95() / 1e6, stats.getP99() / 1e6,
+                    stats.getP99() > frameBudgetNanos ? " !" : ""));
+        }
+        text.setText(table.toString());
+        text.toFront();
+    }
+
+    /**
+     * Writes the profiler's timings to a new CSV file in the working directory.
+     */
+    private void dump() {
+        Path file = Path.of("frame-profile-" + System.currentTimeMillis() + ".csv");
+        try {
+            profiler.dump(file);
+            logger.info("Frame profile written to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write frame profile", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.demo.managers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lists the assets a level needs before it starts: images (with the height they are displayed at),
+ * FXML layouts and background music. Used by the asset preloader to warm everything off the FX thread.
+ */
+public class AssetManifest {
+
+    /**
+     * An image resource together with the height it is pre-scaled to, or 0 for its original size.
+     */
+    public static final class ImageAsset {
+        private final String path;
+        private final double fitHeight;
+
+        /**
+         * Constructor to initialize an image entry.
+         *
+         * @param path      The classpath location of the image.
+         * @param fitHeight The height the image is pre-scaled to, or 0 for its original size.
+         */
+        public ImageAsset(String path, double fitHeight) {
+            this.path = path;
+            this.fitHeight = fitHeight;
+        }
+
+        /**
+         * Retrieves the classpath location of the image.
+         *
+         * @return The image path.
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Retrieves the height the image is pre-scaled to.
+         *
+         * @return The fit height, or 0 for the original size.
+         */
+        public double getFitHeight() {
+            return fitHeight;
+        }
+    }
+
+    private final List<ImageAsset> images = new ArrayList<>(); // Images to decode.
+    private final List<String> fxmlPaths = new ArrayList<>(); // FXML layouts to prepare.
+    private final List<String> musicPaths = new ArrayList<>(); // Background music to open.
+    private String nextLevelClassName; // Level expected to follow this one, if any.
+
+    /**
+     * Adds an image displayed at its original size.
+     *
+     * @param path The classpath location of the image.
+     * @return This manifest, for chaining.
+     */
+    public AssetManifest image(String path) {
+        return image(path, 0);
+    }
+
+    /**
+     * Adds an image pre-scaled to a specific height.
+     *
+     * @param path      The classpath location of the image.
+     * @param fitHeight The height the image is displayed at.
+     * @return This manifest, for chaining.
+     */
+    public AssetManifest image(String path, double fitHeight) {
+        images.add(new ImageAsset(path, fitHeight));
+        return this;
+    }
+
+    /**
+     * Adds an FXML layout.
+     *
+     * @param path The classpath location of the FXML file.
+     * @return This manifest, for chaining.
+     */
+    public AssetManifest fxml(String path) {
+        fxmlPaths.add(path);
+        return this;
+    }
+
+    /**
+     * Adds a background music track.
+     *
+     * @param path The classpath location of the music file.
+     * @return This manifest, for chaining.
+     */
+    public AssetManifest music(String path) {
+        musicPaths.add(path);
+        return this;
+    }
+
+    /**
+     * Records the level expected to follow this one, so its assets can be warmed while this level plays.
+     *
+     * @param className The fully qualified class name of the next level.
+     * @return This manifest, for chaining.
+     */
+    public AssetManifest nextLevel(String className) {
+        this.nextLevelClassName = className;
+        return this;
+    }
+
+    /**
+     * Retrieves the images listed in the manifest.
+     *
+     * @return An unmodifiable list of images.
+     */
+    public List<ImageAsset> getImages() {
+        return Collections.unmodifiableList(images);
+    }
+
+    /**
+     * Retrieves the FXML layouts listed in the manifest.
+     *
+     * @return An unmodifiable list of FXML paths.
+     */
+    public List<String> getFxmlPaths() {
+        return Collections.unmodifiableList(fxmlPaths);
+    }
+
+    /**
+     * Retrieves the music tracks listed in the manifest.
+     *
+     * @return An unmodifiable list of music paths.
+     */
+    public List<String> getMusicPaths() {
+        return Collections.unmodifiableList(musicPaths);
+    }
+
+    /**
+     * Retrieves the level expected to follow this one.
+     *
+     * @return The next level's class name, or null if there is none.
+     */
+    public String getNextLevelClassName() {
+        return nextLevelClassName;
+    }
+
+    /**
+     * Retrieves the total number of assets in the manifest.
+     *
+     * @return The asset count.
+     */
+    public int size() {
+        return images.size() + fxmlPaths.size() + musicPaths.size();
+    }
+}
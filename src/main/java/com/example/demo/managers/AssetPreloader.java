@@ -0,0 +1,168 @@
+package com.example.demo.managers;
+
+import javafx.concurrent.Task;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads the assets of a level on a background thread before the level starts.
+ * Images are decoded into the {@link SpriteCache}, FXML layouts are parsed into the {@link SceneCache},
+ * and music is opened through the {@link SoundManager}.
+ * Progress and the asset being loaded are reported through the task's progress and message properties,
+ * so a loading screen can bind to them.
+ */
+public class AssetPreloader extends Task<Void> {
+    private static final Logger logger = Logger.getLogger(AssetPreloader.class.getName());
+
+    // Single daemon worker, so preloading never competes with itself and never keeps the game alive.
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "asset-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Set<String> processedAssets = ConcurrentHashMap.newKeySet(); // Assets already loaded or found missing.
+
+    private final AssetManifest manifest; // Assets to load.
+    private final SoundManager soundManager; // Opens the music tracks.
+
+    /**
+     * Constructor to initialize the preloader. Call {@link #start()} to begin loading.
+     *
+     * @param manifest     The assets to load.
+     * @param soundManager The sound manager used to open music, or null to skip music.
+     */
+    public AssetPreloader(AssetManifest manifest, SoundManager soundManager) {
+        this.manifest = manifest;
+        this.soundManager = soundManager;
+    }
+
+    /**
+     * Submits the preloader to the background worker.
+     *
+     * @return This preloader, for chaining.
+     */
+    public AssetPreloader start() {
+        executor.submit(this);
+        return this;
+    }
+
+    /**
+     * Loads every asset of the manifest, reporting progress after each one.
+     * A missing or broken asset is logged and skipped, so it is loaded lazily (and fails) where it is used.
+     *
+     * @return Nothing.
+     */
+    @Override
+    protected Void call() {
+        int total = manifest.size();
+        int done = 0;
+        updateProgress(0, total);
+
+        for (AssetManifest.ImageAsset image : manifest.getImages()) {
+            if (isCancelled()) {
+                return null;
+            }
+            updateMessage("Loading " + image.getPath());
+            load(imageKey(image), () -> SpriteCache.get(image.getPath(), image.getFitHeight()));
+            updateProgress(++done, total);
+        }
+        for (String path : manifest.getFxmlPaths()) {
+            if (isCancelled()) {
+                return null;
+            }
+            updateMessage("Loading " + path);
+            load(fxmlKey(path), () -> SceneCache.load(path));
+            updateProgress(++done, total);
+        }
+        for (String path : manifest.getMusicPaths()) {
+            if (isCancelled()) {
+                return null;
+            }
+            updateMessage("Loading " + path);
+            if (soundManager != null) {
+                load(musicKey(path), () -> soundManager.preloadMusic(path));
+            }
+            updateProgress(++done, total);
+        }
+
+        updateMessage("Ready");
+        return null;
+    }
+
+    /**
+     * Loads a single asset, logging instead of failing the whole task if it cannot be loaded.
+     *
+     * @param key    The key recording that the asset has been processed.
+     * @param loader The action that loads the asset.
+     */
+    private void load(String key, Runnable loader) {
+        try {
+            loader.run();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Failed to preload asset: " + key, e);
+        }
+        processedAssets.add(key);
+    }
+
+    /**
+     * Checks whether every asset of a manifest has already been processed, so the level can start
+     * without showing a loading screen.
+     *
+     * @param manifest The manifest to check.
+     * @return True if nothing in the manifest is left to load, false otherwise.
+     */
+    public static boolean isWarm(AssetManifest manifest) {
+        for (AssetManifest.ImageAsset image : manifest.getImages()) {
+            if (!SpriteCache.contains(image.getPath(), image.getFitHeight()) && !processedAssets.contains(imageKey(image))) {
+                return false;
+            }
+        }
+        for (String path : manifest.getFxmlPaths()) {
+            if (!SceneCache.contains(path) && !processedAssets.contains(fxmlKey(path))) {
+                return false;
+            }
+        }
+        for (String path : manifest.getMusicPaths()) {
+            if (!processedAssets.contains(musicKey(path))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the processed-asset key of an image.
+     *
+     * @param image The image entry.
+     * @return The key.
+     */
+    private static String imageKey(AssetManifest.ImageAsset image) {
+        return "image:" + image.getPath() + "@" + image.getFitHeight();
+    }
+
+    /**
+     * Builds the processed-asset key of an FXML layout.
+     *
+     * @param path The classpath location of the FXML file.
+     * @return The key.
+     */
+    private static String fxmlKey(String path) {
+        return "fxml:" + path;
+    }
+
+    /**
+     * Builds the processed-asset key of a music track.
+     *
+     * @param path The classpath location of the music file.
+     * @return The key.
+     */
+    private static String musicKey(String path) {
+        return "music:" + path;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.managers;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.EntityStore;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Draws every actor onto a single canvas instead of keeping one ImageView node per actor in the scene graph.
+ * Actors are drawn in one pass per frame, straight from the positions held in the entity stores,
+ * so the number of nodes in the scene stays the same however many planes and projectiles exist.
+ */
+public class CanvasRenderer {
+
+    private final Canvas canvas; // Single node the actors are drawn onto.
+    private final GraphicsContext graphics; // Drawing context of the canvas.
+    private final EntityStore[] stores; // Stores drawn each frame, back to front.
+
+    /**
+     * Constructor to initialize the renderer and place its canvas at the back of the root group,
+     * so the background is added behind it and the level's UI is added in front of it.
+     *
+     * @param root   The root group of the level.
+     * @param width  The width of the canvas.
+     * @param height The height of the canvas.
+     * @param stores The stores whose actors are drawn; later stores are drawn on top of earlier ones.
+     */
+    public CanvasRenderer(Group root, double width, double height, EntityStore... stores) {
+        this.canvas = new Canvas(width, height);
+        this.stores = stores;
+        this.graphics = canvas.getGraphicsContext2D();
+        canvas.setMouseTransparent(true); // Input is handled by the background, not the canvas.
+        root.getChildren().addFirst(canvas);
+    }
+
+    /**
+     * Clears the canvas and draws the actors of every store.
+     *
+     * @param alpha How far to blend each actor from its previous position (0) to its current one (1).
+     */
+    public void render(double alpha) {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (EntityStore store : stores) {
+            draw(store, alpha);
+        }
+    }
+
+    /**
+     * Draws the visible actors of a store at their simulated positions.
+     *
+     * @param store The store whose actors are drawn.
+     * @param alpha How far to blend each actor from its previous position (0) to its current one (1).
+     */
+    private void draw(EntityStore store, double alpha) {
+        for (int i = 0; i < store.size(); i++) {
+            ActiveActorDestructible actor = store.getActor(i);
+            Image image = actor.getImage();
+            if (image == null || !actor.isVisible() || store.isDestroyed(i)) {
+                continue;
+            }
+            graphics.drawImage(image, store.getInterpolatedX(i, alpha), store.getInterpolatedY(i, alpha), actor.getSpriteWidth(), actor.getSpriteHeight());
+        }
+    }
+
+    /**
+     * Retrieves the canvas the actors are drawn onto.
+     *
+     * @return The canvas.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+}
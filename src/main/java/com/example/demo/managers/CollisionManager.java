@@ -12,6 +12,50 @@ import java.util.List;
  */
 public class CollisionManager {
 
+    /**
+     * Broadphase strategies used to find the colliding pairs between two groups of actors.
+     */
+    public enum Strategy {
+        BRUTE_FORCE, // Test every pair of actors.
+        SPATIAL_HASH, // Only test actors sharing a cell of a uniform grid.
+        SWEEP_AND_PRUNE // Sweep actors kept sorted by their left edge between frames.
+    }
+
+    private final Strategy strategy;
+
+    // Broadphase grid, rebuilt for every collision pass and reused across frames.
+    private final SpatialHashGrid grid = new SpatialHashGrid();
+
+    // One sweep per collision pass, so each keeps its own sorted order between frames.
+    private final SweepAndPrune planeSweep = new SweepAndPrune();
+    private final SweepAndPrune userProjectileSweep = new SweepAndPrune();
+    private final SweepAndPrune enemyProjectileSweep = new SweepAndPrune();
+
+    /**
+     * Constructor to initialize a collision manager using the spatial hash broadphase.
+     */
+    public CollisionManager() {
+        this(Strategy.SPATIAL_HASH);
+    }
+
+    /**
+     * Constructor to initialize a collision manager with a specific broadphase strategy.
+     *
+     * @param strategy The strategy used to find colliding pairs.
+     */
+    public CollisionManager(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Retrieves the broadphase strategy used by this manager.
+     *
+     * @return The collision strategy.
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
     /**
      * Handles collisions between friendly units and enemy units.
      * When a collision is detected, both the friendly and enemy units take damage.
@@ -20,14 +64,7 @@ public class CollisionManager {
      * @param enemyUnits    List of enemy units in the game.
      */
     public void handlePlaneCollisions(List<ActiveActorDestructible> friendlyUnits, List<ActiveActorDestructible> enemyUnits) {
-        for (ActiveActorDestructible friendly : friendlyUnits) {
-            for (ActiveActorDestructible enemy : enemyUnits) {
-                if (friendly.getBoundingBox().getBoundsInParent().intersects(enemy.getBoundingBox().getBoundsInParent())) {
-                    friendly.takeDamage(); // Apply damage to the friendly unit.
-                    enemy.takeDamage(); // Apply damage to the enemy unit.
-                }
-            }
-        }
+        handleCollisions(friendlyUnits, enemyUnits, planeSweep); // Delegate to the generic collision handler.
     }
 
     /**
@@ -38,7 +75,7 @@ public class CollisionManager {
      * @param enemyUnits      List of enemy units in the game.
      */
     public void handleUserProjectileCollisions(List<ActiveActorDestructible> userProjectiles, List<ActiveActorDestructible> enemyUnits) {
-        handleCollisions(userProjectiles, enemyUnits); // Delegate to the generic collision handler.
+        handleCollisions(userProjectiles, enemyUnits, userProjectileSweep); // Delegate to the generic collision handler.
     }
 
     /**
@@ -49,20 +86,35 @@ public class CollisionManager {
      * @param friendlyUnits    List of friendly units in the game.
      */
     public void handleEnemyProjectileCollisions(List<ActiveActorDestructible> enemyProjectiles, List<ActiveActorDestructible> friendlyUnits) {
-        handleCollisions(enemyProjectiles, friendlyUnits); // Delegate to the generic collision handler.
+        handleCollisions(enemyProjectiles, friendlyUnits, enemyProjectileSweep); // Delegate to the generic collision handler.
     }
 
     /**
      * Generic method to handle collisions between two lists of actors.
-     * Detects collisions and applies damage to both actors involved.
+     * Finds the intersecting pairs with the configured strategy and applies damage to both actors of every pair.
+     *
+     * @param actors1 The first list of actors.
+     * @param actors2 The second list of actors.
+     * @param sweep   The sweep keeping this pass's sorted order, used by the sweep-and-prune strategy.
+     */
+    private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2, SweepAndPrune sweep) {
+        switch (strategy) {
+            case BRUTE_FORCE -> handleCollisionsBruteForce(actors1, actors2);
+            case SWEEP_AND_PRUNE -> handleCollisionsSweepAndPrune(actors1, actors2, sweep);
+            default -> handleCollisionsSpatialHash(actors1, actors2);
+        }
+    }
+
+    /**
+     * Handles collisions by testing every actor of the first list against every actor of the second.
      *
      * @param actors1 The first list of actors.
      * @param actors2 The second list of actors.
      */
-    private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
+    private void handleCollisionsBruteForce(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
         for (ActiveActorDestructible actor1 : actors1) {
             for (ActiveActorDestructible actor2 : actors2) {
-                if (actor1.getBoundingBox().getBoundsInParent().intersects(actor2.getBoundingBox().getBoundsInParent())) {
+                if (intersects(actor1, actor2)) {
                     actor1.takeDamage(); // Apply damage to the first actor.
                     actor2.takeDamage(); // Apply damage to the second actor.
                 }
@@ -70,6 +122,61 @@ public class CollisionManager {
         }
     }
 
+    /**
+     * Checks whether the hitboxes of two actors overlap (edges touching counts as overlap).
+     *
+     * @param actor1 The first actor.
+     * @param actor2 The second actor.
+     * @return True if the hitboxes overlap, false otherwise.
+     */
+    private static boolean intersects(ActiveActorDestructible actor1, ActiveActorDestructible actor2) {
+        return actor1.getHitboxMaxX() >= actor2.getHitboxMinX() && actor1.getHitboxMinX() <= actor2.getHitboxMaxX()
+                && actor1.getHitboxMaxY() >= actor2.getHitboxMinY() && actor1.getHitboxMinY() <= actor2.getHitboxMaxY();
+    }
+
+    /**
+     * Handles collisions with a spatial hash grid. The second list is inserted into the grid, and each
+     * actor of the first list is only tested against the actors sharing a grid cell with it.
+     * Pairs are resolved in the same order as the brute-force scan.
+     *
+     * @param actors1 The first list of actors.
+     * @param actors2 The second list of actors.
+     */
+    private void handleCollisionsSpatialHash(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
+        if (actors1.isEmpty() || actors2.isEmpty()) {
+            return; // Nothing can collide.
+        }
+        grid.clear();
+        for (int i = 0; i < actors2.size(); i++) {
+            ActiveActorDestructible actor2 = actors2.get(i);
+            grid.insert(actor2.getHitboxMinX(), actor2.getHitboxMinY(), actor2.getHitboxMaxX(), actor2.getHitboxMaxY());
+        }
+        for (int i = 0; i < actors1.size(); i++) {
+            ActiveActorDestructible actor1 = actors1.get(i);
+            int hits = grid.query(actor1.getHitboxMinX(), actor1.getHitboxMinY(), actor1.getHitboxMaxX(), actor1.getHitboxMaxY());
+            for (int hit = 0; hit < hits; hit++) {
+                ActiveActorDestructible actor2 = actors2.get(grid.getResult(hit));
+                actor1.takeDamage(); // Apply damage to the first actor.
+                actor2.takeDamage(); // Apply damage to the second actor.
+            }
+        }
+    }
+
+    /**
+     * Handles collisions with sort-and-sweep along the X axis.
+     *
+     * @param actors1 The first list of actors.
+     * @param actors2 The second list of actors.
+     * @param sweep   The sweep keeping this pass's sorted order between frames.
+     */
+    private void handleCollisionsSweepAndPrune(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2, SweepAndPrune sweep) {
+        sweep.update(actors1, actors2);
+        for (int pair = 0; pair < sweep.getPairCount(); pair++) {
+            sweep.getFirst(pair).takeDamage(); // Apply damage to the first actor.
+            sweep.getSecond(pair).takeDamage(); // Apply damage to the second actor.
+        }
+    }
+
     /**
      * Handles enemy units that penetrate the user's defenses.
      * Removes the enemy from the game and applies damage to the user.
@@ -1,10 +1,14 @@
 package com.example.demo.managers;
 
 import com.example.demo.actor.ActiveActorDestructible;
+import com.example.demo.actor.EntityStore;
+import com.example.demo.actor.FighterPlane;
+import com.example.demo.projectiles.Projectile;
+import com.example.demo.projectiles.ProjectilePools;
 import javafx.scene.Group;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Class responsible for managing entities in the game.
@@ -12,21 +16,86 @@ import java.util.List;
  */
 public class EntityManager {
 
+    /**
+     * How the actors managed here are drawn.
+     */
+    public enum RenderMode {
+        SCENE_GRAPH, // Each actor is its own ImageView node in the root group.
+        CANVAS; // All actors are drawn onto one canvas each frame.
+
+        /**
+         * Reads the render mode from the `demo.renderMode` system property.
+         *
+         * @return The selected render mode, or SCENE_GRAPH if none or an unknown one is set.
+         */
+        public static RenderMode fromSystemProperty() {
+            String value = System.getProperty("demo.renderMode");
+            if (value != null) {
+                for (RenderMode mode : values()) {
+                    if (mode.name().equalsIgnoreCase(value)) {
+                        return mode;
+                    }
+                }
+            }
+            return SCENE_GRAPH;
+        }
+    }
+
     private final Group root; // The root group containing all visual elements.
+    private final RenderMode renderMode; // How the actors are drawn.
+    private final CanvasRenderer canvasRenderer; // Draws the actors in canvas mode, null otherwise.
+
+    // Struct-of-arrays stores holding the simulation state of each type of entity in the game.
+    private final EntityStore friendlyUnits = new EntityStore();
+    private final EntityStore enemyUnits = new EntityStore();
+    private final EntityStore userProjectiles = new EntityStore();
+    private final EntityStore enemyProjectiles = new EntityStore();
 
-    // Lists to track different types of entities in the game.
-    private final List<ActiveActorDestructible> friendlyUnits = new ArrayList<>();
-    private final List<ActiveActorDestructible> enemyUnits = new ArrayList<>();
-    private final List<ActiveActorDestructible> userProjectiles = new ArrayList<>();
-    private final List<ActiveActorDestructible> enemyProjectiles = new ArrayList<>();
+    // Pools recycling the projectiles fired by the planes managed here.
+    private final ProjectilePools projectilePools;
+
+    // Detaches a removed actor's view from the scene graph; created once to avoid per-frame allocation.
+    private final Consumer<ActiveActorDestructible> detachViewCallback = this::detachView;
 
     /**
-     * Constructor to initialize the entity manager.
+     * Constructor to initialize the entity manager with projectile pools of the default capacity.
      *
      * @param root The root group for adding and removing entities.
      */
     public EntityManager(Group root) {
+        this(root, ProjectilePools.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor to initialize the entity manager with a specific projectile pool capacity.
+     *
+     * @param root         The root group for adding and removing entities.
+     * @param poolCapacity The maximum number of idle projectiles kept for reuse per projectile type.
+     */
+    public EntityManager(Group root, int poolCapacity) {
+        this.root = root;
+        this.projectilePools = new ProjectilePools(poolCapacity);
+        this.renderMode = RenderMode.SCENE_GRAPH;
+        this.canvasRenderer = null;
+    }
+
+    /**
+     * Constructor to initialize the entity manager with a specific projectile pool capacity and render mode.
+     * In canvas mode, a canvas covering the screen is added to the root group and the actors are drawn onto it.
+     *
+     * @param root         The root group for adding and removing entities.
+     * @param poolCapacity The maximum number of idle projectiles kept for reuse per projectile type.
+     * @param renderMode   How the actors are drawn.
+     * @param screenWidth  The width of the screen.
+     * @param screenHeight The height of the screen.
+     */
+    public EntityManager(Group root, int poolCapacity, RenderMode renderMode, double screenWidth, double screenHeight) {
         this.root = root;
+        this.projectilePools = new ProjectilePools(poolCapacity);
+        this.renderMode = renderMode;
+        this.canvasRenderer = renderMode == RenderMode.CANVAS
+                ? new CanvasRenderer(root, screenWidth, screenHeight, enemyProjectiles, userProjectiles, enemyUnits, friendlyUnits)
+                : null;
     }
 
     /**
@@ -35,8 +104,11 @@ public class EntityManager {
      * @param friendlyUnit The friendly unit to add.
      */
     public void addFriendlyUnit(ActiveActorDestructible friendlyUnit) {
+        attachProjectilePools(friendlyUnit);
         friendlyUnits.add(friendlyUnit);
-        if (!root.getChildren().contains(friendlyUnit)) { // Avoid duplicates.
+        if (canvasRenderer != null) {
+            root.getChildren().remove(friendlyUnit); // Drawn on the canvas, so keep it out of the scene graph.
+        } else if (!root.getChildren().contains(friendlyUnit)) { // Avoid duplicates.
             root.getChildren().add(friendlyUnit);
         }
     }
@@ -47,8 +119,9 @@ public class EntityManager {
      * @param unit The enemy unit to add.
      */
     public void addEnemyUnit(ActiveActorDestructible unit) {
+        attachProjectilePools(unit);
         enemyUnits.add(unit);
-        root.getChildren().add(unit);
+        attachView(unit);
     }
 
     /**
@@ -58,7 +131,7 @@ public class EntityManager {
      */
     public void addUserProjectile(ActiveActorDestructible projectile) {
         userProjectiles.add(projectile);
-        root.getChildren().add(projectile);
+        attachView(projectile);
     }
 
     /**
@@ -68,65 +141,105 @@ public class EntityManager {
      */
     public void addEnemyProjectile(ActiveActorDestructible projectile) {
         enemyProjectiles.add(projectile);
-        root.getChildren().add(projectile);
+        attachView(projectile);
+    }
+
+    /**
+     * Adds an actor's view to the root group, unless actors are drawn on the canvas.
+     *
+     * @param actor The actor being added to the game.
+     */
+    private void attachView(ActiveActorDestructible actor) {
+        if (canvasRenderer == null) {
+            root.getChildren().add(actor);
+        }
+    }
+
+    /**
+     * Retrieves how the actors managed here are drawn.
+     *
+     * @return The render mode.
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Draws the actors for the current frame. In canvas mode they are drawn onto the canvas;
+     * in scene graph mode the views of moving actors are placed between their last two positions.
+     *
+     * @param alpha How far to blend from the previous simulation step (0) to the current one (1).
+     */
+    public void render(double alpha) {
+        if (canvasRenderer != null) {
+            canvasRenderer.render(alpha);
+        } else if (alpha < 1) { // At 1 the views were already placed by updateEntities().
+            enemyProjectiles.interpolateViews(alpha);
+            userProjectiles.interpolateViews(alpha);
+            enemyUnits.interpolateViews(alpha);
+            friendlyUnits.interpolateViews(alpha);
+        }
+    }
+
+    /**
+     * Retrieves the projectile pools, e.g. to inspect their statistics.
+     *
+     * @return The projectile pools used by the planes managed here.
+     */
+    public ProjectilePools getProjectilePools() {
+        return projectilePools;
     }
 
     /**
      * Retrieves the list of friendly units.
      *
-     * @return List of friendly units.
+     * @return Live list view of friendly units.
      */
     public List<ActiveActorDestructible> getFriendlyUnits() {
-        return friendlyUnits;
+        return friendlyUnits.asList();
     }
 
     /**
      * Retrieves the list of enemy units.
      *
-     * @return List of enemy units.
+     * @return Live list view of enemy units.
      */
     public List<ActiveActorDestructible> getEnemyUnits() {
-        return enemyUnits;
+        return enemyUnits.asList();
     }
 
     /**
      * Retrieves the list of projectiles fired by the user.
      *
-     * @return List of user projectiles.
+     * @return Live list view of user projectiles.
      */
     public List<ActiveActorDestructible> getUserProjectiles() {
-        return userProjectiles;
+        return userProjectiles.asList();
     }
 
     /**
      * Retrieves the list of projectiles fired by enemies.
      *
-     * @return List of enemy projectiles.
+     * @return Live list view of enemy projectiles.
      */
     public List<ActiveActorDestructible> getEnemyProjectiles() {
-        return enemyProjectiles;
+        return enemyProjectiles.asList();
     }
 
     /**
-     * Updates all entities by calling their `updateActor` and `updateBoundingBox` methods.
+     * Advances all entities by one frame and then syncs their views once.
+     * Kinematic entities are integrated directly in the stores; only scripted ones run `updateActor`.
      */
     public void updateEntities() {
-        updateActors(friendlyUnits);
-        updateActors(enemyUnits);
-        updateActors(userProjectiles);
-        updateActors(enemyProjectiles);
-    }
+        friendlyUnits.update();
+        enemyUnits.update();
+        userProjectiles.update();
+        enemyProjectiles.update();
 
-    /**
-     * Updates a list of actors by calling their update methods.
-     *
-     * @param actors The list of actors to update.
-     */
-    private void updateActors(List<ActiveActorDestructible> actors) {
-        for (ActiveActorDestructible actor : actors) {
-            actor.updateActor(); // Update actor position or state.
-            actor.updateBoundingBox(); // Update actor's bounding box for collision detection.
-        }
+        friendlyUnits.syncViews();
+        enemyUnits.syncViews();
+        userProjectiles.syncViews();
+        enemyProjectiles.syncViews();
     }
 
     /**
@@ -135,59 +248,85 @@ public class EntityManager {
      * @return The number of enemies destroyed.
      */
     public int removeAllDestroyedActors() {
-        int enemiesDestroyed = removeDestroyedActors(enemyUnits); // Count destroyed enemies.
-        removeDestroyedActors(friendlyUnits); // Remove destroyed friendly units.
-        removeDestroyedActors(userProjectiles); // Remove destroyed user projectiles.
-        removeDestroyedActors(enemyProjectiles); // Remove destroyed enemy projectiles.
+        int enemiesDestroyed = enemyUnits.removeDestroyed(detachViewCallback); // Count destroyed enemies.
+        friendlyUnits.removeDestroyed(detachViewCallback); // Remove destroyed friendly units.
+        userProjectiles.removeDestroyed(detachViewCallback); // Remove destroyed user projectiles.
+        enemyProjectiles.removeDestroyed(detachViewCallback); // Remove destroyed enemy projectiles.
         return enemiesDestroyed;
     }
 
     /**
-     * Removes all destroyed actors from a given list.
+     * Destroys projectiles that have flown completely off the screen, so they are removed
+     * and recycled instead of travelling forever.
      *
-     * @param actors The list of actors to check for destruction.
-     * @return The number of destroyed actors removed.
+     * @param screenWidth The width of the screen.
      */
-    private int removeDestroyedActors(List<ActiveActorDestructible> actors) {
-        List<ActiveActorDestructible> destroyedActors = actors.stream()
-                .filter(ActiveActorDestructible::isDestroyed) // Find destroyed actors.
-                .toList();
+    public void destroyOffscreenProjectiles(double screenWidth) {
+        destroyOffscreen(userProjectiles, screenWidth);
+        destroyOffscreen(enemyProjectiles, screenWidth);
+    }
 
-        for (ActiveActorDestructible actor : destroyedActors) {
+    /**
+     * Destroys the actors of a store whose hitbox lies completely outside the screen horizontally.
+     *
+     * @param store       The store to scan.
+     * @param screenWidth The width of the screen.
+     */
+    private void destroyOffscreen(EntityStore store, double screenWidth) {
+        for (int i = 0; i < store.size(); i++) {
+            ActiveActorDestructible actor = store.getActor(i);
+            if (actor.getHitboxMaxX() < 0 || actor.getHitboxMinX() > screenWidth) {
+                actor.destroy();
+            }
+        }
+    }
+
+    /**
+     * Removes an actor and its bounding box from the root group.
+     * Projectiles are then returned to their pool.
+     *
+     * @param actor The actor to detach.
+     */
+    private void detachView(ActiveActorDestructible actor) {
+        if (canvasRenderer == null) {
             root.getChildren().remove(actor); // Remove the actor from the root group.
             root.getChildren().remove(actor.getBoundingBox()); // Remove the actor's bounding box.
         }
-        actors.removeAll(destroyedActors); // Remove actors from the list.
-        return destroyedActors.size();
+        if (actor instanceof Projectile projectile) {
+            projectile.returnToPool(); // Recycle the projectile for later shots.
+        }
+    }
+
+    /**
+     * Lets a plane take its projectiles from the pools managed here.
+     *
+     * @param actor The actor being added to the game.
+     */
+    private void attachProjectilePools(ActiveActorDestructible actor) {
+        if (actor instanceof FighterPlane plane) {
+            plane.setProjectilePools(projectilePools);
+        }
     }
 
     /**
      * Clears all enemy units from the game.
      */
     public void clearEnemies() {
-        for (ActiveActorDestructible enemy : new ArrayList<>(enemyUnits)) {
-            root.getChildren().remove(enemy); // Remove enemy from root group.
-            root.getChildren().remove(enemy.getBoundingBox()); // Remove bounding box.
-        }
-        enemyUnits.clear(); // Clear the enemy list.
+        enemyUnits.clear(detachViewCallback);
+    }
+
+    /**
+     * Clears all friendly units, including the user's plane, from the game.
+     */
+    public void clearFriendlyUnits() {
+        friendlyUnits.clear(detachViewCallback);
     }
 
     /**
      * Clears all projectiles (both user and enemy) from the game.
      */
     public void clearAllProjectiles() {
-        // Remove all user projectiles.
-        for (ActiveActorDestructible projectile : new ArrayList<>(userProjectiles)) {
-            root.getChildren().remove(projectile);
-            root.getChildren().remove(projectile.getBoundingBox());
-        }
-        userProjectiles.clear();
-
-        // Remove all enemy projectiles.
-        for (ActiveActorDestructible projectile : new ArrayList<>(enemyProjectiles)) {
-            root.getChildren().remove(projectile);
-            root.getChildren().remove(projectile.getBoundingBox());
-        }
-        enemyProjectiles.clear();
+        userProjectiles.clear(detachViewCallback); // Remove all user projectiles.
+        enemyProjectiles.clear(detachViewCallback); // Remove all enemy projectiles.
     }
 }
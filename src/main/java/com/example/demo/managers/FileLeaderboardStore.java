@@ -0,0 +1,248 @@
+package com.example.demo.managers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A leaderboard store backed by a {@link ScoreLog} that keeps every game, with a {@link LeaderboardIndex}
+ * answering leaderboard reads. The index is saved next to the log as a {@link LeaderboardSnapshot} when the
+ * store is opened and closed, so opening it reads the snapshot and only the games saved since, not the whole log.
+ * Saved games join the index at once and are appended to the log by a background {@link ScoreWriter}.
+ * If there is no log yet, the scores of an old text log, or else of an old leaderboard file, are ranked
+ * instead and migrated into the log with the first game saved.
+ */
+public class FileLeaderboardStore implements LeaderboardStore {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 5; // Longest wait for pending games when closing.
+    private static final String SNAPSHOT_SUFFIX = ".idx"; // Appended to the log's name to name the snapshot.
+
+    private final LeaderboardIndex index; // Best entries per board.
+    private final ScoreLog scoreLog; // Log every game is appended to.
+    private final ScoreWriter scoreWriter; // Background writer of the log.
+    private final Path snapshotFile; // Saved index, next to the log.
+    private final Clock clock; // Source of the current time, for the snapshot's index.
+    private LeaderboardSnapshot logged; // Index of the log as it was opened, or null if there was no log.
+    private List<ScoreEntry> legacyEntries = List.of(); // Games from an old file not yet written to the log.
+
+    /**
+     * Constructor to open a store, reading its snapshot and the games logged since, or else its whole log
+     * or old files, into the index. A log holding damaged records, such as one torn by a crash, is compacted.
+     *
+     * @param logFile     The binary score log.
+     * @param textLogFile The old text score log, holding one checksummed line per game.
+     * @param legacyFile  The old leaderboard file, holding one score per line.
+     * @param capacity    The number of entries kept per leaderboard.
+     * @param clock       The source of the current time, for day and week leaderboards.
+     */
+    public FileLeaderboardStore(Path logFile, Path textLogFile, Path legacyFile, int capacity, Clock clock) {
+        this.index = new LeaderboardIndex(capacity, clock);
+        this.scoreLog = new ScoreLog(logFile);
+        this.scoreWriter = new ScoreWriter(scoreLog, ScoreWriter.SyncPolicy.EVERY_BATCH);
+        this.snapshotFile = logFile.resolveSibling(logFile.getFileName() + SNAPSHOT_SUFFIX);
+        this.clock = clock;
+        if (scoreLog.exists()) {
+            try {
+                openLog();
+            } catch (IOException e) {
+                System.err.println("Error reading score log: " + e.getMessage()); // Log errors during file reading.
+            }
+        } else if (Files.exists(textLogFile)) {
+            try {
+                legacyEntries = ScoreLog.readTextLog(textLogFile);
+                legacyEntries.forEach(index::add);
+            } catch (IOException e) {
+                System.err.println("Error reading text score log: " + e.getMessage()); // Log errors during file reading.
+            }
+        } else if (Files.exists(legacyFile)) {
+            legacyEntries = loadLegacyScores(legacyFile);
+            legacyEntries.forEach(index::add);
+        } else {
+            System.out.println("Score log does not exist. Starting with an empty leaderboard.");
+        }
+    }
+
+    /**
+     * Ranks the log into the index: the saved snapshot if it matches the log, then every record after it.
+     * A log with damaged records is compacted and ranked again in full. The snapshot is then brought up to date.
+     *
+     * @throws IOException If the log cannot be read.
+     */
+    private void openLog() throws IOException {
+        LeaderboardSnapshot snapshot = LeaderboardSnapshot.read(snapshotFile);
+        long from = 0;
+        if (snapshot != null && snapshot.matches(scoreLog)) {
+            snapshot.getEntries().forEach(index::add);
+            from = snapshot.getCoveredRecords();
+        }
+        long records = scoreLog.scan(from, index::add);
+        if (scoreLog.needsCompaction()) {
+            System.err.println("Skipped " + scoreLog.getDamagedRecordCount() + " damaged records in score log; compacting.");
+            scoreLog.compact();
+            index.clear(); // Records moved, so rank the compacted log from the start.
+            records = scoreLog.scan(0, index::add);
+        }
+        logged = new LeaderboardSnapshot(records, records == 0 ? -1 : scoreLog.readChecksum(records - 1), index.entries());
+        if (snapshot == null || records != snapshot.getCoveredRecords()) {
+            saveSnapshot(logged);
+        }
+    }
+
+    /**
+     * Saves the index of the log as it is once every pending game is written: the entries ranked when the
+     * store was opened, plus every record appended since, by this process or another. If another process
+     * rewrote the log meanwhile, it is ranked from the start instead.
+     */
+    private void saveSnapshotOnClose() {
+        if (!scoreLog.exists()) {
+            return;
+        }
+        try {
+            LeaderboardSnapshot opened = logged != null && logged.matches(scoreLog)
+                    ? logged : new LeaderboardSnapshot(0, -1, List.of());
+            LeaderboardIndex ranked = new LeaderboardIndex(index.getCapacity(), clock);
+            opened.getEntries().forEach(ranked::add);
+            long records = scoreLog.scan(opened.getCoveredRecords(), ranked::add);
+            if (!scoreLog.needsCompaction()) { // Otherwise the next open finds the damage and compacts.
+                saveSnapshot(new LeaderboardSnapshot(records, records == 0 ? -1 : scoreLog.readChecksum(records - 1), ranked.entries()));
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading score log: " + e.getMessage()); // Log errors during file reading.
+        }
+    }
+
+    /**
+     * Writes the snapshot file.
+     *
+     * @param snapshot The index of the log to save.
+     */
+    private void saveSnapshot(LeaderboardSnapshot snapshot) {
+        try {
+            snapshot.write(snapshotFile);
+        } catch (IOException e) {
+            System.err.println("Error saving leaderboard snapshot: " + e.getMessage()); // The log is read in full next time.
+        }
+    }
+
+    /**
+     * Adds a game to the index and queues it for the log.
+     *
+     * @param entry The finished game.
+     */
+    @Override
+    public synchronized void submit(ScoreEntry entry) {
+        index.add(entry);
+        if (legacyEntries.isEmpty()) {
+            scoreWriter.submit(entry);
+        } else {
+            List<ScoreEntry> imported = new ArrayList<>(legacyEntries); // Start the log with the old games.
+            imported.add(entry);
+            scoreWriter.submitAll(imported);
+            legacyEntries = List.of();
+        }
+    }
+
+    /**
+     * Reads the best entries of one leaderboard from the index.
+     *
+     * @param mode   The game mode.
+     * @param period The period the scores were reached in.
+     * @param topN   The number of entries wanted.
+     * @return Up to `topN` entries, best first.
+     */
+    @Override
+    public List<ScoreEntry> getTop(String mode, LeaderboardPeriod period, int topN) {
+        return index.getTop(mode, period, topN);
+    }
+
+    /**
+     * Reads the whole log, after waiting for games still being written.
+     *
+     * @return The saved games, oldest first.
+     */
+    @Override
+    public synchronized List<ScoreEntry> getHistory() {
+        if (!legacyEntries.isEmpty()) {
+            return new ArrayList<>(legacyEntries);
+        }
+        scoreWriter.flush(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS); // Include games still being written.
+        try {
+            return scoreLog.load();
+        } catch (IOException e) {
+            System.err.println("Error reading score log: " + e.getMessage()); // Log errors during file reading.
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Waits until every game submitted so far is written to the log and forced to disk.
+     *
+     * @param timeout The longest time to wait.
+     * @param unit    The unit of the timeout.
+     * @return True if every game was written in time, false otherwise.
+     */
+    @Override
+    public boolean flush(long timeout, TimeUnit unit) {
+        return scoreWriter.flush(timeout, unit);
+    }
+
+    /**
+     * Writes the games still pending, stops the background writer and saves the snapshot of the index.
+     */
+    @Override
+    public void close() {
+        if (!scoreWriter.close(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            System.err.println("Timed out writing pending scores to the score log.");
+        }
+        saveSnapshotOnClose();
+    }
+
+    /**
+     * Registers a listener told of every row that changes on any leaderboard.
+     *
+     * @param listener The listener to add.
+     */
+    @Override
+    public void addListener(LeaderboardIndex.Listener listener) {
+        index.addListener(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener to remove.
+     */
+    @Override
+    public void removeListener(LeaderboardIndex.Listener listener) {
+        index.removeListener(listener);
+    }
+
+    /**
+     * Reads the scores of an old leaderboard file, one integer per line. Invalid lines are ignored.
+     *
+     * @param path The old leaderboard file.
+     * @return The scores as endless mode entries with no timestamp, wave or duration.
+     */
+    private static List<ScoreEntry> loadLegacyScores(Path path) {
+        List<ScoreEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    int score = Integer.parseInt(line.trim()); // Parse the score.
+                    entries.add(new ScoreEntry(0, LeaderboardManager.ENDLESS_MODE, score, 0, 0));
+                } catch (NumberFormatException e) {
+                    System.err.println("Invalid score in leaderboard file: " + line); // Log invalid scores.
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading leaderboard file: " + e.getMessage()); // Log errors during file reading.
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.managers;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Game loop driven by the display's pulse that advances the simulation in fixed steps.
+ * Elapsed time is collected in an accumulator and spent one step at a time, so the game runs at the same
+ * speed on any refresh rate. After the steps, a render callback receives how far the frame lies between
+ * the last two steps, so moving actors can be drawn smoothly in between.
+ * If the game falls behind, at most a fixed number of steps are run per frame and the rest of the
+ * backlog is dropped, instead of freezing while trying to catch up.
+ */
+public class FixedStepGameLoop extends AnimationTimer {
+
+    // Default number of steps run in one frame before the remaining backlog is dropped.
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
+    private final long stepNanos; // Length of one simulation step.
+    private final int maxStepsPerFrame; // Catch-up cap per frame.
+    private final Runnable step; // Advances the simulation by one step.
+    private final DoubleConsumer render; // Draws a frame, given the interpolation factor.
+
+    private long lastFrameTime = -1; // Time of the previous frame, or -1 before the first one.
+    private long accumulator; // Elapsed time not yet spent on steps.
+    private boolean stopped; // Set when the loop is stopped, e.g. by a step that ends the game.
+
+    /**
+     * Constructor to initialize the loop with the default catch-up cap.
+     *
+     * @param stepMillis Length of one simulation step in milliseconds.
+     * @param step       Advances the simulation by one step.
+     * @param render     Draws a frame, given how far it lies between the last two steps (0 to 1).
+     */
+    public FixedStepGameLoop(double stepMillis, Runnable step, DoubleConsumer render) {
+        this(stepMillis, DEFAULT_MAX_STEPS_PER_FRAME, step, render);
+    }
+
+    /**
+     * Constructor to initialize the loop.
+     *
+     * @param stepMillis       Length of one simulation step in milliseconds.
+     * @param maxStepsPerFrame Maximum number of steps run in one frame.
+     * @param step             Advances the simulation by one step.
+     * @param render           Draws a frame, given how far it lies between the last two steps (0 to 1).
+     * @throws IllegalArgumentException If the step length or the catch-up cap is not positive.
+     */
+    public FixedStepGameLoop(double stepMillis, int maxStepsPerFrame, Runnable step, DoubleConsumer render) {
+        if (stepMillis <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Step length and steps per frame must be positive");
+        }
+        this.stepNanos = (long) (stepMillis * 1_000_000);
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.step = step;
+        this.render = render;
+    }
+
+    /**
+     * Starts the loop. Time spent stopped or paused is not simulated afterwards.
+     */
+    @Override
+    public void start() {
+        lastFrameTime = -1;
+        accumulator = 0;
+        stopped = false;
+        super.start();
+    }
+
+    /**
+     * Stops the loop, including any catch-up steps left in the current frame.
+     */
+    @Override
+    public void stop() {
+        stopped = true;
+        super.stop();
+    }
+
+    /**
+     * Called by JavaFX on every pulse.
+     *
+     * @param now The pulse time in nanoseconds.
+     */
+    @Override
+    public void handle(long now) {
+        advance(now);
+    }
+
+    /**
+     * Runs the steps due by the given time and renders the frame.
+     *
+     * @param now The current time in nanoseconds.
+     * @return The number of steps run.
+     */
+    public int advance(long now) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = now; // Nothing to simulate before the first frame.
+            render.accept(1);
+            return 0;
+        }
+        accumulator += now - lastFrameTime;
+        lastFrameTime = now;
+
+        int steps = 0;
+        while (accumulator >= stepNanos && steps < maxStepsPerFrame && !stopped) {
+            step.run();
+            accumulator -= stepNanos;
+            steps++;
+        }
+        if (accumulator >= stepNanos) {
+            accumulator %= stepNanos; // Too far behind: drop the backlog rather than spiral.
+        }
+        if (!stopped) {
+            render.accept((double) accumulator / stepNanos);
+        }
+        return steps;
+    }
+}
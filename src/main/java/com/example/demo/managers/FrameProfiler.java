@@ -0,0 +1,288 @@
+package com.example.demo.managers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long each phase of a game frame takes.
+ * The game loop marks the end of every phase; the durations of the last frames are kept in a ring buffer
+ * per phase, from which percentiles over that sliding window are computed. The game loop is the only writer
+ * and publishes each finished frame with a single atomic store, so readers such as the on-screen overlay
+ * or a dump never block it.
+ */
+public class FrameProfiler {
+
+    /**
+     * The phases of a frame, in the order they run. FRAME is the whole frame.
+     */
+    public enum Phase {
+        SPAWN,
+        UPDATE,
+        CULL,
+        ENEMY_FIRE,
+        PENETRATION,
+        USER_PROJECTILE_COLLISIONS,
+        ENEMY_PROJECTILE_COLLISIONS,
+        PLANE_COLLISIONS,
+        CLEANUP,
+        HUD,
+        GAME_OVER_CHECK,
+        FRAME
+    }
+
+    /**
+     * Percentiles of one phase over the sliding window, in nanoseconds.
+     */
+    public static final class Stats {
+        private final long p50;
+        private final long p95;
+        private final long p99;
+        private final long max;
+
+        /**
+         * Constructor to initialize the statistics.
+         *
+         * @param p50 The median duration.
+         * @param p95 The 95th percentile duration.
+         * @param p99 The 99th percentile duration.
+         * @param max The longest duration.
+         */
+        Stats(long p50, long p95, long p99, long max) {
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        /**
+         * Retrieves the median duration.
+         *
+         * @return The 50th percentile in nanoseconds.
+         */
+        public long getP50() {
+            return p50;
+        }
+
+        /**
+         * Retrieves the 95th percentile duration.
+         *
+         * @return The 95th percentile in nanoseconds.
+         */
+        public long getP95() {
+            return p95;
+        }
+
+        /**
+         * Retrieves the 99th percentile duration.
+         *
+         * @return The 99th percentile in nanoseconds.
+         */
+        public long getP99() {
+            return p99;
+        }
+
+        /**
+         * Retrieves the longest duration.
+         *
+         * @return The maximum in nanoseconds.
+         */
+        public long getMax() {
+            return max;
+        }
+    }
+
+    // Default number of frames in the sliding window.
+    public static final int DEFAULT_WINDOW = 256;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final int window; // Number of frames kept per phase.
+    private final long[][] samples; // Ring buffer of durations, indexed by phase then frame slot.
+    private final long[] current; // Durations of the frame being recorded.
+    private final AtomicLong frameCount = new AtomicLong(); // Number of finished frames, published after each frame.
+
+    private long frameStart; // Start time of the frame being recorded.
+    private long lastMark; // Time the previous phase ended.
+
+    /**
+     * Constructor to initialize a profiler with the default window.
+     */
+    public FrameProfiler() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * Constructor to initialize a profiler with a specific window.
+     *
+     * @param window The number of frames kept for the statistics.
+     * @throws IllegalArgumentException If the window is not positive.
+     */
+    public FrameProfiler(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.window = window;
+        this.samples = new long[PHASES.length][window];
+        this.current = new long[PHASES.length];
+    }
+
+    /**
+     * Starts recording a frame.
+     */
+    public void beginFrame() {
+        Arrays.fill(current, 0);
+        frameStart = System.nanoTime();
+        lastMark = frameStart;
+    }
+
+    /**
+     * Ends a phase, charging it the time since the previous phase ended.
+     *
+     * @param phase The phase that just finished.
+     */
+    public void mark(Phase phase) {
+        long now = System.nanoTime();
+        current[phase.ordinal()] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Finishes the frame and publishes its durations to the window.
+     */
+    public void endFrame() {
+        current[Phase.FRAME.ordinal()] = System.nanoTime() - frameStart;
+        long frame = frameCount.get();
+        int slot = (int) (frame % window);
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            samples[phase][slot] = current[phase];
+        }
+        frameCount.setRelease(frame + 1); // Make the frame visible to readers.
+    }
+
+    /**
+     * Retrieves the number of frames recorded so far.
+     *
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return frameCount.getAcquire();
+    }
+
+    /**
+     * Computes the percentiles of a phase over the sliding window.
+     *
+     * @param phase The phase to summarize.
+     * @return The phase's statistics, all zero if no frame has been recorded.
+     */
+    public Stats getStats(Phase phase) {
+        long[] sorted = copyWindow(phase);
+        Arrays.sort(sorted);
+        return new Stats(percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    /**
+     * Computes the percentiles of every phase over the sliding window.
+     *
+     * @return The statistics of each phase, in phase order.
+     */
+    public Map<Phase, Stats> getAllStats() {
+        Map<Phase, Stats> stats = new EnumMap<>(Phase.class);
+        for (Phase phase : PHASES) {
+            stats.put(phase, getStats(phase));
+        }
+        return stats;
+    }
+
+    /**
+     * Writes the statistics of every phase, followed by the raw durations of each frame in the window,
+     * to a CSV file. Times are in milliseconds.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void dump(Path file) throws IOException {
+        long[][] copies = new long[PHASES.length][];
+        int frames = window;
+        for (Phase phase : PHASES) {
+            copies[phase.ordinal()] = copyWindow(phase);
+            frames = Math.min(frames, copies[phase.ordinal()].length); // Frames may finish while copying.
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("phase,p50_ms,p95_ms,p99_ms,max_ms");
+            writer.newLine();
+            for (Phase phase : PHASES) {
+                Stats stats = getStats(phase);
+                writer.write(phase + "," + millis(stats.getP50()) + "," + millis(stats.getP95()) + ","
+                        + millis(stats.getP99()) + "," + millis(stats.getMax()));
+                writer.newLine();
+            }
+
+            writer.newLine();
+            StringBuilder header = new StringBuilder("frame");
+            for (Phase phase : PHASES) {
+                header.append(',').append(phase);
+            }
+            writer.write(header.toString());
+            writer.newLine();
+            for (int frame = 0; frame < frames; frame++) {
+                StringBuilder row = new StringBuilder(Integer.toString(frame));
+                for (Phase phase : PHASES) {
+                    row.append(',').append(millis(copies[phase.ordinal()][frame]));
+                }
+                writer.write(row.toString());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Copies the recorded durations of a phase, oldest first.
+     *
+     * @param phase The phase to copy.
+     * @return The durations in the window.
+     */
+    private long[] copyWindow(Phase phase) {
+        long frames = getFrameCount();
+        int count = (int) Math.min(frames, window);
+        long[] copy = new long[count];
+        long first = frames - count;
+        for (int i = 0; i < count; i++) {
+            copy[i] = samples[phase.ordinal()][(int) ((first + i) % window)];
+        }
+        return copy;
+    }
+
+    /**
+     * Picks a percentile from sorted durations using the nearest-rank method.
+     *
+     * @param sorted   The durations, sorted ascending.
+     * @param fraction The percentile as a fraction (e.g. 0.95).
+     * @return The duration at that percentile, or 0 if there are none.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Formats nanoseconds as milliseconds.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The duration in milliseconds, with three decimals.
+     */
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -7,12 +7,39 @@ import javafx.scene.Group;
 import javafx.scene.image.ImageView;
 import javafx.util.Duration;
 
+import java.util.function.DoubleConsumer;
+
 /**
  * Class responsible for initializing the game environment and its components.
  * Handles setup for the background, player (user), and timeline for game updates.
  */
 public class GameInitializer {
 
+    /**
+     * How the game loop is driven.
+     */
+    public enum LoopMode {
+        TIMELINE, // A Timeline key frame runs one update every fixed delay.
+        FIXED_STEP; // An AnimationTimer runs fixed steps from an accumulator and interpolates rendering.
+
+        /**
+         * Reads the loop mode from the `demo.loopMode` system property.
+         *
+         * @return The selected loop mode, or TIMELINE if none or an unknown one is set.
+         */
+        public static LoopMode fromSystemProperty() {
+            String value = System.getProperty("demo.loopMode");
+            if (value != null) {
+                for (LoopMode mode : values()) {
+                    if (mode.name().equalsIgnoreCase(value)) {
+                        return mode;
+                    }
+                }
+            }
+            return TIMELINE;
+        }
+    }
+
     private final Group root; // The root group containing all game elements.
     private final ImageView background; // Background image for the game.
     private final UserPlane user; // The player's plane.
@@ -64,4 +91,15 @@ public class GameInitializer {
         KeyFrame gameLoop = new KeyFrame(Duration.millis(millisecondDelay), e -> updateScene.run()); // Define the game loop frame.
         timeline.getKeyFrames().add(gameLoop); // Add the game loop frame to the timeline.
     }
+
+    /**
+     * Creates a fixed-step game loop that steps the simulation at the same rate as the timeline would.
+     *
+     * @param step   A runnable that advances the game by one step.
+     * @param render A callback that draws a frame, given how far it lies between the last two steps.
+     * @return The game loop, not yet started.
+     */
+    public FixedStepGameLoop createFixedStepLoop(Runnable step, DoubleConsumer render) {
+        return new FixedStepGameLoop(millisecondDelay, step, render);
+    }
 }
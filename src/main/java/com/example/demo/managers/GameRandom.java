@@ -0,0 +1,129 @@
+package com.example.demo.managers;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of randomness for one level, seeded when the level starts.
+ * Each gameplay subsystem draws from its own stream, split from the seed in a fixed order, so a level
+ * started with the same seed and the same input plays out the same way, and an extra draw in one
+ * subsystem does not shift the numbers seen by the others. The streams are unsynchronized and meant
+ * to be used from the game thread only. A level can be reseeded before it starts, e.g. to replay a
+ * recording; the streams handed out earlier follow the new seed.
+ */
+public class GameRandom {
+
+    /**
+     * The subsystems that draw random numbers, each from its own stream.
+     */
+    public enum Stream {
+        SPAWN, // Whether and where enemies spawn.
+        ENEMY_FIRE, // When enemy planes fire.
+        BOSS // The boss's moves, shots and shield.
+    }
+
+    /**
+     * A subsystem's stream. It stays the same object when the source is reseeded, so actors holding it
+     * follow the new seed.
+     */
+    private static final class SeededStream implements RandomGenerator {
+        private SplittableRandom random; // Generator for the current seed.
+
+        /**
+         * Draws the next random long.
+         *
+         * @return The next random long.
+         */
+        @Override
+        public long nextLong() {
+            return random.nextLong();
+        }
+
+        /**
+         * Draws the next random double between 0 (inclusive) and 1 (exclusive).
+         *
+         * @return The next random double.
+         */
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+
+        /**
+         * Draws the next random int.
+         *
+         * @return The next random int.
+         */
+        @Override
+        public int nextInt() {
+            return random.nextInt();
+        }
+    }
+
+    private final Map<Stream, SeededStream> streams = new EnumMap<>(Stream.class);
+    private long seed; // Seed the streams were split from.
+
+    /**
+     * Constructor to initialize the streams from a seed.
+     *
+     * @param seed The seed of the level.
+     */
+    public GameRandom(long seed) {
+        for (Stream stream : Stream.values()) {
+            streams.put(stream, new SeededStream());
+        }
+        reseed(seed);
+    }
+
+    /**
+     * Creates a random source seeded from the `demo.seed` system property, so a run can be repeated.
+     *
+     * @return A random source with the configured seed, or with a fresh random seed if none or an invalid one is set.
+     */
+    public static GameRandom fromSystemProperty() {
+        String value = System.getProperty("demo.seed");
+        if (value != null) {
+            try {
+                return new GameRandom(Long.parseLong(value.trim()));
+            } catch (NumberFormatException ignored) {
+                // Fall through to a random seed.
+            }
+        }
+        return new GameRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Retrieves the seed the streams were split from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Restarts every stream from a new seed.
+     *
+     * @param seed The new seed.
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (Stream stream : Stream.values()) {
+            streams.get(stream).random = root.split();
+        }
+    }
+
+    /**
+     * Retrieves the stream of a subsystem.
+     *
+     * @param stream The subsystem.
+     * @return The subsystem's random generator.
+     */
+    public RandomGenerator stream(Stream stream) {
+        return streams.get(stream);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.managers;
+
+/**
+ * Process-wide switch for running levels without a display.
+ * While enabled, levels skip their scene, input and pause menu, the sprite cache hands out blank images
+ * of the right size instead of decoding files, and the sound manager stays silent, so the game logic
+ * can be stepped directly, e.g. from tests or batch simulations.
+ */
+public final class HeadlessMode {
+
+    private static volatile boolean enabled; // Whether headless mode is on.
+
+    /**
+     * Private constructor, as the switch is only used through its static methods.
+     */
+    private HeadlessMode() {
+    }
+
+    /**
+     * Checks whether headless mode is on.
+     *
+     * @return True if levels run without a display, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns headless mode on or off. Cached images are dropped, so images and placeholders are never mixed.
+     * Should be called before any level is created.
+     *
+     * @param headless True to run without a display, false to run normally.
+     */
+    public static void setEnabled(boolean headless) {
+        if (enabled != headless) {
+            enabled = headless;
+            SpriteCache.clear();
+        }
+    }
+}
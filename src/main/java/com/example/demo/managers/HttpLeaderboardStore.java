@@ -0,0 +1,398 @@
+package com.example.demo.managers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A leaderboard store that is a client of a {@link LeaderboardService}, so several game processes share
+ * one leaderboard without writing the same file.
+ * Submitted games are posted in batches by a background {@link ScoreWriter}, which keeps a batch the service
+ * could not store and posts it again until it is stored or the store is closed. Every attempt at a batch
+ * carries the same idempotency key, so a batch the service took but did not answer in time is not stored twice.
+ * Reads never wait on the network: leaderboards are answered from a local copy, which a background thread
+ * fetches on first read and again once it is older than the refresh interval. The service cannot tell which
+ * rows changed, so when a fetched copy differs from the one held, or a post is stored, listeners are told
+ * that the leaderboard was reset and should be read again.
+ */
+public class HttpLeaderboardStore implements LeaderboardStore {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2); // Longest wait for the service to connect or read.
+    // Longest wait for a post, longer than the service waits to store it, so a slow store is not taken as a failure.
+    private static final Duration POST_TIMEOUT = Duration.ofSeconds(LeaderboardService.STORE_TIMEOUT_SECONDS + 2);
+    private static final long CLOSE_TIMEOUT_SECONDS = 5; // Longest wait for pending games when closing.
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1); // Wait before posting a failed batch again.
+
+    // How long a fetched leaderboard is used before it is fetched again, by default.
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    /**
+     * The local copy of one leaderboard.
+     */
+    private static final class CachedBoard {
+        private final List<ScoreEntry> entries; // Best entries, best first.
+        private final int requested; // Number of entries asked of the service.
+        private final long fetchedNanos; // When the copy was fetched.
+
+        /**
+         * Constructor to initialize a fetched copy.
+         *
+         * @param entries      The best entries, best first.
+         * @param requested    The number of entries asked of the service.
+         * @param fetchedNanos When the copy was fetched, from {@link System#nanoTime()}.
+         */
+        private CachedBoard(List<ScoreEntry> entries, int requested, long fetchedNanos) {
+            this.entries = entries;
+            this.requested = requested;
+            this.fetchedNanos = fetchedNanos;
+        }
+    }
+
+    private final String service; // Base URI of the service, without a trailing slash.
+    private final HttpClient client; // Sends the requests.
+    private final ScoreWriter writer; // Posts submitted games in batches.
+    private final List<LeaderboardIndex.Listener> listeners = new CopyOnWriteArrayList<>(); // Told of changed boards.
+    private final long refreshNanos; // Age at which a local copy is fetched again.
+    private final Map<String, CachedBoard> boards = new ConcurrentHashMap<>(); // Local copies by board key.
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet(); // Boards being fetched.
+    private final ExecutorService refresher; // Fetches boards off the caller's thread.
+    private String pendingKey; // Key of the batch that failed last, reused when it is posted again; writer thread only.
+
+    /**
+     * Constructor to initialize a client of a service, refreshing leaderboards at the default interval.
+     *
+     * @param service The base URI of the service, such as http://127.0.0.1:8765.
+     */
+    public HttpLeaderboardStore(URI service) {
+        this(service, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * Constructor to initialize a client of a service.
+     *
+     * @param service         The base URI of the service, such as http://127.0.0.1:8765.
+     * @param refreshInterval How long a fetched leaderboard is used before it is fetched again.
+     */
+    public HttpLeaderboardStore(URI service, Duration refreshInterval) {
+        String base = service.toString();
+        this.service = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+        this.client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+        this.refreshNanos = refreshInterval.toNanos();
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writer = new ScoreWriter(this::post, ScoreWriter.SyncPolicy.EVERY_BATCH, RETRY_DELAY);
+    }
+
+    /**
+     * Queues a game to be posted.
+     *
+     * @param entry The finished game.
+     */
+    @Override
+    public void submit(ScoreEntry entry) {
+        writer.submit(entry);
+    }
+
+    /**
+     * Reads the best entries of one leaderboard from the local copy, without waiting on the network.
+     * A board not fetched yet, or fetched longer ago than the refresh interval, is fetched in the background,
+     * and listeners are told once it changes.
+     *
+     * @param mode   The game mode.
+     * @param period The period the scores were reached in.
+     * @param topN   The number of entries wanted.
+     * @return Up to `topN` entries, best first; empty until the board has been fetched.
+     */
+    @Override
+    public List<ScoreEntry> getTop(String mode, LeaderboardPeriod period, int topN) {
+        CachedBoard board = boards.get(key(mode, period));
+        if (board == null || board.requested < topN || System.nanoTime() - board.fetchedNanos >= refreshNanos) {
+            refreshLater(mode, period, topN);
+        }
+        if (board == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(board.entries.subList(0, Math.min(topN, board.entries.size())));
+    }
+
+    /**
+     * Waits until the leaderboards being fetched in the background have been fetched.
+     *
+     * @param timeout The longest time to wait.
+     * @param unit    The unit of the timeout.
+     * @return True if every fetch finished in time, false otherwise.
+     */
+    public boolean awaitRefresh(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!refreshing.isEmpty()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Asks the service for every game it stored.
+     *
+     * @return The saved games, oldest first; empty if the service cannot be reached.
+     */
+    @Override
+    public List<ScoreEntry> getHistory() {
+        flush(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS); // Include games still being posted.
+        return fetch(LeaderboardService.HISTORY_PATH);
+    }
+
+    /**
+     * Waits until every game submitted so far is posted and stored by the service.
+     *
+     * @param timeout The longest time to wait.
+     * @param unit    The unit of the timeout.
+     * @return True if every game was posted in time, false otherwise.
+     */
+    @Override
+    public boolean flush(long timeout, TimeUnit unit) {
+        return writer.flush(timeout, unit);
+    }
+
+    /**
+     * Posts the games still pending and stops the background writer and refreshes. Games the service still
+     * cannot store when the wait times out are dropped.
+     */
+    @Override
+    public void close() {
+        if (!writer.close(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            System.err.println("Timed out posting pending scores to the leaderboard service.");
+        }
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Registers a listener told when posted games have been stored.
+     *
+     * @param listener The listener to add.
+     */
+    @Override
+    public void addListener(LeaderboardIndex.Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener to remove.
+     */
+    @Override
+    public void removeListener(LeaderboardIndex.Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Posts a batch of games and waits until the service has stored them. The local copies of the boards
+     * of their modes are then fetched again before listeners are told, so they read the new rows.
+     * The writer posts a failed batch again before any other, so a post after a failure reuses its key.
+     *
+     * @param entries The games to post.
+     * @param force   Unused; the service stores games durably before answering.
+     * @throws IOException If the service cannot be reached or refuses the games.
+     */
+    private void post(Collection<ScoreEntry> entries, boolean force) throws IOException {
+        String key = pendingKey != null ? pendingKey : UUID.randomUUID().toString();
+        pendingKey = key; // Kept until the service answers that the batch is stored.
+        HttpRequest request = HttpRequest.newBuilder(URI.create(service + LeaderboardService.SCORES_PATH))
+                .timeout(POST_TIMEOUT)
+                .header("Content-Type", "text/plain; charset=utf-8")
+                .header(LeaderboardService.IDEMPOTENCY_KEY_HEADER, key)
+                .POST(HttpRequest.BodyPublishers.ofString(LeaderboardService.toLines(new ArrayList<>(entries)), StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<String> response = send(request);
+        if (response.statusCode() != 200) {
+            throw new IOException("Leaderboard service answered " + response.statusCode() + ": " + response.body());
+        }
+        pendingKey = null;
+        Set<String> modes = new LinkedHashSet<>();
+        entries.forEach(entry -> modes.add(entry.getMode()));
+        for (String mode : modes) {
+            for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+                CachedBoard board = boards.get(key(mode, period));
+                if (board != null) {
+                    refresh(mode, period, board.requested);
+                }
+                notifyReset(mode, period);
+            }
+        }
+    }
+
+    /**
+     * Fetches a board in the background, unless it is already being fetched.
+     *
+     * @param mode   The game mode.
+     * @param period The period.
+     * @param topN   The number of entries wanted.
+     */
+    private void refreshLater(String mode, LeaderboardPeriod period, int topN) {
+        String key = key(mode, period);
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    if (refresh(mode, period, topN)) {
+                        notifyReset(mode, period);
+                    }
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) { // Rejected once closed.
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Fetches a board and replaces its local copy. A board that cannot be fetched keeps its copy.
+     *
+     * @param mode   The game mode.
+     * @param period The period.
+     * @param topN   The number of entries wanted.
+     * @return True if the fetched entries differ from the local copy, false otherwise.
+     */
+    private boolean refresh(String mode, LeaderboardPeriod period, int topN) {
+        String key = key(mode, period);
+        CachedBoard old = boards.get(key);
+        int requested = Math.max(topN, old == null ? 0 : old.requested);
+        List<ScoreEntry> entries;
+        try {
+            entries = read(LeaderboardService.TOP_PATH + "?mode=" + URLEncoder.encode(mode, StandardCharsets.UTF_8)
+                    + "&period=" + period.name() + "&n=" + requested);
+        } catch (IOException e) {
+            System.err.println("Error reading leaderboard service: " + e.getMessage()); // Log errors during reading.
+            return false;
+        }
+        boards.put(key, new CachedBoard(entries, requested, System.nanoTime()));
+        return old == null || !sameRows(old.entries, entries);
+    }
+
+    /**
+     * Compares two leaderboards row by row.
+     *
+     * @param first  One leaderboard.
+     * @param second The other leaderboard.
+     * @return True if both hold the same games in the same order, false otherwise.
+     */
+    private static boolean sameRows(List<ScoreEntry> first, List<ScoreEntry> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (!first.get(i).toLine().equals(second.get(i).toLine())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells every listener that a board should be read again.
+     *
+     * @param mode   The game mode of the board.
+     * @param period The period of the board.
+     */
+    private void notifyReset(String mode, LeaderboardPeriod period) {
+        for (LeaderboardIndex.Listener listener : listeners) {
+            listener.onReset(mode, period);
+        }
+    }
+
+    /**
+     * Builds the key of a board's local copy.
+     *
+     * @param mode   The game mode.
+     * @param period The period.
+     * @return The key.
+     */
+    private static String key(String mode, LeaderboardPeriod period) {
+        return mode + '\t' + period.name();
+    }
+
+    /**
+     * Reads entries from an endpoint of the service, logging failures.
+     *
+     * @param pathAndQuery The endpoint's path and query.
+     * @return The entries; empty if the service cannot be reached.
+     */
+    private List<ScoreEntry> fetch(String pathAndQuery) {
+        try {
+            return read(pathAndQuery);
+        } catch (IOException e) {
+            System.err.println("Error reading leaderboard service: " + e.getMessage()); // Log errors during reading.
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Reads entries from an endpoint of the service.
+     *
+     * @param pathAndQuery The endpoint's path and query.
+     * @return The entries.
+     * @throws IOException If the service cannot be reached or refuses the request.
+     */
+    private List<ScoreEntry> read(String pathAndQuery) throws IOException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(service + pathAndQuery)).timeout(TIMEOUT).GET().build());
+        if (response.statusCode() != 200) {
+            throw new IOException("Leaderboard service answered " + response.statusCode() + ": " + response.body());
+        }
+        List<ScoreEntry> entries = new ArrayList<>();
+        for (String line : response.body().split("\n")) {
+            ScoreEntry entry = line.isEmpty() ? null : ScoreEntry.parse(line);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Sends a request and reads the whole response.
+     *
+     * @param request The request.
+     * @return The response.
+     * @throws IOException If the service cannot be reached, or the wait is interrupted.
+     */
+    private HttpResponse<String> send(HttpRequest request) throws IOException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for the leaderboard service");
+        }
+    }
+}
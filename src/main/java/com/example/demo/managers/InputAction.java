@@ -0,0 +1,81 @@
+package com.example.demo.managers;
+
+import com.example.demo.actor.UserPlane;
+
+/**
+ * The actions the player can take, as produced by the keyboard or read back from a recording.
+ * Each action has a fixed code so recordings stay readable if actions are added later.
+ */
+public enum InputAction {
+    MOVE_UP(0),
+    MOVE_DOWN(1),
+    MOVE_LEFT(2),
+    MOVE_RIGHT(3),
+    STOP_VERTICAL(4),
+    STOP_HORIZONTAL(5),
+    FIRE(6);
+
+    private static final InputAction[] BY_CODE = new InputAction[values().length];
+
+    static {
+        for (InputAction action : values()) {
+            BY_CODE[action.code] = action;
+        }
+    }
+
+    private final int code; // Code stored in recordings.
+
+    /**
+     * Constructor to initialize an action with its recording code.
+     *
+     * @param code The code stored in recordings.
+     */
+    InputAction(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Retrieves the code stored in recordings.
+     *
+     * @return The action's code.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Looks up an action by its recording code.
+     *
+     * @param code The code read from a recording.
+     * @return The action with that code.
+     * @throws IllegalArgumentException If no action has that code.
+     */
+    public static InputAction fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown input action code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Performs the action on the player's plane.
+     *
+     * @param user The player's plane.
+     * @param fire Fires a projectile (optional).
+     */
+    public void apply(UserPlane user, Runnable fire) {
+        switch (this) {
+            case MOVE_UP -> user.moveUp();
+            case MOVE_DOWN -> user.moveDown();
+            case MOVE_LEFT -> user.moveLeft();
+            case MOVE_RIGHT -> user.moveRight();
+            case STOP_VERTICAL -> user.stopVerticalMovement();
+            case STOP_HORIZONTAL -> user.stopHorizontalMovement();
+            case FIRE -> {
+                if (fire != null) {
+                    fire.run();
+                }
+            }
+        }
+    }
+}
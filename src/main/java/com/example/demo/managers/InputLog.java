@@ -0,0 +1,273 @@
+package com.example.demo.managers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded play session of one level: the level's class and seed, the number of steps it ran for,
+ * the number of enemies destroyed and the player's health at that point, and every input action with
+ * the step it was applied before.
+ * The binary form starts with a small header, followed by one entry per action holding the number of
+ * steps since the previous action as a variable-length integer and the action's code as one byte,
+ * so an action usually takes two bytes and a ten-minute session fits in a few kilobytes.
+ */
+public class InputLog {
+
+    private static final int MAGIC = 0x534B5952; // "SKYR"
+    private static final int VERSION = 2; // Version 1 logs have no outcome.
+    private static final int INITIAL_ACTIONS = 1024; // Actions allocated before any is read; more are grown into.
+
+    // Outcome value of logs that did not record one.
+    public static final int UNKNOWN = -1;
+
+    private final String levelClassName; // Level the session was played in.
+    private final long seed; // Seed of the level's random source.
+    private final long steps; // Number of steps the session ran for.
+    private final int enemiesDestroyed; // Enemies destroyed by the end of the session, or UNKNOWN.
+    private final int userHealth; // Player's health at the end of the session, or UNKNOWN.
+    private final long[] actionSteps; // Step each action was applied before, ascending.
+    private final byte[] actionCodes; // Code of each action.
+
+    /**
+     * Constructor to initialize a log. The arrays are used as they are, not copied.
+     *
+     * @param levelClassName   The fully qualified class name of the level.
+     * @param seed             The seed of the level's random source.
+     * @param steps            The number of steps the session ran for.
+     * @param enemiesDestroyed The number of enemies destroyed by the end of the session, or UNKNOWN.
+     * @param userHealth       The player's health at the end of the session, or UNKNOWN.
+     * @param actionSteps      The step each action was applied before, in ascending order.
+     * @param actionCodes      The code of each action.
+     * @throws IllegalArgumentException If the arrays differ in length.
+     */
+    InputLog(String levelClassName, long seed, long steps, int enemiesDestroyed, int userHealth, long[] actionSteps, byte[] actionCodes) {
+        if (actionSteps.length != actionCodes.length) {
+            throw new IllegalArgumentException("Every action needs a step");
+        }
+        this.levelClassName = levelClassName;
+        this.seed = seed;
+        this.steps = steps;
+        this.enemiesDestroyed = enemiesDestroyed;
+        this.userHealth = userHealth;
+        this.actionSteps = actionSteps;
+        this.actionCodes = actionCodes;
+    }
+
+    /**
+     * Retrieves the level the session was played in.
+     *
+     * @return The fully qualified class name of the level.
+     */
+    public String getLevelClassName() {
+        return levelClassName;
+    }
+
+    /**
+     * Retrieves the seed of the level's random source.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the number of steps the session ran for.
+     *
+     * @return The number of steps.
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * Retrieves the number of enemies destroyed by the end of the session.
+     *
+     * @return The number of enemies destroyed, or UNKNOWN if it was not recorded.
+     */
+    public int getEnemiesDestroyed() {
+        return enemiesDestroyed;
+    }
+
+    /**
+     * Retrieves the player's health at the end of the session.
+     *
+     * @return The player's health, or UNKNOWN if it was not recorded.
+     */
+    public int getUserHealth() {
+        return userHealth;
+    }
+
+    /**
+     * Retrieves the number of recorded actions.
+     *
+     * @return The number of actions.
+     */
+    public int size() {
+        return actionCodes.length;
+    }
+
+    /**
+     * Retrieves the step an action was applied before.
+     *
+     * @param index The index of the action.
+     * @return The step number.
+     */
+    public long getStep(int index) {
+        return actionSteps[index];
+    }
+
+    /**
+     * Retrieves a recorded action.
+     *
+     * @param index The index of the action.
+     * @return The action.
+     */
+    public InputAction getAction(int index) {
+        return InputAction.fromCode(actionCodes[index]);
+    }
+
+    /**
+     * Writes the log in its binary form.
+     *
+     * @param out The stream to write to; it is flushed but not closed.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeUTF(levelClassName);
+        data.writeLong(seed);
+        data.writeLong(steps);
+        data.writeInt(enemiesDestroyed);
+        data.writeInt(userHealth);
+        data.writeInt(actionCodes.length);
+        long previous = 0;
+        for (int i = 0; i < actionCodes.length; i++) {
+            writeVarLong(data, actionSteps[i] - previous);
+            data.writeByte(actionCodes[i]);
+            previous = actionSteps[i];
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the log to a file, replacing it if it exists.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a log in its binary form.
+     *
+     * @param in The stream to read from; it is not closed.
+     * @return The log.
+     * @throws IOException If the stream cannot be read or does not hold a log.
+     */
+    public static InputLog read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an input log");
+        }
+        int version = data.readUnsignedByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported input log version: " + version);
+        }
+        String levelClassName = data.readUTF();
+        long seed = data.readLong();
+        long steps = data.readLong();
+        int enemiesDestroyed = version >= 2 ? data.readInt() : UNKNOWN;
+        int userHealth = version >= 2 ? data.readInt() : UNKNOWN;
+        int count = data.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt input log: negative action count");
+        }
+        // The count is not trusted for allocation: a corrupt one runs out of stream before the arrays grow far.
+        long[] actionSteps = new long[Math.min(count, INITIAL_ACTIONS)];
+        byte[] actionCodes = new byte[actionSteps.length];
+        long step = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == actionSteps.length) {
+                int capacity = (int) Math.min(count, 2L * actionSteps.length);
+                actionSteps = Arrays.copyOf(actionSteps, capacity);
+                actionCodes = Arrays.copyOf(actionCodes, capacity);
+            }
+            try {
+                step += readVarLong(data);
+                actionSteps[i] = step;
+                actionCodes[i] = data.readByte();
+            } catch (EOFException e) {
+                throw new IOException("Corrupt input log: " + i + " of " + count + " actions present", e);
+            }
+            try {
+                InputAction.fromCode(actionCodes[i]); // Reject unknown actions up front.
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt input log: " + e.getMessage(), e);
+            }
+        }
+        return new InputLog(levelClassName, seed, steps, enemiesDestroyed, userHealth, actionSteps, actionCodes);
+    }
+
+    /**
+     * Reads a log from a file.
+     *
+     * @param file The file to read.
+     * @return The log.
+     * @throws IOException If the file cannot be read or does not hold a log.
+     */
+    public static InputLog load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes a non-negative number using seven bits per byte, low bits first.
+     *
+     * @param out   The stream to write to.
+     * @param value The number to write.
+     * @throws IOException If the stream cannot be written.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarLong}.
+     *
+     * @param in The stream to read from.
+     * @return The number.
+     * @throws IOException If the stream cannot be read or the number is malformed.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt input log: malformed step delta");
+    }
+}
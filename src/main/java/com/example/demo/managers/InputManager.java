@@ -3,25 +3,26 @@ package com.example.demo.managers;
 import com.example.demo.actor.UserPlane;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
-import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
+import java.util.function.Consumer;
+
 /**
  * Manages user input for controlling the player's plane and other game actions.
- * Handles key press and release events and maps them to player actions.
+ * Handles key press and release events and maps them to input actions, which are passed to a handler
+ * that performs them, so a level can record them or replace the keyboard with a recording.
  */
 public class InputManager {
 
-    private final UserPlane user; // The player's plane to control.
     private final Scene scene; // The scene to capture input events.
     private final PauseManager pauseManager; // Manager to handle pause state.
-    private final Runnable fireProjectileCallback; // Callback to trigger when firing projectiles.
+    private final Consumer<InputAction> actionHandler; // Performs the actions mapped from keys.
 
     private final EventHandler<KeyEvent> keyPressedHandler; // Handles key press events.
     private final EventHandler<KeyEvent> keyReleasedHandler; // Handles key release events.
 
     /**
-     * Constructor to initialize the input manager.
+     * Constructor to initialize an input manager that performs actions on the player's plane directly.
      *
      * @param user                  The player's plane to control.
      * @param scene                 The scene to capture input events.
@@ -29,10 +30,20 @@ public class InputManager {
      * @param fireProjectileCallback Callback to trigger firing projectiles (optional).
      */
     public InputManager(UserPlane user, Scene scene, PauseManager pauseManager, Runnable fireProjectileCallback) {
-        this.user = user;
+        this(scene, pauseManager, action -> action.apply(user, fireProjectileCallback));
+    }
+
+    /**
+     * Constructor to initialize an input manager that passes actions to a handler.
+     *
+     * @param scene         The scene to capture input events.
+     * @param pauseManager  The manager to handle pause state (optional).
+     * @param actionHandler Performs the actions mapped from keys.
+     */
+    public InputManager(Scene scene, PauseManager pauseManager, Consumer<InputAction> actionHandler) {
         this.scene = scene;
         this.pauseManager = pauseManager;
-        this.fireProjectileCallback = fireProjectileCallback;
+        this.actionHandler = actionHandler;
 
         // Initialize event handlers after assigning variables.
         this.keyPressedHandler = createKeyPressedHandler();
@@ -60,33 +71,17 @@ public class InputManager {
                 return;
             }
 
-            KeyCode kc = e.getCode(); // Get the key code of the pressed key.
-
             // Map key presses to actions.
-            switch (kc) {
-                case UP:
-                case W: // Move up.
-                    user.moveUp();
-                    break;
-                case DOWN:
-                case S: // Move down.
-                    user.moveDown();
-                    break;
-                case LEFT:
-                case A: // Move left.
-                    user.moveLeft();
-                    break;
-                case RIGHT:
-                case D: // Move right.
-                    user.moveRight();
-                    break;
-                case SPACE: // Fire a projectile.
-                    if (fireProjectileCallback != null) {
-                        fireProjectileCallback.run();
-                    }
-                    break;
-                default:
-                    break; // Ignore unhandled keys.
+            InputAction action = switch (e.getCode()) {
+                case UP, W -> InputAction.MOVE_UP;
+                case DOWN, S -> InputAction.MOVE_DOWN;
+                case LEFT, A -> InputAction.MOVE_LEFT;
+                case RIGHT, D -> InputAction.MOVE_RIGHT;
+                case SPACE -> InputAction.FIRE;
+                default -> null; // Ignore unhandled keys.
+            };
+            if (action != null) {
+                actionHandler.accept(action);
             }
         };
     }
@@ -104,24 +99,14 @@ public class InputManager {
                 return;
             }
 
-            KeyCode kc = e.getCode(); // Get the key code of the released key.
-
             // Map key releases to actions.
-            switch (kc) {
-                case UP:
-                case W:
-                case DOWN:
-                case S: // Stop vertical movement.
-                    user.stopVerticalMovement();
-                    break;
-                case LEFT:
-                case A:
-                case RIGHT:
-                case D: // Stop horizontal movement.
-                    user.stopHorizontalMovement();
-                    break;
-                default:
-                    break; // Ignore unhandled keys.
+            InputAction action = switch (e.getCode()) {
+                case UP, W, DOWN, S -> InputAction.STOP_VERTICAL;
+                case LEFT, A, RIGHT, D -> InputAction.STOP_HORIZONTAL;
+                default -> null; // Ignore unhandled keys.
+            };
+            if (action != null) {
+                actionHandler.accept(action);
             }
         };
     }
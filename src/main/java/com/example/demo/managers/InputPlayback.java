@@ -0,0 +1,58 @@
+package com.example.demo.managers;
+
+import java.util.function.Consumer;
+
+/**
+ * Feeds the actions of a recorded {@link InputLog} back into a level, each one before the same step
+ * it was originally applied before.
+ */
+public class InputPlayback {
+
+    private final InputLog log; // Recording being played back.
+    private int next; // Index of the next action to apply.
+
+    /**
+     * Constructor to initialize the playback of a recording.
+     *
+     * @param log The recording to play back.
+     */
+    public InputPlayback(InputLog log) {
+        this.log = log;
+    }
+
+    /**
+     * Applies every action due before the given step.
+     *
+     * @param step    The number of steps simulated so far.
+     * @param handler Performs each action.
+     * @return The number of actions applied.
+     */
+    public int applyDue(long step, Consumer<InputAction> handler) {
+        int applied = 0;
+        while (next < log.size() && log.getStep(next) <= step) {
+            handler.accept(log.getAction(next));
+            next++;
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Checks whether the recorded session has been played to its end.
+     *
+     * @param step The number of steps simulated so far.
+     * @return True if every action has been applied and the recorded number of steps has run.
+     */
+    public boolean isFinished(long step) {
+        return next >= log.size() && step >= log.getSteps();
+    }
+
+    /**
+     * Retrieves the recording being played back.
+     *
+     * @return The input log.
+     */
+    public InputLog getLog() {
+        return log;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.managers;
+
+import java.util.Arrays;
+
+/**
+ * Records the player's input actions during a level, together with the step each one was applied
+ * before, so the session can be saved as an {@link InputLog} and played back later.
+ */
+public class InputRecorder {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final String levelClassName; // Level being recorded.
+    private final long seed; // Seed of the level's random source.
+    private long[] actionSteps = new long[INITIAL_CAPACITY]; // Step of each recorded action.
+    private byte[] actionCodes = new byte[INITIAL_CAPACITY]; // Code of each recorded action.
+    private int size; // Number of recorded actions.
+
+    /**
+     * Constructor to initialize a recorder for a level.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @param seed           The seed of the level's random source.
+     */
+    public InputRecorder(String levelClassName, long seed) {
+        this.levelClassName = levelClassName;
+        this.seed = seed;
+    }
+
+    /**
+     * Records an action.
+     *
+     * @param step   The number of steps simulated before the action was applied.
+     * @param action The action.
+     * @throws IllegalArgumentException If the step is earlier than the previous action's.
+     */
+    public void record(long step, InputAction action) {
+        if (size > 0 && step < actionSteps[size - 1]) {
+            throw new IllegalArgumentException("Actions must be recorded in step order");
+        }
+        if (size == actionCodes.length) {
+            actionSteps = Arrays.copyOf(actionSteps, size * 2);
+            actionCodes = Arrays.copyOf(actionCodes, size * 2);
+        }
+        actionSteps[size] = step;
+        actionCodes[size] = (byte) action.getCode();
+        size++;
+    }
+
+    /**
+     * Retrieves the number of recorded actions.
+     *
+     * @return The number of actions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a log of the actions recorded so far, without an outcome.
+     *
+     * @param steps The number of steps the session ran for.
+     * @return The log.
+     */
+    public InputLog toLog(long steps) {
+        return toLog(steps, InputLog.UNKNOWN, InputLog.UNKNOWN);
+    }
+
+    /**
+     * Creates a log of the actions recorded so far, with the outcome a replay is checked against.
+     *
+     * @param steps            The number of steps the session ran for.
+     * @param enemiesDestroyed The number of enemies destroyed by then.
+     * @param userHealth       The player's health by then.
+     * @return The log.
+     */
+    public InputLog toLog(long steps, int enemiesDestroyed, int userHealth) {
+        return new InputLog(levelClassName, seed, steps, enemiesDestroyed, userHealth,
+                Arrays.copyOf(actionSteps, size), Arrays.copyOf(actionCodes, size));
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.demo.managers;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the best entries of every leaderboard: one board per game mode and {@link LeaderboardPeriod}.
+ * Each entry added updates the boards of its mode incrementally, and listeners are told which row of which
+ * board changed, so a leaderboard screen can patch that row instead of rebuilding its list.
+ * Day and week boards start over when their period ends; entries from an earlier period are not ranked.
+ */
+public class LeaderboardIndex {
+
+    /**
+     * Receives changes to the boards. Calls are made on the thread that added the entry.
+     */
+    public interface Listener {
+
+        /**
+         * Called when an entry makes a board.
+         *
+         * @param mode    The game mode of the board.
+         * @param period  The period of the board.
+         * @param rank    The row the entry was inserted at, starting from 0; rows below it moved down one.
+         * @param entry   The entry inserted.
+         * @param evicted Whether the board was full, so its last row was removed.
+         */
+        void onInsert(String mode, LeaderboardPeriod period, int rank, ScoreEntry entry, boolean evicted);
+
+        /**
+         * Called when a board starts over, either for a new period or because the index was cleared.
+         *
+         * @param mode   The game mode of the board.
+         * @param period The period of the board.
+         */
+        default void onReset(String mode, LeaderboardPeriod period) {
+        }
+    }
+
+    private final int capacity; // Entries kept per board.
+    private final Clock clock; // Source of the current time and time zone.
+    private final Map<String, EnumMap<LeaderboardPeriod, TopKBoard>> boards = new HashMap<>(); // Boards by mode.
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>(); // Notified of every change.
+
+    /**
+     * Constructor to initialize an empty index.
+     *
+     * @param capacity The number of entries kept per board.
+     * @param clock    The source of the current time and time zone.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public LeaderboardIndex(int capacity, Clock clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.clock = clock;
+    }
+
+    /**
+     * Offers an entry to every board of its mode.
+     *
+     * @param entry The entry to rank.
+     */
+    public synchronized void add(ScoreEntry entry) {
+        ZoneId zone = clock.getZone();
+        EnumMap<LeaderboardPeriod, TopKBoard> modeBoards = boards.computeIfAbsent(entry.getMode(), mode -> new EnumMap<>(LeaderboardPeriod.class));
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            long periodStart = period.startOf(entry.getTimestamp(), zone);
+            TopKBoard board = modeBoards.get(period);
+            if (board == null) {
+                board = new TopKBoard(capacity, periodStart);
+                modeBoards.put(period, board);
+            } else if (periodStart > board.getPeriodStart()) {
+                board.reset(periodStart);
+                notifyReset(entry.getMode(), period);
+            } else if (periodStart < board.getPeriodStart()) {
+                continue; // From a period that is already over.
+            }
+            boolean wasFull = board.isFull();
+            int rank = board.offer(entry);
+            if (rank >= 0) {
+                for (Listener listener : listeners) {
+                    listener.onInsert(entry.getMode(), period, rank, entry, wasFull);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the best entries of a board. Boards of a period that has ended read as empty.
+     *
+     * @param mode   The game mode.
+     * @param period The period.
+     * @param topN   The number of entries wanted.
+     * @return Up to `topN` entries, best first.
+     */
+    public synchronized List<ScoreEntry> getTop(String mode, LeaderboardPeriod period, int topN) {
+        EnumMap<LeaderboardPeriod, TopKBoard> modeBoards = boards.get(mode);
+        TopKBoard board = modeBoards == null ? null : modeBoards.get(period);
+        if (board == null) {
+            return new ArrayList<>();
+        }
+        long currentStart = period.startOf(clock.millis(), clock.getZone());
+        if (board.getPeriodStart() < currentStart) {
+            board.reset(currentStart);
+            notifyReset(mode, period);
+        }
+        return board.top(topN);
+    }
+
+    /**
+     * Lists every entry on any board, once each. Adding them to an empty index rebuilds the same boards.
+     *
+     * @return The entries, in no particular order.
+     */
+    public synchronized List<ScoreEntry> entries() {
+        Set<ScoreEntry> entries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (EnumMap<LeaderboardPeriod, TopKBoard> modeBoards : boards.values()) {
+            for (TopKBoard board : modeBoards.values()) {
+                entries.addAll(board.top(board.size()));
+            }
+        }
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * Empties every board. Listeners stay registered and are told of each reset.
+     */
+    public synchronized void clear() {
+        List<String> modes = new ArrayList<>(boards.keySet());
+        boards.clear();
+        for (String mode : modes) {
+            for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+                notifyReset(mode, period);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener for board changes.
+     *
+     * @param listener The listener to add.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Retrieves the number of entries kept per board.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Tells every listener that a board started over.
+     *
+     * @param mode   The game mode of the board.
+     * @param period The period of the board.
+     */
+    private void notifyReset(String mode, LeaderboardPeriod period) {
+        for (Listener listener : listeners) {
+            listener.onReset(mode, period);
+        }
+    }
+}
@@ -1,99 +1,200 @@
 package com.example.demo.managers;
 
-import java.io.*;
+import java.net.URI;
 import java.nio.file.*;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.Clock;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Manages the leaderboard by storing and retrieving player scores.
- * Handles reading and writing scores to a file, maintaining a sorted list of top scores.
+ * Scores are kept by a {@link LeaderboardStore}: by default a {@link FileLeaderboardStore} over the score file
+ * in the working directory, or, when the `demo.leaderboard` system property holds the address of a
+ * {@link LeaderboardService}, an {@link HttpLeaderboardStore} so several game processes share one leaderboard.
+ * Saving a score returns without waiting on the disk or the network; pending scores are stored when the JVM
+ * shuts down.
  */
 public class LeaderboardManager {
 
-    private static final List<Integer> scores = new ArrayList<>(); // List to store scores.
-    private static final String LEADERBOARD_FILE = "leaderboard.txt"; // File to persist leaderboard data.
-    private static final int MAX_SCORES = 5; // Maximum number of scores to keep in the leaderboard.
+    // Game mode of scores saved without one, and of scores imported from the old leaderboard file.
+    public static final String ENDLESS_MODE = "ENDLESS";
+
+    // Game mode of scores from the campaign levels.
+    public static final String CAMPAIGN_MODE = "CAMPAIGN";
+
+    // System property holding the address of a leaderboard service to use instead of the score file.
+    public static final String SERVICE_PROPERTY = "demo.leaderboard";
+
+    private static final String SCORE_FILE = "scores.dat"; // Binary file holding every saved score.
+    private static final String TEXT_LOG_FILE = "scores.log"; // Old text file holding every saved score.
+    private static final String LEADERBOARD_FILE = "leaderboard.txt"; // Old file holding only the top scores.
+    private static final int TOP_K = 10; // Number of best entries kept in memory.
+
+    private static final List<LeaderboardIndex.Listener> listeners = new CopyOnWriteArrayList<>(); // Survive store changes.
+    private static final LeaderboardIndex.Listener forwarder = new LeaderboardIndex.Listener() {
+        @Override
+        public void onInsert(String mode, LeaderboardPeriod period, int rank, ScoreEntry entry, boolean evicted) {
+            listeners.forEach(listener -> listener.onInsert(mode, period, rank, entry, evicted));
+        }
+
+        @Override
+        public void onReset(String mode, LeaderboardPeriod period) {
+            listeners.forEach(listener -> listener.onReset(mode, period));
+        }
+    };
+    private static LeaderboardStore store; // Where scores are kept.
 
     static {
-        // Load existing scores from the file when the class is loaded.
-        loadScores();
+        // Open the store when the class is loaded.
+        setStore(createStore());
+        Runtime.getRuntime().addShutdownHook(new Thread(LeaderboardManager::close, "score-writer-shutdown"));
     }
 
     /**
-     * Adds a new score to the leaderboard.
-     * The leaderboard is updated to include the score, sorted in descending order,
-     * and only the top `MAX_SCORES` are retained.
-     * The updated leaderboard is then saved to the file.
+     * Adds a new endless mode score to the leaderboard, with no wave or duration recorded.
      *
      * @param score the score to add.
      */
     public static void addScore(int score) {
-        scores.add(score); // Add the new score to the list.
-        scores.sort(Collections.reverseOrder()); // Sort the scores in descending order.
-        if (scores.size() > MAX_SCORES) {
-            scores.subList(MAX_SCORES, scores.size()).clear(); // Retain only the top `MAX_SCORES`.
-        }
-        saveScores(); // Save the updated scores to the file.
+        addScore(new ScoreEntry(System.currentTimeMillis(), ENDLESS_MODE, score, 0, 0));
+    }
+
+    /**
+     * Adds a finished game to the leaderboard. Returns without waiting for it to be stored.
+     *
+     * @param entry the finished game to add.
+     */
+    public static void addScore(ScoreEntry entry) {
+        getStore().submit(entry);
+    }
+
+    /**
+     * Waits until every score added so far is stored.
+     *
+     * @param timeout the longest time to wait.
+     * @param unit    the unit of the timeout.
+     * @return true if every score was stored in time, false otherwise.
+     */
+    public static boolean flush(long timeout, TimeUnit unit) {
+        return getStore().flush(timeout, unit);
     }
 
     /**
-     * Retrieves the top `N` scores from the leaderboard.
-     * Returns a sublist of the scores list containing the requested number of top scores.
+     * Retrieves the top `N` all-time endless mode scores from the leaderboard.
      *
      * @param topN the number of top scores to retrieve.
-     * @return a list of top scores, up to `topN` entries.
+     * @return a list of top scores, up to `topN` entries and at most `TOP_K`.
      */
     public static List<Integer> getTopScores(int topN) {
-        return new ArrayList<>(scores.subList(0, Math.min(topN, scores.size()))); // Return a copy of the top scores.
+        return getTopEntries(ENDLESS_MODE, LeaderboardPeriod.ALL_TIME, topN).stream().map(ScoreEntry::getScore).toList();
     }
 
     /**
-     * Loads scores from the leaderboard file into the `scores` list.
-     * If the file exists, it reads each line, parses it as an integer, and adds it to the list.
-     * Invalid scores are ignored, and any errors during reading are logged.
-     * The list is sorted in descending order, and only the top `MAX_SCORES` are retained.
+     * Retrieves the top `N` entries of one leaderboard.
+     *
+     * @param mode   the game mode.
+     * @param period the period the scores were reached in.
+     * @param topN   the number of top entries to retrieve.
+     * @return a copy of the best entries, highest score first, up to `topN` entries and at most `TOP_K`.
      */
-    private static void loadScores() {
-        Path path = Paths.get(LEADERBOARD_FILE);
-        if (Files.exists(path)) {
-            try (BufferedReader reader = Files.newBufferedReader(path)) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    try {
-                        int score = Integer.parseInt(line.trim()); // Parse the score.
-                        scores.add(score); // Add the score to the list.
-                    } catch (NumberFormatException e) {
-                        System.err.println("Invalid score in leaderboard file: " + line); // Log invalid scores.
-                    }
-                }
-                scores.sort(Collections.reverseOrder()); // Sort the scores in descending order.
-                if (scores.size() > MAX_SCORES) {
-                    scores.subList(MAX_SCORES, scores.size()).clear(); // Retain only the top `MAX_SCORES`.
-                }
-            } catch (IOException e) {
-                System.err.println("Error reading leaderboard file: " + e.getMessage()); // Log errors during file reading.
-            }
-        } else {
-            System.out.println("Leaderboard file does not exist. Starting with an empty leaderboard.");
+    public static List<ScoreEntry> getTopEntries(String mode, LeaderboardPeriod period, int topN) {
+        return getStore().getTop(mode, period, topN);
+    }
+
+    /**
+     * Registers a listener told of every row that changes on any leaderboard.
+     *
+     * @param listener the listener to add.
+     */
+    public static void addListener(LeaderboardIndex.Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a leaderboard listener.
+     *
+     * @param listener the listener to remove.
+     */
+    public static void removeListener(LeaderboardIndex.Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Reads every game ever saved, for analytics. This reads the whole history, so it is not meant for the game loop.
+     *
+     * @return the saved games, oldest first.
+     */
+    public static List<ScoreEntry> getHistory() {
+        return getStore().getHistory();
+    }
+
+    /**
+     * Replaces the store scores are kept in. The previous store stores what is pending and is closed.
+     * Listeners stay registered.
+     *
+     * @param newStore the store to use from now on.
+     */
+    public static void setStore(LeaderboardStore newStore) {
+        replaceStore(() -> newStore);
+    }
+
+    /**
+     * Switches to a score file store, as the game uses when no leaderboard service is set.
+     * The current store is closed before the new one is created, so the new one reads every score it had pending.
+     *
+     * @param logFile     the binary score log.
+     * @param textLogFile the old text score log, holding one checksummed line per game.
+     * @param legacyFile  the old leaderboard file, holding one score per line.
+     */
+    static void load(Path logFile, Path textLogFile, Path legacyFile) {
+        replaceStore(() -> new FileLeaderboardStore(logFile, textLogFile, legacyFile, TOP_K, Clock.systemDefaultZone()));
+    }
+
+    /**
+     * Closes the current store, then creates and switches to the next one. Listeners stay registered.
+     *
+     * @param factory creates the store to use from now on, once the current one is closed.
+     */
+    private static synchronized void replaceStore(Supplier<LeaderboardStore> factory) {
+        close();
+        store = factory.get();
+        store.addListener(forwarder);
+    }
+
+    /**
+     * Creates the store the game starts with: a client of the leaderboard service named by the system
+     * property, or else the score file in the working directory.
+     *
+     * @return the store.
+     */
+    private static LeaderboardStore createStore() {
+        String service = System.getProperty(SERVICE_PROPERTY);
+        if (service != null && !service.isBlank()) {
+            System.out.println("Using leaderboard service at " + service);
+            return new HttpLeaderboardStore(URI.create(service.trim()));
         }
+        return new FileLeaderboardStore(Paths.get(SCORE_FILE), Paths.get(TEXT_LOG_FILE), Paths.get(LEADERBOARD_FILE),
+                TOP_K, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Retrieves the current store.
+     *
+     * @return the store.
+     */
+    private static synchronized LeaderboardStore getStore() {
+        return store;
     }
 
     /**
-     * Saves the current `scores` list to the leaderboard file.
-     * Writes each score to a new line in the file. If the file does not exist, it is created.
-     * If there are errors during writing, they are logged.
+     * Stores the scores still pending and closes the current store.
      */
-    private static void saveScores() {
-        Path path = Paths.get(LEADERBOARD_FILE);
-        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
-            for (int score : scores) {
-                writer.write(String.valueOf(score)); // Write the score to the file.
-                writer.newLine(); // Move to the next line.
-            }
-        } catch (IOException e) {
-            System.err.println("Error writing leaderboard file: " + e.getMessage()); // Log errors during file writing.
+    private static synchronized void close() {
+        if (store != null) {
+            store.removeListener(forwarder);
+            store.close();
         }
     }
 }
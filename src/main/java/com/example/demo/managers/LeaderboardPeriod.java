@@ -0,0 +1,35 @@
+package com.example.demo.managers;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * The span of time a leaderboard ranks scores over. Day and week boards start over at local midnight and
+ * on Monday respectively; the all-time board never does.
+ */
+public enum LeaderboardPeriod {
+    DAY,
+    WEEK,
+    ALL_TIME;
+
+    /**
+     * Finds when the period holding a moment started.
+     *
+     * @param timestamp The moment, in milliseconds since the epoch.
+     * @param zone      The time zone days and weeks are counted in.
+     * @return The start of the period in milliseconds since the epoch, or Long.MIN_VALUE for all time.
+     */
+    public long startOf(long timestamp, ZoneId zone) {
+        if (this == ALL_TIME) {
+            return Long.MIN_VALUE;
+        }
+        LocalDate date = Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+        if (this == WEEK) {
+            date = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        return date.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.demo.managers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small HTTP service on the loopback interface that lets several game processes on one machine share a
+ * leaderboard. It owns a {@link LeaderboardStore}, normally a score file, so only one process ever writes it.
+ * Games are posted as text lines in the checksummed form of {@link ScoreEntry}; a post is answered once its
+ * games are stored, and posts arriving together are written to disk as one batch. A post may carry an
+ * idempotency key; a post repeating a recent key, such as a retry after a timeout, is not stored again. Leaderboards are served
+ * from the store's in-memory index. The service can run in-process, as tests do, or on its own from the
+ * command line.
+ */
+public class LeaderboardService {
+
+    // Paths of the service's endpoints.
+    public static final String SCORES_PATH = "/scores";
+    public static final String TOP_PATH = "/top";
+    public static final String HISTORY_PATH = "/history";
+
+    // Port the service listens on by default.
+    public static final int DEFAULT_PORT = 8765;
+
+    // Request header naming a post, so a repeated post is stored only once.
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    // Longest wait for posted games to be stored before a post is refused.
+    static final long STORE_TIMEOUT_SECONDS = 5;
+
+    private static final int THREADS = 4; // Requests handled at once.
+    private static final int REMEMBERED_KEYS = 4096; // Idempotency keys of recent posts kept.
+    private static final int TOP_K = 10; // Entries kept per leaderboard when run on its own.
+
+    private final LeaderboardStore store; // Where games are kept.
+    private final HttpServer server; // Listens on the loopback interface.
+    private final ExecutorService executor; // Handles requests.
+    private final Set<String> acceptedKeys = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > REMEMBERED_KEYS;
+        }
+    }); // Keys of recent posts whose games were queued, oldest first; guarded by itself.
+
+    /**
+     * Constructor to initialize a service for a store. The service listens once started.
+     *
+     * @param store The store to serve.
+     * @param port  The loopback port to listen on, or 0 for any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public LeaderboardService(LeaderboardStore store, int port) throws IOException {
+        this.store = store;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-service");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(SCORES_PATH, this::handleScores);
+        server.createContext(TOP_PATH, this::handleTop);
+        server.createContext(HISTORY_PATH, this::handleHistory);
+    }
+
+    /**
+     * Starts answering requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops answering requests. The store is left open.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Retrieves the port the service listens on.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Retrieves the address clients reach the service at.
+     *
+     * @return The service's base URI.
+     */
+    public URI getUri() {
+        return URI.create("http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + getPort());
+    }
+
+    /**
+     * Stores posted games. Every line must hold an intact entry, or none are stored. Games of a post whose
+     * idempotency key was already accepted are not queued again; the post is answered once they are stored.
+     *
+     * @param exchange The request and its response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleScores(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "POST games to " + SCORES_PATH);
+                return;
+            }
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            List<ScoreEntry> entries = new ArrayList<>();
+            for (String line : body.split("\n")) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                ScoreEntry entry = ScoreEntry.parse(line);
+                if (entry == null) {
+                    respond(exchange, 400, "Damaged entry: " + line);
+                    return;
+                }
+                entries.add(entry);
+            }
+            String key = exchange.getRequestHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+            boolean repeated;
+            synchronized (acceptedKeys) {
+                repeated = key != null && !acceptedKeys.add(key);
+                if (!repeated) {
+                    entries.forEach(store::submit); // Under the lock, so a repeat waits until they are queued.
+                }
+            }
+            if (!store.flush(STORE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                respond(exchange, 503, "Timed out storing games");
+                return;
+            }
+            respond(exchange, 200, repeated ? "Already stored" : "Stored " + entries.size());
+        }
+    }
+
+    /**
+     * Serves the best entries of one leaderboard, chosen by the mode, period and n query parameters.
+     *
+     * @param exchange The request and its response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleTop(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Map<String, String> query = parseQuery(exchange.getRequestURI());
+            List<ScoreEntry> entries;
+            try {
+                String mode = query.getOrDefault("mode", LeaderboardManager.ENDLESS_MODE);
+                LeaderboardPeriod period = LeaderboardPeriod.valueOf(query.getOrDefault("period", LeaderboardPeriod.ALL_TIME.name()));
+                int topN = Integer.parseInt(query.getOrDefault("n", String.valueOf(TOP_K)));
+                entries = store.getTop(mode, period, topN);
+            } catch (IllegalArgumentException e) { // Includes NumberFormatException.
+                respond(exchange, 400, "Invalid query: " + e.getMessage());
+                return;
+            }
+            respond(exchange, 200, toLines(entries));
+        }
+    }
+
+    /**
+     * Serves every game ever stored.
+     *
+     * @param exchange The request and its response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleHistory(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            respond(exchange, 200, toLines(store.getHistory()));
+        }
+    }
+
+    /**
+     * Formats entries one per line.
+     *
+     * @param entries The entries.
+     * @return The entries in their checksummed text form.
+     */
+    static String toLines(List<ScoreEntry> entries) {
+        StringBuilder lines = new StringBuilder();
+        for (ScoreEntry entry : entries) {
+            lines.append(entry.toLine()).append('\n');
+        }
+        return lines.toString();
+    }
+
+    /**
+     * Sends a plain text response.
+     *
+     * @param exchange The exchange to answer.
+     * @param status   The HTTP status code.
+     * @param body     The response body.
+     * @throws IOException If the response cannot be sent.
+     */
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Splits a request's query into its parameters.
+     *
+     * @param uri The request URI.
+     * @return The decoded parameters by name.
+     */
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Runs the service on its own, serving a score file until the process is stopped.
+     *
+     * @param args Optionally the port, followed by the score file.
+     * @throws IOException If the port cannot be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Path scoreFile = Path.of(args.length > 1 ? args[1] : "scores.dat");
+        Path directory = scoreFile.toAbsolutePath().getParent();
+        LeaderboardStore store = new FileLeaderboardStore(scoreFile, directory.resolve("scores.log"),
+                directory.resolve("leaderboard.txt"), TOP_K, Clock.systemDefaultZone());
+        LeaderboardService service = new LeaderboardService(store, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            service.stop();
+            store.close();
+        }, "leaderboard-service-shutdown"));
+        service.start();
+        System.out.println("Leaderboard service listening on " + service.getUri());
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.managers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The entries of a {@link LeaderboardIndex} saved next to the score log, with how many records of the log
+ * they cover, so opening the log only decodes the records appended since instead of every game ever saved.
+ * The checksum of the last record covered is kept too: if the log no longer holds that record where it was,
+ * such as after it was compacted, the snapshot does not match the log and the whole log is read instead.
+ * The file is text: a checksummed header line, then one entry per line in the checksummed form of {@link ScoreEntry}.
+ */
+final class LeaderboardSnapshot {
+
+    private static final String MAGIC = "SKYI";
+    private static final int VERSION = 1;
+    private static final char SEPARATOR = '\t';
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final long coveredRecords; // Records of the log the entries were ranked from.
+    private final long lastChecksum; // Checksum of the last record covered, or -1 if none are.
+    private final List<ScoreEntry> entries; // Entries on any board of the index.
+
+    /**
+     * Constructor to initialize a snapshot.
+     *
+     * @param coveredRecords The number of records of the log the entries were ranked from.
+     * @param lastChecksum   The checksum of the last record covered, or -1 if none are.
+     * @param entries        The entries on any board of the index.
+     */
+    LeaderboardSnapshot(long coveredRecords, long lastChecksum, List<ScoreEntry> entries) {
+        this.coveredRecords = coveredRecords;
+        this.lastChecksum = lastChecksum;
+        this.entries = entries;
+    }
+
+    /**
+     * Retrieves the number of records of the log the entries were ranked from.
+     *
+     * @return The covered record count.
+     */
+    long getCoveredRecords() {
+        return coveredRecords;
+    }
+
+    /**
+     * Retrieves the entries on any board of the index.
+     *
+     * @return The entries.
+     */
+    List<ScoreEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Checks whether the snapshot was taken from this log, by comparing the last record it covers.
+     *
+     * @param log The score log.
+     * @return True if the log still holds the covered records, false otherwise.
+     * @throws IOException If the log cannot be read.
+     */
+    boolean matches(ScoreLog log) throws IOException {
+        return coveredRecords == 0 || log.readChecksum(coveredRecords - 1) == lastChecksum;
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param file The snapshot file.
+     * @return The snapshot, or null if there is none or it is damaged.
+     * @throws IOException If the file exists but cannot be read.
+     */
+    static LeaderboardSnapshot read(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            String[] parts = header == null ? new String[0] : header.split(String.valueOf(SEPARATOR), -1);
+            if (parts.length != 5 || !MAGIC.equals(parts[0])
+                    || !parts[4].equals(Long.toHexString(checksum(header.substring(0, header.lastIndexOf(SEPARATOR)))))) {
+                return null;
+            }
+            if (Integer.parseInt(parts[1]) != VERSION) {
+                return null;
+            }
+            List<ScoreEntry> entries = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ScoreEntry entry = ScoreEntry.parse(line);
+                if (entry == null) {
+                    return null; // Damaged; the log is read instead.
+                }
+                entries.add(entry);
+            }
+            return new LeaderboardSnapshot(Long.parseLong(parts[2]), Long.parseLong(parts[3]), entries);
+        } catch (NoSuchFileException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot to a temporary file next to the target, then moves it over the target in one step.
+     *
+     * @param file The snapshot file.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    void write(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        String fields = MAGIC + SEPARATOR + VERSION + SEPARATOR + coveredRecords + SEPARATOR + lastChecksum;
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(fields + SEPARATOR + Long.toHexString(checksum(fields)) + "\n");
+            for (ScoreEntry entry : entries) {
+                writer.write(entry.toLine() + "\n");
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Computes the checksum of the header's fields.
+     *
+     * @param fields The fields of the header, before the checksum.
+     * @return The CRC-32 of the fields.
+     */
+    private static long checksum(String fields) {
+        CRC32 crc = new CRC32();
+        crc.update(fields.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
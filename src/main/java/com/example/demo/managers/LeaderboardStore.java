@@ -0,0 +1,64 @@
+package com.example.demo.managers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Where finished games are saved and leaderboards are read from: a score file owned by this process, or a
+ * leaderboard service shared by several game processes.
+ * Saving never waits on the disk or the network; reads are answered from memory where the store can.
+ */
+public interface LeaderboardStore {
+
+    /**
+     * Saves a finished game. Returns without waiting for it to be stored.
+     *
+     * @param entry The finished game.
+     */
+    void submit(ScoreEntry entry);
+
+    /**
+     * Reads the best entries of one leaderboard.
+     *
+     * @param mode   The game mode.
+     * @param period The period the scores were reached in.
+     * @param topN   The number of entries wanted.
+     * @return Up to `topN` entries, best first; empty if the leaderboard cannot be read.
+     */
+    List<ScoreEntry> getTop(String mode, LeaderboardPeriod period, int topN);
+
+    /**
+     * Reads every game ever saved, for analytics. This is not meant for the game loop.
+     *
+     * @return The saved games, oldest first; empty if they cannot be read.
+     */
+    List<ScoreEntry> getHistory();
+
+    /**
+     * Waits until every game submitted so far is stored.
+     *
+     * @param timeout The longest time to wait.
+     * @param unit    The unit of the timeout.
+     * @return True if everything was stored in time, false otherwise.
+     */
+    boolean flush(long timeout, TimeUnit unit);
+
+    /**
+     * Stores what is pending and releases the store. It accepts no games afterwards.
+     */
+    void close();
+
+    /**
+     * Registers a listener for leaderboard changes.
+     *
+     * @param listener The listener to add.
+     */
+    void addListener(LeaderboardIndex.Listener listener);
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener to remove.
+     */
+    void removeListener(LeaderboardIndex.Listener listener);
+}
@@ -4,16 +4,12 @@ import com.example.demo.controller.MenuController;
 import com.example.demo.controller.PauseMenuController;
 import javafx.application.Platform;
 import javafx.event.EventHandler;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Group;
-import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
 
-import java.io.IOException;
-import java.net.URL;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,7 +27,7 @@ public class PauseManager {
     private final Runnable pauseAction; // Action to execute when pausing the game.
     private final Runnable resumeAction; // Action to execute when resuming the game.
     private final Runnable restartAction; // Action to execute when restarting the game.
-    private PauseMenuController pauseMenuController; // Controller for the pause menu.
+    private PauseMenuController pauseMenuController; // Controller for the pause menu, once claimed.
     private boolean isPaused = false; // Tracks the pause state of the game.
 
     /**
@@ -55,31 +51,28 @@ public class PauseManager {
         this.resumeAction = resumeAction;
         this.restartAction = restartAction;
 
-        initializePauseMenu();
         initializePauseHandler();
     }
 
     /**
-     * Initializes the pause menu by loading it from an FXML file and setting its actions.
+     * Takes over the shared pause menu, parsing it on first use, and points its buttons at this manager.
+     * Levels share one pause menu, so it is claimed every time the game is paused.
+     *
+     * @return The pause menu controller, or null if the pause menu cannot be loaded.
      */
-    private void initializePauseMenu() {
+    private PauseMenuController claimPauseMenu() {
         try {
-            URL resource = getClass().getResource("/PauseMenu.fxml");
-            if (resource == null) {
-                logger.log(Level.SEVERE, "PauseMenu.fxml not found!");
-                return;
-            }
-            FXMLLoader loader = new FXMLLoader(resource);
-            Parent pauseRoot = loader.load();
-            pauseMenuController = loader.getController();
-            pauseMenuController.setActions(
+            PauseMenuController controller = SceneCache.getController(SceneCache.PAUSE_MENU);
+            controller.setActions(
                     this::resumeGame, // Resume action.
                     this::restart, // Restart action.
                     this::exitToMainMenu // Exit to main menu action.
             );
-            pauseMenuController.setPauseRoot(pauseRoot);
-        } catch (IOException e) {
+            controller.setPauseRoot(SceneCache.getRoot(SceneCache.PAUSE_MENU));
+            return controller;
+        } catch (RuntimeException e) {
             logger.log(Level.SEVERE, "Failed to initialize Pause Menu", e);
+            return null;
         }
     }
 
@@ -109,6 +102,7 @@ public class PauseManager {
      */
     private void pauseGame() {
         pauseAction.run(); // Execute the custom pause action.
+        pauseMenuController = claimPauseMenu(); // Parsed on the first pause of the game, then reused.
         if (pauseMenuController != null) {
             root.getChildren().add(pauseMenuController.getPauseRoot()); // Display the pause menu.
         }
@@ -146,19 +140,15 @@ public class PauseManager {
                 pauseAction.run(); // Stop the game.
                 soundManager.stopBackgroundMusic(); // Stop the background music.
 
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/MenuScreen.fxml"));
-                Parent menuRoot = loader.load();
-                MenuController menuController = loader.getController();
+                MenuController menuController = SceneCache.getController(SceneCache.MENU_SCREEN);
                 menuController.setStage(stage);
                 menuController.setSoundManager(soundManager);
-
-                Scene menuScene = new Scene(menuRoot, 1300, 750);
-                stage.setScene(menuScene);
+                stage.setScene(SceneCache.getScene(SceneCache.MENU_SCREEN, 1300, 750));
 
                 removePauseMenu(); // Clean up the pause menu.
                 isPaused = false;
                 logger.info("Exited to Main Menu.");
-            } catch (IOException e) {
+            } catch (RuntimeException e) {
                 logger.log(Level.SEVERE, "Failed to exit to main menu", e);
             }
         });
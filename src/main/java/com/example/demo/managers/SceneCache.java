@@ -0,0 +1,230 @@
+package com.example.demo.managers;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Central cache for FXML screens.
+ * Each layout is parsed once, on first use or ahead of time by the {@link AssetPreloader}, and its node tree
+ * and controller are reused every time the screen is shown again. A screen shown as a whole window also keeps
+ * its scene, since a root node can only belong to one scene. The time each layout took to parse is logged and kept.
+ * Controllers are shared, so callers set whatever the controller needs every time they show the screen.
+ */
+public final class SceneCache {
+    private static final Logger logger = Logger.getLogger(SceneCache.class.getName());
+
+    // Main menu.
+    public static final String MENU_SCREEN = "/MenuScreen.fxml";
+
+    // Leaderboard screen.
+    public static final String LEADERBOARD = "/leaderboard.fxml";
+
+    // Sound settings window.
+    public static final String SOUND_SETTINGS = "/SoundSettings.fxml";
+
+    // Pause overlay shown over a level.
+    public static final String PAUSE_MENU = "/PauseMenu.fxml";
+
+    /**
+     * A parsed layout, with the time it took to parse and the scene created for it, if any.
+     */
+    private static final class CachedScreen {
+        private final FXMLLoader loader; // Holds the root and controller.
+        private final long loadNanos; // Time taken to parse the layout.
+        private Scene scene; // Scene showing the root, created on first request.
+
+        /**
+         * Constructor to initialize a parsed layout.
+         *
+         * @param loader    The loader the layout was parsed with.
+         * @param loadNanos The time taken to parse the layout, in nanoseconds.
+         */
+        private CachedScreen(FXMLLoader loader, long loadNanos) {
+            this.loader = loader;
+            this.loadNanos = loadNanos;
+        }
+    }
+
+    private static final Map<String, CachedScreen> screens = new ConcurrentHashMap<>(); // Parsed layouts keyed by path.
+    private static final AtomicLong hits = new AtomicLong(); // Requests served from the cache.
+    private static final AtomicLong misses = new AtomicLong(); // Requests that parsed a layout.
+
+    /**
+     * Private constructor, as the cache is only used through its static methods.
+     */
+    private SceneCache() {
+    }
+
+    /**
+     * Parses a layout if it is not cached yet. Safe to call off the FX thread, as long as the layout is not
+     * shown yet; a request for a layout being parsed on another thread waits for it instead of parsing it again.
+     *
+     * @param path The classpath location of the FXML file.
+     * @throws NullPointerException If the resource does not exist.
+     * @throws UncheckedIOException If the layout cannot be parsed.
+     */
+    public static void load(String path) {
+        screen(path);
+    }
+
+    /**
+     * Retrieves the root node of a layout, parsing it on first use.
+     *
+     * @param path The classpath location of the FXML file.
+     * @return The shared root node.
+     * @throws NullPointerException If the resource does not exist.
+     * @throws UncheckedIOException If the layout cannot be parsed.
+     */
+    public static Parent getRoot(String path) {
+        return screen(path).loader.getRoot();
+    }
+
+    /**
+     * Retrieves the controller of a layout, parsing it on first use.
+     *
+     * @param path The classpath location of the FXML file.
+     * @param <T>  The type of the controller.
+     * @return The shared controller.
+     * @throws NullPointerException If the resource does not exist.
+     * @throws UncheckedIOException If the layout cannot be parsed.
+     */
+    public static <T> T getController(String path) {
+        return screen(path).loader.getController();
+    }
+
+    /**
+     * Retrieves the scene showing a layout at its preferred size, parsing the layout on first use.
+     *
+     * @param path The classpath location of the FXML file.
+     * @return The shared scene.
+     * @throws NullPointerException If the resource does not exist.
+     * @throws UncheckedIOException If the layout cannot be parsed.
+     */
+    public static Scene getScene(String path) {
+        return getScene(path, -1, -1);
+    }
+
+    /**
+     * Retrieves the scene showing a layout, parsing the layout on first use.
+     * The scene is created once, at the size of the first request.
+     *
+     * @param path   The classpath location of the FXML file.
+     * @param width  The width of the scene, or -1 for the layout's preferred width.
+     * @param height The height of the scene, or -1 for the layout's preferred height.
+     * @return The shared scene.
+     * @throws NullPointerException If the resource does not exist.
+     * @throws UncheckedIOException If the layout cannot be parsed.
+     */
+    public static Scene getScene(String path, double width, double height) {
+        CachedScreen screen = screen(path);
+        synchronized (screen) {
+            if (screen.scene == null) {
+                screen.scene = new Scene(screen.loader.getRoot(), width, height);
+            }
+            return screen.scene;
+        }
+    }
+
+    /**
+     * Checks whether a layout has already been parsed, without parsing it or counting a request.
+     *
+     * @param path The classpath location of the FXML file.
+     * @return True if the layout is cached, false otherwise.
+     */
+    public static boolean contains(String path) {
+        return screens.containsKey(path);
+    }
+
+    /**
+     * Retrieves the time a layout took to parse.
+     *
+     * @param path The classpath location of the FXML file.
+     * @return The parse time in milliseconds, or -1 if the layout is not cached.
+     */
+    public static double getLoadMillis(String path) {
+        CachedScreen screen = screens.get(path);
+        return screen == null ? -1 : screen.loadNanos / 1_000_000.0;
+    }
+
+    /**
+     * Retrieves a cached layout, parsing it on first use.
+     *
+     * @param path The classpath location of the FXML file.
+     * @return The cached layout.
+     */
+    private static CachedScreen screen(String path) {
+        CachedScreen screen = screens.get(path);
+        if (screen != null) {
+            hits.incrementAndGet();
+            return screen;
+        }
+        return screens.computeIfAbsent(path, SceneCache::parse);
+    }
+
+    /**
+     * Parses a layout from the classpath, logging how long it took.
+     *
+     * @param path The classpath location of the FXML file.
+     * @return The parsed layout.
+     */
+    private static CachedScreen parse(String path) {
+        misses.incrementAndGet();
+        URL url = Objects.requireNonNull(SceneCache.class.getResource(path), "FXML not found: " + path);
+        FXMLLoader loader = new FXMLLoader(url);
+        long start = System.nanoTime();
+        try {
+            loader.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse FXML: " + path, e);
+        }
+        CachedScreen screen = new CachedScreen(loader, System.nanoTime() - start);
+        logger.info(String.format("Loaded %s in %.1f ms", path, screen.loadNanos / 1_000_000.0));
+        return screen;
+    }
+
+    /**
+     * Retrieves the number of requests served from the cache.
+     *
+     * @return The hit count.
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Retrieves the number of requests that had to parse a layout.
+     *
+     * @return The miss count.
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Retrieves the number of layouts currently cached.
+     *
+     * @return The number of cached layouts.
+     */
+    public static int size() {
+        return screens.size();
+    }
+
+    /**
+     * Removes every cached layout and resets the counters. Screens already shown keep their nodes.
+     */
+    public static void clear() {
+        screens.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+}
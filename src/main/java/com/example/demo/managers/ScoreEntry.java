@@ -0,0 +1,147 @@
+package com.example.demo.managers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * One finished game as kept in the score log: when it ended, the mode it was played in, the score, the
+ * wave reached and how long it lasted.
+ * The score log stores entries as fixed-width binary records. Older logs held each entry as a tab-separated
+ * line ending with a checksum of the line; that form is still read, to migrate such logs.
+ */
+public final class ScoreEntry {
+
+    // Longest game mode, in UTF-8 bytes, so it fits a score log record.
+    public static final int MAX_MODE_BYTES = 16;
+
+    private static final char SEPARATOR = '\t';
+    private static final int FIELDS = 6; // Timestamp, mode, score, wave, duration and checksum.
+
+    private final long timestamp; // When the game ended, in milliseconds since the epoch.
+    private final String mode; // Game mode the score was reached in.
+    private final int score; // Final score.
+    private final int wave; // Wave reached, or 0 if the mode has no waves.
+    private final long durationMillis; // Length of the game.
+
+    /**
+     * Constructor to initialize an entry.
+     *
+     * @param timestamp      When the game ended, in milliseconds since the epoch.
+     * @param mode           The game mode the score was reached in.
+     * @param score          The final score.
+     * @param wave           The wave reached, or 0 if the mode has no waves.
+     * @param durationMillis The length of the game in milliseconds.
+     * @throws IllegalArgumentException If the mode is empty, longer than `MAX_MODE_BYTES` or contains a control character.
+     */
+    public ScoreEntry(long timestamp, String mode, int score, int wave, long durationMillis) {
+        if (mode == null || mode.isEmpty() || mode.getBytes(StandardCharsets.UTF_8).length > MAX_MODE_BYTES
+                || mode.chars().anyMatch(Character::isISOControl)) {
+            throw new IllegalArgumentException("Invalid game mode: " + mode);
+        }
+        this.timestamp = timestamp;
+        this.mode = mode;
+        this.score = score;
+        this.wave = wave;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Retrieves when the game ended.
+     *
+     * @return The timestamp in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Retrieves the game mode the score was reached in.
+     *
+     * @return The mode.
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Retrieves the final score.
+     *
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Retrieves the wave reached.
+     *
+     * @return The wave, or 0 if the mode has no waves.
+     */
+    public int getWave() {
+        return wave;
+    }
+
+    /**
+     * Retrieves the length of the game.
+     *
+     * @return The duration in milliseconds.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Formats the entry as a line of the older text log, without the line break.
+     *
+     * @return The entry's fields and checksum, separated by tabs.
+     */
+    String toLine() {
+        String fields = timestamp + "" + SEPARATOR + mode + SEPARATOR + score + SEPARATOR + wave + SEPARATOR + durationMillis;
+        return fields + SEPARATOR + Long.toHexString(checksum(fields));
+    }
+
+    /**
+     * Parses a line of the older text log, as written by {@link #toLine()}.
+     *
+     * @param line The line, without the line break.
+     * @return The entry, or null if the line is malformed or its checksum does not match.
+     */
+    static ScoreEntry parse(String line) {
+        int checksumStart = line.lastIndexOf(SEPARATOR);
+        String[] parts = line.split(String.valueOf(SEPARATOR), -1);
+        if (checksumStart < 0 || parts.length != FIELDS) {
+            return null;
+        }
+        try {
+            if (Long.parseLong(parts[5], 16) != checksum(line.substring(0, checksumStart))) {
+                return null;
+            }
+            return new ScoreEntry(Long.parseLong(parts[0]), parts[1], Integer.parseInt(parts[2]),
+                    Integer.parseInt(parts[3]), Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException e) { // Includes NumberFormatException.
+            return null;
+        }
+    }
+
+    /**
+     * Computes the checksum of a line's fields.
+     *
+     * @param fields The fields of the line, before the checksum.
+     * @return The CRC-32 of the fields.
+     */
+    private static long checksum(String fields) {
+        CRC32 crc = new CRC32();
+        crc.update(fields.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Describes the entry.
+     *
+     * @return The entry's fields.
+     */
+    @Override
+    public String toString() {
+        return "ScoreEntry[" + mode + ", score " + score + ", wave " + wave + ", " + durationMillis + " ms, at " + timestamp + "]";
+    }
+}
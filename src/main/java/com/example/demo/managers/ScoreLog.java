@@ -0,0 +1,568 @@
+package com.example.demo.managers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only binary file holding every finished game, one fixed-width record per {@link ScoreEntry}.
+ * The file starts with a header holding a magic number, the format version, the record size and the number
+ * of committed records, so opening it only reads the header. Reading fills one reused buffer with many records
+ * per positioned read and decodes them in place. The file is not memory-mapped, since a mapped file cannot be
+ * truncated or replaced on Windows until the mapping is garbage collected. Record n always starts at the same
+ * offset, so appending is one positioned write after the last record, followed by updating the count in the header.
+ * Each record carries a checksum. A crash between the two writes leaves intact records past the count, which
+ * are recovered; a record torn by a crash fails its checksum and is skipped. Compaction rewrites the file without
+ * damaged records into a temporary file that then atomically replaces it.
+ * Appends and compactions lock the file, so several processes can share it. A compaction marks the file it
+ * replaced, so a process that opened that file first opens the new one instead of writing to the old one.
+ */
+public class ScoreLog implements ScoreSink {
+
+    private static final int MAGIC = 0x534B5953; // "SKYS"
+    private static final int REPLACED_MAGIC = 0x534B5958; // "SKYX", written over the magic of a replaced file.
+    private static final short VERSION = 1;
+
+    // Size of the header: magic, version, record size, record count and reserved bytes.
+    static final int HEADER_SIZE = 32;
+
+    // Size of a record: score, wave, timestamp, duration, mode, checksum and padding.
+    static final int RECORD_SIZE = 48;
+
+    private static final int COUNT_OFFSET = 8; // Offset of the record count in the header.
+    private static final int CHECKSUM_OFFSET = 40; // Offset of the checksum in a record; it covers the bytes before it.
+    private static final int READ_RECORDS = 1024; // Records read at a time while reading.
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path file; // The score file.
+    private int damagedRecordCount; // Records skipped by the last read.
+
+    /**
+     * Constructor to initialize a log backed by a file, which is created by the first write.
+     *
+     * @param file The score file.
+     */
+    public ScoreLog(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Retrieves the score file.
+     *
+     * @return The path of the file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Checks whether the score file exists yet.
+     *
+     * @return True if the file exists, false otherwise.
+     */
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * Reads the number of committed records from the header, without reading any record.
+     *
+     * @return The record count; 0 if the file does not exist.
+     * @throws IOException If the file cannot be read or is not a score file.
+     */
+    public long count() throws IOException {
+        if (!exists()) {
+            return 0;
+        }
+        try (FileChannel channel = openForReading()) {
+            return readHeader(channel);
+        }
+    }
+
+    /**
+     * Reads every intact entry, in the order they were saved. Damaged records are skipped and counted.
+     *
+     * @return The entries; empty if the file does not exist.
+     * @throws IOException If the file cannot be read or is not a score file.
+     */
+    public List<ScoreEntry> load() throws IOException {
+        List<ScoreEntry> entries = new ArrayList<>();
+        scan(entries::add);
+        return entries;
+    }
+
+    /**
+     * Decodes every intact entry straight from the read buffer, in the order they were saved, without
+     * collecting them. Damaged records are skipped and counted.
+     *
+     * @param consumer Receives each entry.
+     * @throws IOException If the file cannot be read or is not a score file.
+     */
+    public void scan(Consumer<ScoreEntry> consumer) throws IOException {
+        scan(0, consumer);
+    }
+
+    /**
+     * Decodes every intact entry from a record on, in the order they were saved. Damaged records are
+     * skipped and counted.
+     *
+     * @param fromRecord The first record to read, starting from 0.
+     * @param consumer   Receives each entry.
+     * @return The number of records the file holds, counting damaged ones but not a torn record at its end;
+     * 0 if the file does not exist.
+     * @throws IOException If the file cannot be read or is not a score file.
+     */
+    public long scan(long fromRecord, Consumer<ScoreEntry> consumer) throws IOException {
+        damagedRecordCount = 0;
+        if (!exists()) {
+            return 0;
+        }
+        try (FileChannel channel = openForReading()) {
+            return scan(channel, fromRecord, consumer);
+        }
+    }
+
+    /**
+     * Reads the checksum stored in a record, which tells records apart without decoding them.
+     *
+     * @param record The record, starting from 0.
+     * @return The checksum, or -1 if the file does not hold the record.
+     * @throws IOException If the file cannot be read or is not a score file.
+     */
+    public long readChecksum(long record) throws IOException {
+        if (!exists()) {
+            return -1;
+        }
+        try (FileChannel channel = openForReading()) {
+            readHeader(channel);
+            long position = HEADER_SIZE + record * RECORD_SIZE;
+            if (record < 0 || channel.size() < position + RECORD_SIZE) {
+                return -1;
+            }
+            ByteBuffer checksum = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, checksum, position + CHECKSUM_OFFSET);
+            return Integer.toUnsignedLong(checksum.getInt(0));
+        }
+    }
+
+    /**
+     * Decodes every intact entry of an open file from a record on, counting damaged records.
+     *
+     * @param channel    The open file.
+     * @param fromRecord The first record to read.
+     * @param consumer   Receives each entry.
+     * @return The number of records the file holds, counting damaged ones but not a torn record at its end.
+     * @throws IOException If the file cannot be read or is not a score file.
+     */
+    private long scan(FileChannel channel, long fromRecord, Consumer<ScoreEntry> consumer) throws IOException {
+        long committed = readHeader(channel);
+        long available = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        if (available <= fromRecord) {
+            return Math.max(available, 0);
+        }
+        ByteBuffer records = ByteBuffer.allocateDirect((int) Math.min(READ_RECORDS, available - fromRecord) * RECORD_SIZE);
+        for (long first = fromRecord; first < available; first += READ_RECORDS) {
+            int read = (int) Math.min(READ_RECORDS, available - first);
+            records.clear().limit(read * RECORD_SIZE);
+            readFully(channel, records, HEADER_SIZE + first * RECORD_SIZE);
+            for (int i = 0; i < read; i++) {
+                ScoreEntry entry = decode(records, i * RECORD_SIZE);
+                if (entry != null) {
+                    consumer.accept(entry);
+                } else if (first + i < committed) {
+                    damagedRecordCount++;
+                } else {
+                    return first + i; // Torn record of an append that was never committed.
+                }
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Retrieves the number of damaged records the last read skipped.
+     *
+     * @return The damaged record count.
+     */
+    public int getDamagedRecordCount() {
+        return damagedRecordCount;
+    }
+
+    /**
+     * Checks whether the last read found records that compaction would remove.
+     *
+     * @return True if the file should be compacted, false otherwise.
+     */
+    public boolean needsCompaction() {
+        return damagedRecordCount > 0;
+    }
+
+    /**
+     * Appends an entry and forces it to disk before returning.
+     *
+     * @param entry The entry to save.
+     * @throws IOException If the file cannot be written.
+     */
+    public void append(ScoreEntry entry) throws IOException {
+        append(List.of(entry), true);
+    }
+
+    /**
+     * Appends a batch of entries with one positioned write after the last intact record, then commits them
+     * by updating the record count in the header. The file is locked meanwhile, so appends from several
+     * processes do not overwrite each other.
+     *
+     * @param entries The entries to save, in order.
+     * @param force   Whether to force the entries to disk before returning.
+     * @throws IOException If the file cannot be written or is not a score file.
+     */
+    @Override
+    public void append(Collection<ScoreEntry> entries, boolean force) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (FileChannel channel = openLocked()) {
+            long count;
+            if (channel.size() == 0) {
+                writeFully(channel, header(0), 0);
+                count = 0;
+            } else {
+                count = recoverCount(channel, readHeader(channel));
+            }
+            ByteBuffer records = ByteBuffer.allocate(entries.size() * RECORD_SIZE);
+            for (ScoreEntry entry : entries) {
+                encode(entry, records);
+            }
+            records.flip();
+            long end = HEADER_SIZE + (count + entries.size()) * RECORD_SIZE;
+            writeFully(channel, records, HEADER_SIZE + count * RECORD_SIZE);
+            if (channel.size() > end) {
+                channel.truncate(end); // Drop what is left of a torn record.
+            }
+            if (force) {
+                channel.force(false);
+            }
+            ByteBuffer newCount = ByteBuffer.allocate(Long.BYTES).putLong(0, count + entries.size());
+            writeFully(channel, newCount, COUNT_OFFSET);
+            if (force) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Forces entries appended without forcing to disk.
+     *
+     * @throws IOException If the file cannot be synced.
+     */
+    @Override
+    public void sync() throws IOException {
+        if (!exists()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Rewrites the file without its damaged records. The file is read and replaced under its lock, so
+     * entries appended by another process meanwhile are kept.
+     *
+     * @throws IOException If the file cannot be read or replaced.
+     */
+    public void compact() throws IOException {
+        damagedRecordCount = 0;
+        try (FileChannel channel = openLocked()) {
+            List<ScoreEntry> entries = new ArrayList<>();
+            if (channel.size() > 0) {
+                scan(channel, 0, entries::add);
+            }
+            replace(channel, entries);
+        }
+    }
+
+    /**
+     * Replaces the file with exactly the given entries, holding its lock until it is replaced.
+     *
+     * @param entries The entries to keep, in order.
+     * @throws IOException If the file cannot be replaced.
+     */
+    public void compact(Collection<ScoreEntry> entries) throws IOException {
+        try (FileChannel channel = openLocked()) {
+            replace(channel, entries);
+        }
+    }
+
+    /**
+     * Replaces the locked file with the given entries. They are written to a temporary file next to it,
+     * forced to disk, and moved over the file in one step. The old file is then marked as replaced before
+     * its lock is released.
+     *
+     * @param locked  The score file, open and locked.
+     * @param entries The entries to keep, in order.
+     * @throws IOException If the file cannot be replaced.
+     */
+    private void replace(FileChannel locked, Collection<ScoreEntry> entries) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header(entries.size()), 0);
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            long position = HEADER_SIZE;
+            for (ScoreEntry entry : entries) {
+                record.clear();
+                encode(entry, record);
+                record.flip();
+                writeFully(channel, record, position);
+                position += RECORD_SIZE;
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        writeFully(locked, ByteBuffer.allocate(Integer.BYTES).putInt(0, REPLACED_MAGIC), 0);
+        locked.force(false);
+        damagedRecordCount = 0;
+    }
+
+    /**
+     * Opens the score file for writing and locks it, creating it if needed. A file a compaction replaced
+     * while this waited for the lock is closed and the current one opened instead.
+     *
+     * @return The open file, locked until it is closed.
+     * @throws IOException If the file cannot be opened or locked.
+     */
+    private FileChannel openLocked() throws IOException {
+        while (true) {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                channel.lock(); // Released when the channel is closed.
+                if (!isReplaced(channel)) {
+                    return channel;
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            channel.close();
+        }
+    }
+
+    /**
+     * Opens the score file for reading. A file a compaction replaced after it was opened is closed and the
+     * current one opened instead.
+     *
+     * @return The open file.
+     * @throws IOException If the file cannot be opened.
+     */
+    private FileChannel openForReading() throws IOException {
+        while (true) {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                if (!isReplaced(channel)) {
+                    return channel;
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            channel.close();
+        }
+    }
+
+    /**
+     * Checks whether an open file was replaced by a compaction.
+     *
+     * @param channel The open file.
+     * @return True if the file is no longer the score file, false otherwise.
+     * @throws IOException If the file cannot be read.
+     */
+    private static boolean isReplaced(FileChannel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+        return channel.read(magic, 0) == Integer.BYTES && magic.getInt(0) == REPLACED_MAGIC;
+    }
+
+    /**
+     * Reads the entries of an older text score log, one checksummed line per entry, to migrate them.
+     * Damaged lines are skipped.
+     *
+     * @param textLog The text log.
+     * @return The intact entries, in the order they were saved.
+     * @throws IOException If the text log cannot be read.
+     */
+    public static List<ScoreEntry> readTextLog(Path textLog) throws IOException {
+        List<ScoreEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(textLog, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ScoreEntry entry = line.isEmpty() ? null : ScoreEntry.parse(line);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Builds a header.
+     *
+     * @param count The record count to store.
+     * @return The header, ready to be written.
+     */
+    private static ByteBuffer header(long count) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).putLong(count);
+        return header.clear();
+    }
+
+    /**
+     * Reads and checks the header.
+     *
+     * @param channel The open file.
+     * @return The committed record count.
+     * @throws IOException If the file is not a score file this version can read.
+     */
+    private static long readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.read(header, 0) < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException("Not a score file");
+        }
+        if (header.getShort(4) != VERSION || header.getShort(6) != RECORD_SIZE) {
+            throw new IOException("Unsupported score file version: " + header.getShort(4));
+        }
+        long count = header.getLong(COUNT_OFFSET);
+        if (count < 0) {
+            throw new IOException("Corrupt score file: negative record count");
+        }
+        return count;
+    }
+
+    /**
+     * Counts the records to append after: the committed ones, plus intact records written by an append
+     * whose commit was lost in a crash.
+     *
+     * @param channel   The open file.
+     * @param committed The record count from the header.
+     * @return The number of records to keep.
+     * @throws IOException If the file cannot be read.
+     */
+    private static long recoverCount(FileChannel channel, long committed) throws IOException {
+        long available = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        long count = Math.min(committed, available);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        while (count < available) {
+            record.clear();
+            channel.read(record, HEADER_SIZE + count * RECORD_SIZE);
+            if (decode(record, 0) == null) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Encodes an entry as a record at the buffer's position.
+     *
+     * @param entry  The entry.
+     * @param buffer The buffer, with room for a record.
+     */
+    private static void encode(ScoreEntry entry, ByteBuffer buffer) {
+        int start = buffer.position();
+        byte[] mode = entry.getMode().getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(entry.getScore())
+                .putInt(entry.getWave())
+                .putLong(entry.getTimestamp())
+                .putLong(entry.getDurationMillis())
+                .put(mode)
+                .put(new byte[ScoreEntry.MAX_MODE_BYTES - mode.length]);
+        buffer.putInt((int) checksum(buffer, start));
+        buffer.putInt(0); // Padding.
+    }
+
+    /**
+     * Decodes the record at an offset, without moving the buffer's position.
+     *
+     * @param buffer The buffer holding records.
+     * @param offset The offset of the record.
+     * @return The entry, or null if the record is damaged.
+     */
+    private static ScoreEntry decode(ByteBuffer buffer, int offset) {
+        if ((int) checksum(buffer, offset) != buffer.getInt(offset + CHECKSUM_OFFSET)) {
+            return null;
+        }
+        byte[] mode = new byte[ScoreEntry.MAX_MODE_BYTES];
+        buffer.get(offset + 24, mode);
+        int length = 0;
+        while (length < mode.length && mode[length] != 0) {
+            length++;
+        }
+        try {
+            return new ScoreEntry(buffer.getLong(offset + 8), new String(mode, 0, length, StandardCharsets.UTF_8),
+                    buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getLong(offset + 16));
+        } catch (IllegalArgumentException e) {
+            return null; // An empty or invalid mode: a zeroed record.
+        }
+    }
+
+    /**
+     * Computes the checksum of a record's fields.
+     *
+     * @param buffer The buffer holding the record.
+     * @param offset The offset of the record.
+     * @return The CRC-32 of the bytes before the checksum.
+     */
+    private static long checksum(ByteBuffer buffer, int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, CHECKSUM_OFFSET));
+        return crc.getValue();
+    }
+
+    /**
+     * Fills the rest of a buffer from a position.
+     *
+     * @param channel  The open file.
+     * @param buffer   The buffer to fill.
+     * @param position The offset to read from.
+     * @throws IOException If the file cannot be read or ends first.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Score file ended while reading");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Writes a whole buffer at a position.
+     *
+     * @param channel  The open file.
+     * @param buffer   The bytes to write.
+     * @param position The offset to write at.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.managers;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Somewhere a {@link ScoreWriter} delivers batches of score entries: a score file, or a leaderboard service.
+ */
+public interface ScoreSink {
+
+    /**
+     * Delivers a batch of entries.
+     *
+     * @param entries The entries, in order.
+     * @param force   Whether the entries must be durable before returning.
+     * @throws IOException If the entries could not be delivered.
+     */
+    void append(Collection<ScoreEntry> entries, boolean force) throws IOException;
+
+    /**
+     * Makes entries delivered without forcing durable. Sinks that are always durable do nothing.
+     *
+     * @throws IOException If the entries could not be made durable.
+     */
+    default void sync() throws IOException {
+    }
+}
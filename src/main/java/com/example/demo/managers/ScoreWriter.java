@@ -0,0 +1,324 @@
+package com.example.demo.managers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes score entries to a {@link ScoreSink}, such as a {@link ScoreLog}, on a background thread, so saving
+ * a score never waits on the disk or the network.
+ * Entries submitted from any thread are queued and taken by a single writer thread, which delivers everything
+ * pending as one batch. The sync policy decides whether each batch is also forced to disk, or only when the
+ * writer is flushed, which the writer thread does too, in order with the batches. Entries that cannot be written
+ * are reported and counted, or, when the writer has a retry delay, kept and written again after the delay until
+ * they are written or the writer is closed. Closing stops the thread between batches, never in the middle of one.
+ */
+public class ScoreWriter {
+
+    /**
+     * When appended entries are forced to disk.
+     */
+    public enum SyncPolicy {
+        /** Force every batch before taking the next one. */
+        EVERY_BATCH,
+        /** Force only when the writer is flushed or closed. */
+        ON_FLUSH
+    }
+
+    // Most entries appended by one write.
+    public static final int MAX_BATCH_SIZE = 64;
+
+    private final ScoreSink sink; // Where the entries are delivered.
+    private final SyncPolicy syncPolicy; // When batches are forced to disk.
+    private final Duration retryDelay; // Wait before writing a failed batch again, or null to drop it.
+    private static final ScoreEntry SYNC = new ScoreEntry(0, "SYNC", 0, 0, 0); // Queued to ask the writer to sync.
+    private static final ScoreEntry STOP = new ScoreEntry(0, "STOP", 0, 0, 0); // Queued to stop the writer.
+
+    private final BlockingQueue<ScoreEntry> queue = new LinkedBlockingQueue<>(); // Entries waiting to be written.
+    private final Thread thread; // The single writer.
+
+    private final Object progress = new Object(); // Guards the counters below and signals flushes.
+    private long submittedCount; // Entries accepted so far.
+    private long processedCount; // Entries written or failed so far.
+    private long batchCount; // Batches appended so far.
+    private long failedCount; // Entries that could not be written.
+    private long syncRequestCount; // Syncs queued by flushes so far.
+    private long syncDoneCount; // Queued syncs the writer has done so far.
+    private boolean unsynced; // Whether batches were appended without forcing them.
+    private boolean closed; // Whether the writer no longer accepts entries.
+    private boolean stopping; // Whether the writer gives up on retries and pending entries.
+
+    /**
+     * Constructor to initialize a writer that drops entries it cannot write, and start its thread.
+     *
+     * @param sink       Where to deliver entries.
+     * @param syncPolicy When appended entries are forced to disk.
+     */
+    public ScoreWriter(ScoreSink sink, SyncPolicy syncPolicy) {
+        this(sink, syncPolicy, null);
+    }
+
+    /**
+     * Constructor to initialize a writer and start its thread.
+     *
+     * @param sink       Where to deliver entries.
+     * @param syncPolicy When appended entries are forced to disk.
+     * @param retryDelay The wait before writing a failed batch again, or null to drop failed batches.
+     */
+    public ScoreWriter(ScoreSink sink, SyncPolicy syncPolicy, Duration retryDelay) {
+        this.sink = sink;
+        this.syncPolicy = syncPolicy;
+        this.retryDelay = retryDelay;
+        this.thread = new Thread(this::run, "score-writer");
+        thread.setDaemon(true); // A pending score never keeps the game from exiting; the shutdown hook flushes it.
+        thread.start();
+    }
+
+    /**
+     * Queues an entry to be written and returns immediately.
+     *
+     * @param entry The entry to save.
+     * @throws IllegalStateException If the writer is closed.
+     */
+    public void submit(ScoreEntry entry) {
+        submitAll(List.of(entry));
+    }
+
+    /**
+     * Queues entries to be written, in order, and returns immediately. Entries submitted together are never
+     * interleaved with entries from another thread.
+     *
+     * @param entries The entries to save.
+     * @throws IllegalStateException If the writer is closed.
+     */
+    public void submitAll(Collection<ScoreEntry> entries) {
+        synchronized (progress) {
+            if (closed) {
+                throw new IllegalStateException("Score writer is closed");
+            }
+            submittedCount += entries.size();
+            queue.addAll(entries); // Under the lock, so concurrent batches are not interleaved.
+        }
+    }
+
+    /**
+     * Waits until every entry submitted so far is written, and forced to disk by the writer thread. With a
+     * retry delay, entries still being retried are waited for until the timeout.
+     *
+     * @param timeout The longest time to wait.
+     * @param unit    The unit of the timeout.
+     * @return True if everything was written in time, false if the wait timed out or was interrupted.
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (progress) {
+            if (stopping) {
+                return processedCount == submittedCount; // The writer has stopped taking syncs.
+            }
+            long ticket = ++syncRequestCount;
+            queue.add(SYNC); // Behind every entry submitted so far.
+            while (syncDoneCount < ticket) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(progress, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stops accepting entries, flushes what is pending and stops the writer thread once it finishes the batch
+     * in hand. Entries still failing or waiting when the flush times out are counted as failed.
+     *
+     * @param timeout The longest time to wait for pending entries, and then for the thread to stop.
+     * @param unit    The unit of the timeout.
+     * @return True if every pending entry was written in time, false otherwise.
+     */
+    public boolean close(long timeout, TimeUnit unit) {
+        synchronized (progress) {
+            closed = true;
+        }
+        boolean flushed = flush(timeout, unit);
+        synchronized (progress) {
+            stopping = true;
+            queue.add(STOP);
+            progress.notifyAll(); // Wake a writer waiting to retry.
+        }
+        try {
+            thread.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return flushed;
+    }
+
+    /**
+     * Checks whether the writer has been closed.
+     *
+     * @return True if the writer no longer accepts entries, false otherwise.
+     */
+    public boolean isClosed() {
+        synchronized (progress) {
+            return closed;
+        }
+    }
+
+    /**
+     * Retrieves the number of batches appended so far.
+     *
+     * @return The batch count.
+     */
+    public long getBatchCount() {
+        synchronized (progress) {
+            return batchCount;
+        }
+    }
+
+    /**
+     * Retrieves the number of entries that could not be written.
+     *
+     * @return The failed count.
+     */
+    public long getFailedCount() {
+        synchronized (progress) {
+            return failedCount;
+        }
+    }
+
+    /**
+     * Takes pending entries in batches and appends them, and does the syncs flushes queue between them,
+     * until the writer is stopped.
+     */
+    private void run() {
+        List<ScoreEntry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            ScoreEntry next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                return; // Nothing interrupts the writer; stop if something does.
+            }
+            if (next == STOP) {
+                return;
+            }
+            if (next == SYNC) {
+                sync();
+                continue;
+            }
+            batch.add(next);
+            while (batch.size() < MAX_BATCH_SIZE && queue.peek() != null && queue.peek() != SYNC && queue.peek() != STOP) {
+                batch.add(queue.poll()); // Only this thread takes from the queue, so the peeked entry is polled.
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Forces appended batches to disk, if any were appended without forcing, and wakes up waiting flushes.
+     */
+    private void sync() {
+        boolean sync;
+        synchronized (progress) {
+            sync = unsynced;
+            unsynced = false;
+        }
+        if (sync) {
+            try {
+                sink.sync();
+            } catch (IOException e) {
+                System.err.println("Error syncing scores: " + e.getMessage());
+            }
+        }
+        synchronized (progress) {
+            syncDoneCount++;
+            progress.notifyAll();
+        }
+    }
+
+    /**
+     * Appends one batch, retrying it after the retry delay if there is one, and records the outcome.
+     * Once the writer is stopping, the batch is given up instead.
+     *
+     * @param batch The entries to append.
+     */
+    private void write(List<ScoreEntry> batch) {
+        boolean force = syncPolicy == SyncPolicy.EVERY_BATCH;
+        boolean written = false;
+        while (!written && !isStopping()) {
+            try {
+                sink.append(batch, force);
+                written = true;
+            } catch (IOException e) {
+                System.err.println("Error writing scores: " + e.getMessage()); // Log errors during writing.
+                if (retryDelay == null || !awaitRetry()) {
+                    break;
+                }
+            }
+        }
+        record(batch, written, force);
+    }
+
+    /**
+     * Checks whether the writer is stopping.
+     *
+     * @return True if pending entries are given up, false otherwise.
+     */
+    private boolean isStopping() {
+        synchronized (progress) {
+            return stopping;
+        }
+    }
+
+    /**
+     * Waits for the retry delay, or until the writer is stopping.
+     *
+     * @return True if the batch should be written again, false if the writer is stopping.
+     */
+    private boolean awaitRetry() {
+        long deadline = System.nanoTime() + retryDelay.toNanos();
+        synchronized (progress) {
+            long remaining;
+            while (!stopping && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(progress, remaining);
+                } catch (InterruptedException e) {
+                    return false; // Nothing interrupts the writer; give the batch up if something does.
+                }
+            }
+            return !stopping;
+        }
+    }
+
+    /**
+     * Records the outcome of a batch and wakes up waiting flushes.
+     *
+     * @param batch   The entries appended.
+     * @param written Whether they were written.
+     * @param force   Whether they were forced to disk.
+     */
+    private void record(List<ScoreEntry> batch, boolean written, boolean force) {
+        synchronized (progress) {
+            processedCount += batch.size();
+            if (written) {
+                batchCount++;
+                unsynced |= !force;
+            } else {
+                failedCount += batch.size();
+            }
+            progress.notifyAll();
+        }
+    }
+}
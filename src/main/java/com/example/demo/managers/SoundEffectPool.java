@@ -0,0 +1,181 @@
+package com.example.demo.managers;
+
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+import java.util.function.Supplier;
+
+/**
+ * A small pool of voices playing one sound effect, so rapid repeats overlap instead of cutting each other off.
+ * Each voice is a separately decoded {@link AudioClip}, which is kept in memory and can be started from any
+ * thread with little latency, unlike a MediaPlayer that has to be stopped and rewound on the FX thread.
+ * A play uses an idle voice if there is one; when every voice is busy, the voice that started longest ago
+ * is stopped and reused, so no more than the pool's polyphony ever sound at once.
+ */
+public class SoundEffectPool {
+
+    /**
+     * One voice of the pool, able to play the effect once at a time.
+     */
+    public interface Voice {
+
+        /**
+         * Starts the effect from the beginning.
+         *
+         * @param volume The volume to play at (0.0 to 1.0).
+         */
+        void play(double volume);
+
+        /**
+         * Stops the effect if it is playing.
+         */
+        void stop();
+
+        /**
+         * Checks whether the effect is still playing.
+         *
+         * @return True if the voice is busy, false otherwise.
+         */
+        boolean isPlaying();
+    }
+
+    // Default number of voices per effect.
+    public static final int DEFAULT_POLYPHONY = 4;
+
+    private final Voice[] voices; // Voices of the pool.
+    private final long[] startOrder; // When each voice was last started, as a play counter.
+    private long plays; // Number of plays so far.
+
+    /**
+     * Constructor to initialize a pool from a voice factory.
+     *
+     * @param voiceFactory Creates each voice.
+     * @param polyphony    The number of voices, i.e. the most plays that can sound at once.
+     * @throws IllegalArgumentException If the polyphony is not positive.
+     */
+    public SoundEffectPool(Supplier<Voice> voiceFactory, int polyphony) {
+        if (polyphony <= 0) {
+            throw new IllegalArgumentException("Polyphony must be positive: " + polyphony);
+        }
+        this.voices = new Voice[polyphony];
+        this.startOrder = new long[polyphony];
+        for (int i = 0; i < polyphony; i++) {
+            voices[i] = voiceFactory.get();
+        }
+    }
+
+    /**
+     * Creates a pool of audio clip voices for a sound resource. The clips are decoded here, not when played.
+     *
+     * @param resource  The sound resource.
+     * @param polyphony The number of voices.
+     * @return The pool.
+     */
+    public static SoundEffectPool load(URL resource, int polyphony) {
+        String source = resource.toExternalForm();
+        return new SoundEffectPool(() -> new ClipVoice(new AudioClip(source)), polyphony);
+    }
+
+    /**
+     * Plays the effect on an idle voice, or steals the voice that started longest ago if all are busy.
+     *
+     * @param volume The volume to play at (0.0 to 1.0).
+     * @return The index of the voice used.
+     */
+    public int play(double volume) {
+        int chosen = 0;
+        for (int i = 0; i < voices.length; i++) {
+            if (!voices[i].isPlaying()) {
+                chosen = i;
+                break;
+            }
+            if (startOrder[i] < startOrder[chosen]) {
+                chosen = i;
+            }
+        }
+        Voice voice = voices[chosen];
+        if (voice.isPlaying()) {
+            voice.stop(); // Every voice is busy: steal the oldest.
+        }
+        voice.play(volume);
+        startOrder[chosen] = ++plays;
+        return chosen;
+    }
+
+    /**
+     * Stops every voice.
+     */
+    public void stopAll() {
+        for (Voice voice : voices) {
+            voice.stop();
+        }
+    }
+
+    /**
+     * Counts the voices currently playing.
+     *
+     * @return The number of busy voices.
+     */
+    public int getActiveVoiceCount() {
+        int active = 0;
+        for (Voice voice : voices) {
+            if (voice.isPlaying()) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Retrieves the number of voices in the pool.
+     *
+     * @return The polyphony.
+     */
+    public int getPolyphony() {
+        return voices.length;
+    }
+
+    /**
+     * A voice backed by its own audio clip.
+     */
+    private static final class ClipVoice implements Voice {
+        private final AudioClip clip; // Decoded sound of this voice.
+
+        /**
+         * Constructor to initialize the voice.
+         *
+         * @param clip The voice's audio clip.
+         */
+        ClipVoice(AudioClip clip) {
+            this.clip = clip;
+        }
+
+        /**
+         * Starts the clip from the beginning.
+         *
+         * @param volume The volume to play at (0.0 to 1.0).
+         */
+        @Override
+        public void play(double volume) {
+            clip.play(volume);
+        }
+
+        /**
+         * Stops the clip.
+         */
+        @Override
+        public void stop() {
+            clip.stop();
+        }
+
+        /**
+         * Checks whether the clip is playing.
+         *
+         * @return True if the clip is playing, false otherwise.
+         */
+        @Override
+        public boolean isPlaying() {
+            return clip.isPlaying();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.managers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects the sound effects requested during a frame and plays them together once the frame is done.
+ * Requests for an effect that is already queued, or that was played within the coalescing window, are
+ * merged into one; at most a fixed number of new voices are started per frame and the rest are dropped.
+ * The surviving effects are handed to a dispatcher, so starting voices never runs on the game loop.
+ * Requests and flushes come from the game thread only.
+ */
+public class SoundEventQueue {
+
+    // Default time within which repeats of an effect are merged into one.
+    public static final long DEFAULT_COALESCE_WINDOW_MILLIS = 30;
+
+    // Default number of new voices started per frame.
+    public static final int DEFAULT_MAX_VOICES_PER_FRAME = 4;
+
+    private final Consumer<String> player; // Starts a voice for an effect.
+    private final Executor dispatcher; // Runs the player off the game loop.
+    private final LongSupplier clock; // Current time in nanoseconds.
+
+    private final List<String> pending = new ArrayList<>(); // Effects requested this frame, without repeats.
+    private final Map<String, Long> lastPlayed = new HashMap<>(); // When each effect was last dispatched.
+
+    private long coalesceWindowNanos = DEFAULT_COALESCE_WINDOW_MILLIS * 1_000_000;
+    private int maxVoicesPerFrame = DEFAULT_MAX_VOICES_PER_FRAME;
+
+    private long dispatchedCount; // Effects handed to the dispatcher.
+    private long mergedCount; // Requests merged into another play of the same effect.
+    private long droppedCount; // Requests dropped by the per-frame voice limit.
+
+    /**
+     * Constructor to initialize a queue on the system clock.
+     *
+     * @param player     Starts a voice for an effect, given its key.
+     * @param dispatcher Runs the player off the game loop.
+     */
+    public SoundEventQueue(Consumer<String> player, Executor dispatcher) {
+        this(player, dispatcher, System::nanoTime);
+    }
+
+    /**
+     * Constructor to initialize a queue on a given clock.
+     *
+     * @param player     Starts a voice for an effect, given its key.
+     * @param dispatcher Runs the player off the game loop.
+     * @param clock      Supplies the current time in nanoseconds.
+     */
+    SoundEventQueue(Consumer<String> player, Executor dispatcher, LongSupplier clock) {
+        this.player = player;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+    }
+
+    /**
+     * Requests an effect for this frame. A repeat of an effect already requested this frame is merged.
+     *
+     * @param key The key identifying the sound effect.
+     */
+    public void submit(String key) {
+        if (pending.contains(key)) {
+            mergedCount++;
+        } else {
+            pending.add(key);
+        }
+    }
+
+    /**
+     * Ends the frame: merges effects played within the coalescing window, applies the voice limit, and hands
+     * the remaining effects to the dispatcher in the order they were requested.
+     *
+     * @return The number of effects dispatched.
+     */
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        List<String> toPlay = new ArrayList<>(Math.min(pending.size(), maxVoicesPerFrame));
+        for (String key : pending) {
+            Long last = lastPlayed.get(key);
+            if (last != null && now - last < coalesceWindowNanos) {
+                mergedCount++;
+            } else if (toPlay.size() >= maxVoicesPerFrame) {
+                droppedCount++;
+            } else {
+                toPlay.add(key);
+                lastPlayed.put(key, now);
+            }
+        }
+        pending.clear();
+        if (!toPlay.isEmpty()) {
+            dispatchedCount += toPlay.size();
+            dispatcher.execute(() -> toPlay.forEach(player));
+        }
+        return toPlay.size();
+    }
+
+    /**
+     * Sets the time within which repeats of an effect are merged into one.
+     *
+     * @param millis The coalescing window in milliseconds; 0 merges only repeats within a frame.
+     * @throws IllegalArgumentException If the window is negative.
+     */
+    public void setCoalesceWindowMillis(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Coalescing window must not be negative: " + millis);
+        }
+        this.coalesceWindowNanos = millis * 1_000_000;
+    }
+
+    /**
+     * Sets the number of new voices started per frame.
+     *
+     * @param maxVoicesPerFrame The per-frame voice limit.
+     * @throws IllegalArgumentException If the limit is not positive.
+     */
+    public void setMaxVoicesPerFrame(int maxVoicesPerFrame) {
+        if (maxVoicesPerFrame <= 0) {
+            throw new IllegalArgumentException("Voice limit must be positive: " + maxVoicesPerFrame);
+        }
+        this.maxVoicesPerFrame = maxVoicesPerFrame;
+    }
+
+    /**
+     * Retrieves the number of effects handed to the dispatcher.
+     *
+     * @return The dispatched count.
+     */
+    public long getDispatchedCount() {
+        return dispatchedCount;
+    }
+
+    /**
+     * Retrieves the number of requests merged into another play of the same effect.
+     *
+     * @return The merged count.
+     */
+    public long getMergedCount() {
+        return mergedCount;
+    }
+
+    /**
+     * Retrieves the number of requests dropped by the per-frame voice limit.
+     *
+     * @return The dropped count.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
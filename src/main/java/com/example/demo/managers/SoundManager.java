@@ -1,5 +1,8 @@
 package com.example.demo.managers;
 
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
@@ -7,114 +10,263 @@ import javafx.util.Duration;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Manages the sound effects and background music for the game.
  * Handles loading, playing, stopping, and volume adjustments for audio resources.
+ * Sound effects requested during a frame are queued and started together when the frame is flushed,
+ * on a separate thread, so a burst of shots and explosions costs the game loop almost nothing.
+ * Music tracks can be opened and given a player ahead of time, and a new track fades in over the
+ * current one instead of waiting for it to stop.
  */
 public class SoundManager {
     private static final Logger LOGGER = Logger.getLogger(SoundManager.class.getName());
 
-    private final Map<String, MediaPlayer> soundEffects = new HashMap<>(); // Stores sound effects with their keys.
+    // Voices per sound effect: rapid shots and explosions overlap, one-off jingles never do.
+    private static final int SHOOT_POLYPHONY = SoundEffectPool.DEFAULT_POLYPHONY;
+    private static final int EXPLOSION_POLYPHONY = SoundEffectPool.DEFAULT_POLYPHONY;
+    private static final int JINGLE_POLYPHONY = 1;
+
+    // Time over which a new music track fades in while the previous one fades out.
+    static final Duration CROSSFADE_DURATION = Duration.millis(800);
+
+    // Single daemon thread starting effect voices, so the game loop never waits on the audio system.
+    private static final ExecutorService effectDispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sound-effects");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, SoundEffectPool> soundEffects = new HashMap<>(); // Voice pools of the sound effects, by key.
+    private final SoundEventQueue soundEvents = new SoundEventQueue(this::startSoundEffect, effectDispatcher); // Effects requested this frame.
+    private final Map<String, Media> musicCache = new ConcurrentHashMap<>(); // Opened music tracks, filled by preloading.
+    private final Map<String, MediaPlayer> preparedMusic = new ConcurrentHashMap<>(); // Players created ahead of time, by track.
     private MediaPlayer backgroundMusicPlayer; // MediaPlayer for background music.
+    private String backgroundMusicPath; // Track the background music player is playing.
+    private MediaPlayer fadingMusicPlayer; // Previous track while it fades out, if any.
+    private Timeline crossfade; // Running crossfade between the previous and current track, if any.
 
     private double backgroundMusicVolume = 1.0; // Volume for background music.
-    private double soundEffectsVolume = 1.0; // Volume for sound effects.
+    private volatile double soundEffectsVolume = 1.0; // Volume for sound effects, read by the dispatcher thread.
 
     /**
      * Constructor to initialize the `SoundManager`.
-     * Preloads common sound effects used in the game.
+     * Preloads common sound effects used in the game, unless running in {@link HeadlessMode},
+     * where the manager stays silent and creates no media players.
      */
     public SoundManager() {
-        loadSoundEffect("shoot", "/sounds/shoot.mp3");
-        loadSoundEffect("explosion", "/sounds/explosion.mp3");
-        loadSoundEffect("win", "/sounds/win.mp3");
-        loadSoundEffect("game_over", "/sounds/game_over.mp3");
+        if (HeadlessMode.isEnabled()) {
+            return;
+        }
+        loadSoundEffect("shoot", "/sounds/shoot.mp3", SHOOT_POLYPHONY);
+        loadSoundEffect("explosion", "/sounds/explosion.mp3", EXPLOSION_POLYPHONY);
+        loadSoundEffect("win", "/sounds/win.mp3", JINGLE_POLYPHONY);
+        loadSoundEffect("game_over", "/sounds/game_over.mp3", JINGLE_POLYPHONY);
     }
 
     /**
-     * Loads a sound effect into memory and associates it with a key.
+     * Loads a sound effect into memory as a pool of voices and associates it with a key.
      *
      * @param key           The key to identify the sound effect.
      * @param resourcePath  The file path of the sound resource.
+     * @param polyphony     The number of times the effect can sound at once.
      */
-    private void loadSoundEffect(String key, String resourcePath) {
+    private void loadSoundEffect(String key, String resourcePath, int polyphony) {
         try {
             URL soundResource = getClass().getResource(resourcePath);
             if (soundResource == null) {
                 throw new IllegalArgumentException("Sound resource not found: " + resourcePath);
             }
-            Media sound = new Media(soundResource.toExternalForm());
-            MediaPlayer mediaPlayer = new MediaPlayer(sound);
-            mediaPlayer.setVolume(soundEffectsVolume); // Set initial volume.
-            soundEffects.put(key, mediaPlayer); // Store the sound effect in the map.
+            soundEffects.put(key, SoundEffectPool.load(soundResource, polyphony)); // Store the sound effect in the map.
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to load sound effect: " + resourcePath, e);
         }
     }
 
     /**
-     * Plays a sound effect by its key.
-     * Restarts the sound effect if it is already playing.
+     * Requests a sound effect by its key. It is played when the current frame is flushed, merged with other
+     * requests for the same effect, and may be dropped if too many effects start in the same frame.
      *
      * @param key The key identifying the sound effect.
      */
     public void playSoundEffect(String key) {
-        MediaPlayer mediaPlayer = soundEffects.get(key);
-        if (mediaPlayer != null) {
-            mediaPlayer.stop(); // Stop any existing playback.
-            mediaPlayer.seek(Duration.ZERO); // Reset to the start.
-            mediaPlayer.play(); // Play the sound effect.
+        if (soundEffects.containsKey(key)) {
+            soundEvents.submit(key);
         }
     }
 
     /**
-     * Plays background music from the specified resource path.
-     * Stops any currently playing background music and loops the new music indefinitely.
+     * Plays the sound effects requested since the last flush. Called once per rendered frame.
+     */
+    public void flushSoundEffects() {
+        soundEvents.flush();
+    }
+
+    /**
+     * Retrieves the queue of requested sound effects, to tune it or read its merged and dropped counts.
+     *
+     * @return The sound event queue.
+     */
+    public SoundEventQueue getSoundEventQueue() {
+        return soundEvents;
+    }
+
+    /**
+     * Starts a voice for a sound effect, overlapping any earlier plays of it that are still sounding.
+     * When all of the effect's voices are busy, the oldest one is cut off. Runs on the dispatcher thread.
+     *
+     * @param key The key identifying the sound effect.
+     */
+    private void startSoundEffect(String key) {
+        SoundEffectPool pool = soundEffects.get(key);
+        if (pool != null) {
+            pool.play(soundEffectsVolume);
+        }
+    }
+
+    /**
+     * Plays background music from the specified resource path, looping it indefinitely.
+     * If the track is already playing it carries on; otherwise it fades in while the current track fades out.
+     * Nothing here waits for the track to be ready: a player that is still opening starts once it is.
+     * Must be called on the FX thread.
      *
      * @param resourcePath The file path of the background music resource.
      */
     public void playBackgroundMusic(String resourcePath) {
+        if (HeadlessMode.isEnabled()) {
+            return;
+        }
+        if (resourcePath.equals(backgroundMusicPath) && backgroundMusicPlayer != null
+                && backgroundMusicPlayer.getStatus() == MediaPlayer.Status.PLAYING) {
+            return; // Keep the track going across levels that share it.
+        }
         try {
-            if (backgroundMusicPlayer != null) {
-                backgroundMusicPlayer.stop(); // Stop the existing music.
+            MediaPlayer next = preparedMusic.remove(resourcePath);
+            if (next == null) {
+                next = createMusicPlayer(resourcePath);
             }
-            URL musicResource = getClass().getResource(resourcePath);
-            if (musicResource == null) {
-                throw new IllegalArgumentException("Music resource not found: " + resourcePath);
-            }
-            Media music = new Media(musicResource.toExternalForm());
-            backgroundMusicPlayer = new MediaPlayer(music);
-            backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // Loop the music.
-            backgroundMusicPlayer.setVolume(backgroundMusicVolume); // Set initial volume.
-            backgroundMusicPlayer.play(); // Play the music.
+            crossfadeTo(next);
+            backgroundMusicPath = resourcePath;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to play background music: " + resourcePath, e);
         }
     }
 
+    /**
+     * Starts a new music player silently and fades it in over the current one, which fades out and is then released.
+     *
+     * @param next The player of the new track.
+     */
+    private void crossfadeTo(MediaPlayer next) {
+        finishCrossfade();
+        MediaPlayer previous = backgroundMusicPlayer;
+        backgroundMusicPlayer = next;
+        if (previous == null || previous.getStatus() != MediaPlayer.Status.PLAYING) {
+            if (previous != null) {
+                previous.dispose(); // Nothing audible to fade out.
+            }
+            next.setVolume(backgroundMusicVolume);
+            next.play();
+            return;
+        }
+        next.setVolume(0);
+        next.play();
+        fadingMusicPlayer = previous;
+        crossfade = new Timeline(
+                new KeyFrame(Duration.ZERO,
+                        new KeyValue(next.volumeProperty(), 0),
+                        new KeyValue(previous.volumeProperty(), previous.getVolume())),
+                new KeyFrame(CROSSFADE_DURATION,
+                        new KeyValue(next.volumeProperty(), backgroundMusicVolume),
+                        new KeyValue(previous.volumeProperty(), 0)));
+        crossfade.setOnFinished(e -> finishCrossfade());
+        crossfade.play();
+    }
+
+    /**
+     * Ends a running crossfade at once: the new track gets its full volume and the previous one is released.
+     */
+    private void finishCrossfade() {
+        if (crossfade != null) {
+            crossfade.stop();
+            crossfade = null;
+        }
+        if (fadingMusicPlayer != null) {
+            fadingMusicPlayer.stop();
+            fadingMusicPlayer.dispose();
+            fadingMusicPlayer = null;
+            if (backgroundMusicPlayer != null) {
+                backgroundMusicPlayer.setVolume(backgroundMusicVolume);
+            }
+        }
+    }
+
+    /**
+     * Opens a background music track and creates its player ahead of time, so a later call to
+     * {@link #playBackgroundMusic(String)} only has to start it. Safe to call from a background thread.
+     *
+     * @param resourcePath The file path of the background music resource.
+     * @throws IllegalArgumentException If the resource does not exist.
+     */
+    public void preloadMusic(String resourcePath) {
+        if (HeadlessMode.isEnabled()) {
+            return;
+        }
+        preparedMusic.computeIfAbsent(resourcePath, this::createMusicPlayer);
+    }
+
+    /**
+     * Creates a looping player for a music track. The player opens the track in the background.
+     *
+     * @param resourcePath The file path of the background music resource.
+     * @return The new player.
+     * @throws IllegalArgumentException If the resource does not exist.
+     */
+    private MediaPlayer createMusicPlayer(String resourcePath) {
+        MediaPlayer player = new MediaPlayer(loadMusic(resourcePath));
+        player.setCycleCount(MediaPlayer.INDEFINITE); // Loop the music.
+        return player;
+    }
+
+    /**
+     * Retrieves an opened music track, opening and caching it on first use.
+     *
+     * @param resourcePath The file path of the background music resource.
+     * @return The opened media.
+     * @throws IllegalArgumentException If the resource does not exist.
+     */
+    private Media loadMusic(String resourcePath) {
+        return musicCache.computeIfAbsent(resourcePath, path -> {
+            URL musicResource = getClass().getResource(path);
+            if (musicResource == null) {
+                throw new IllegalArgumentException("Music resource not found: " + path);
+            }
+            return new Media(musicResource.toExternalForm());
+        });
+    }
+
     /**
      * Stops the currently playing background music, if any.
      */
     public void stopBackgroundMusic() {
+        finishCrossfade();
         if (backgroundMusicPlayer != null) {
             backgroundMusicPlayer.stop(); // Stop the music playback.
         }
     }
 
     /**
-     * Sets the volume for all sound effects.
-     * Updates the volume for each sound effect in the `soundEffects` map.
+     * Sets the volume for all sound effects. It applies to every effect played from now on.
      *
      * @param volume The volume level (0.0 to 1.0).
      */
     public void setSoundEffectsVolume(double volume) {
         this.soundEffectsVolume = volume; // Update the volume field.
-        for (MediaPlayer mediaPlayer : soundEffects.values()) {
-            mediaPlayer.setVolume(volume); // Set volume for each sound effect.
-        }
     }
 
     /**
@@ -125,6 +277,7 @@ public class SoundManager {
      */
     public void setBackgroundMusicVolume(double volume) {
         this.backgroundMusicVolume = volume; // Update the volume field.
+        finishCrossfade(); // A running fade would override the new volume.
         if (backgroundMusicPlayer != null) {
             backgroundMusicPlayer.setVolume(volume); // Set volume for the background music.
         }
@@ -0,0 +1,261 @@
+package com.example.demo.managers;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid spatial hash used as the broadphase for collision detection.
+ * Axis-aligned boxes are inserted into every cell they overlap, and a query only tests
+ * the boxes sharing a cell with the query box, so the number of narrow-phase tests
+ * grows with local density rather than with the product of the two group sizes.
+ * All storage is kept in reusable primitive arrays, so rebuilding the grid every tick does not allocate.
+ */
+public class SpatialHashGrid {
+
+    // Default cell size, matching the largest sprite in the game (the boss is 300px tall).
+    public static final double DEFAULT_CELL_SIZE = 300;
+
+    private static final int BUCKET_COUNT = 128; // Number of hash buckets (must be a power of two).
+    private static final int INITIAL_CAPACITY = 64; // Initial capacity of the item and entry arrays.
+    private static final int EMPTY = -1; // Marks the end of a bucket chain.
+
+    private final double cellSize;
+
+    // Head entry of each bucket's chain.
+    private final int[] bucketHeads = new int[BUCKET_COUNT];
+
+    // Entries: one per (item, cell) pair, chained per bucket.
+    private int[] entryNext = new int[INITIAL_CAPACITY];
+    private int[] entryItem = new int[INITIAL_CAPACITY];
+    private int[] entryCellX = new int[INITIAL_CAPACITY];
+    private int[] entryCellY = new int[INITIAL_CAPACITY];
+    private int entryCount;
+
+    // Boxes of the inserted items, indexed by insertion order.
+    private double[] itemMinX = new double[INITIAL_CAPACITY];
+    private double[] itemMinY = new double[INITIAL_CAPACITY];
+    private double[] itemMaxX = new double[INITIAL_CAPACITY];
+    private double[] itemMaxY = new double[INITIAL_CAPACITY];
+    private int itemCount;
+
+    // Results of the last query, sorted by item index.
+    private int[] results = new int[INITIAL_CAPACITY];
+    private int resultCount;
+
+    /**
+     * Constructor to initialize a grid with the default cell size.
+     */
+    public SpatialHashGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructor to initialize a grid with a specific cell size.
+     *
+     * @param cellSize The width and height of each grid cell.
+     */
+    public SpatialHashGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        clear();
+    }
+
+    /**
+     * Removes all items from the grid, keeping the allocated arrays for reuse.
+     */
+    public void clear() {
+        Arrays.fill(bucketHeads, EMPTY);
+        entryCount = 0;
+        itemCount = 0;
+        resultCount = 0;
+    }
+
+    /**
+     * Inserts a box into every cell it overlaps.
+     *
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     * @return The index of the inserted item, assigned in insertion order starting at zero.
+     */
+    public int insert(double minX, double minY, double maxX, double maxY) {
+        int item = itemCount++;
+        if (item == itemMinX.length) {
+            int capacity = item * 2;
+            itemMinX = Arrays.copyOf(itemMinX, capacity);
+            itemMinY = Arrays.copyOf(itemMinY, capacity);
+            itemMaxX = Arrays.copyOf(itemMaxX, capacity);
+            itemMaxY = Arrays.copyOf(itemMaxY, capacity);
+        }
+        itemMinX[item] = minX;
+        itemMinY[item] = minY;
+        itemMaxX[item] = maxX;
+        itemMaxY[item] = maxY;
+
+        int cellX1 = cellOf(maxX);
+        int cellY1 = cellOf(maxY);
+        for (int cellX = cellOf(minX); cellX <= cellX1; cellX++) {
+            for (int cellY = cellOf(minY); cellY <= cellY1; cellY++) {
+                addEntry(item, cellX, cellY);
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Finds every inserted box that overlaps the query box (edges touching counts as overlap).
+     * Each overlapping item is reported exactly once, even when both boxes span several cells.
+     *
+     * @param minX The left edge of the query box.
+     * @param minY The top edge of the query box.
+     * @param maxX The right edge of the query box.
+     * @param maxY The bottom edge of the query box.
+     * @return The number of overlapping items; retrieve them with {@link #getResult(int)}.
+     */
+    public int query(double minX, double minY, double maxX, double maxY) {
+        resultCount = 0;
+        int queryCellX0 = cellOf(minX);
+        int queryCellY0 = cellOf(minY);
+        int queryCellX1 = cellOf(maxX);
+        int queryCellY1 = cellOf(maxY);
+
+        for (int cellX = queryCellX0; cellX <= queryCellX1; cellX++) {
+            for (int cellY = queryCellY0; cellY <= queryCellY1; cellY++) {
+                for (int entry = bucketHeads[bucketOf(cellX, cellY)]; entry != EMPTY; entry = entryNext[entry]) {
+                    if (entryCellX[entry] != cellX || entryCellY[entry] != cellY) {
+                        continue; // Different cell hashed into the same bucket.
+                    }
+                    int item = entryItem[entry];
+                    // Only report the pair from the first cell both boxes share, so it is reported once.
+                    if (cellX != Math.max(queryCellX0, cellOf(itemMinX[item]))
+                            || cellY != Math.max(queryCellY0, cellOf(itemMinY[item]))) {
+                        continue;
+                    }
+                    if (overlaps(minX, minY, maxX, maxY, item)) {
+                        addResult(item);
+                    }
+                }
+            }
+        }
+        sortResults();
+        return resultCount;
+    }
+
+    /**
+     * Retrieves an item index found by the last query, in ascending order.
+     *
+     * @param index The position in the result list.
+     * @return The index of the overlapping item.
+     */
+    public int getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Retrieves the number of items currently in the grid.
+     *
+     * @return The item count.
+     */
+    public int size() {
+        return itemCount;
+    }
+
+    /**
+     * Retrieves the cell size of the grid.
+     *
+     * @return The width and height of each cell.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Checks whether a query box overlaps an inserted item's box.
+     *
+     * @param minX The left edge of the query box.
+     * @param minY The top edge of the query box.
+     * @param maxX The right edge of the query box.
+     * @param maxY The bottom edge of the query box.
+     * @param item The index of the inserted item.
+     * @return True if the boxes overlap or touch, false otherwise.
+     */
+    private boolean overlaps(double minX, double minY, double maxX, double maxY, int item) {
+        return itemMaxX[item] >= minX && itemMinX[item] <= maxX
+                && itemMaxY[item] >= minY && itemMinY[item] <= maxY;
+    }
+
+    /**
+     * Converts a coordinate to a cell index along one axis.
+     *
+     * @param coordinate The X or Y coordinate.
+     * @return The index of the cell containing the coordinate.
+     */
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Hashes a cell position to a bucket.
+     *
+     * @param cellX The cell index along the X axis.
+     * @param cellY The cell index along the Y axis.
+     * @return The bucket index.
+     */
+    private int bucketOf(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & (BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Adds an entry for an item in a cell to the front of the cell's bucket chain.
+     *
+     * @param item  The index of the item.
+     * @param cellX The cell index along the X axis.
+     * @param cellY The cell index along the Y axis.
+     */
+    private void addEntry(int item, int cellX, int cellY) {
+        if (entryCount == entryItem.length) {
+            int capacity = entryCount * 2;
+            entryNext = Arrays.copyOf(entryNext, capacity);
+            entryItem = Arrays.copyOf(entryItem, capacity);
+            entryCellX = Arrays.copyOf(entryCellX, capacity);
+            entryCellY = Arrays.copyOf(entryCellY, capacity);
+        }
+        int bucket = bucketOf(cellX, cellY);
+        int entry = entryCount++;
+        entryItem[entry] = item;
+        entryCellX[entry] = cellX;
+        entryCellY[entry] = cellY;
+        entryNext[entry] = bucketHeads[bucket];
+        bucketHeads[bucket] = entry;
+    }
+
+    /**
+     * Appends an item to the result list.
+     *
+     * @param item The index of the overlapping item.
+     */
+    private void addResult(int item) {
+        if (resultCount == results.length) {
+            results = Arrays.copyOf(results, resultCount * 2);
+        }
+        results[resultCount++] = item;
+    }
+
+    /**
+     * Sorts the results in ascending item order with an insertion sort, since result lists are short.
+     * This keeps the order in which collisions are resolved identical to a plain pair loop.
+     */
+    private void sortResults() {
+        for (int i = 1; i < resultCount; i++) {
+            int value = results[i];
+            int j = i - 1;
+            while (j >= 0 && results[j] > value) {
+                results[j + 1] = results[j];
+                j--;
+            }
+            results[j + 1] = value;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.demo.managers;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Central cache for sprite and UI images.
+ * Each image is decoded once per resource path and requested height, and every later request
+ * receives the shared instance. Hit and miss counters show whether any decoding still happens
+ * during gameplay.
+ * In {@link HeadlessMode}, images are not decoded: a blank image of the same size is returned instead,
+ * with the size read from the file header, so actors keep their real hitboxes without a graphics pipeline.
+ */
+public final class SpriteCache {
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>(); // Loaded images keyed by path and height.
+    private static final AtomicLong hits = new AtomicLong(); // Requests served from the cache.
+    private static final AtomicLong misses = new AtomicLong(); // Requests that decoded a new image.
+
+    /**
+     * Private constructor, as the cache is only used through its static methods.
+     */
+    private SpriteCache() {
+    }
+
+    /**
+     * Retrieves an image at its original size, loading it on first use.
+     *
+     * @param resourcePath The classpath location of the image.
+     * @return The shared image.
+     * @throws NullPointerException If the resource does not exist.
+     */
+    public static Image get(String resourcePath) {
+        return get(resourcePath, 0);
+    }
+
+    /**
+     * Retrieves an image pre-scaled to a height (preserving its aspect ratio), loading it on first use.
+     * Decoding at the displayed size avoids keeping full-size pixels for sprites that are always shown smaller.
+     *
+     * @param resourcePath The classpath location of the image.
+     * @param fitHeight    The height to scale the image to, or 0 to keep its original size.
+     * @return The shared image.
+     * @throws NullPointerException If the resource does not exist.
+     */
+    public static Image get(String resourcePath, double fitHeight) {
+        String key = keyFor(resourcePath, fitHeight);
+        Image image = images.get(key);
+        if (image != null) {
+            hits.incrementAndGet();
+            return image;
+        }
+        return images.computeIfAbsent(key, ignored -> load(resourcePath, fitHeight));
+    }
+
+    /**
+     * Checks whether an image has already been loaded, without loading it or counting a request.
+     *
+     * @param resourcePath The classpath location of the image.
+     * @param fitHeight    The height the image is scaled to, or 0 for its original size.
+     * @return True if the image is cached, false otherwise.
+     */
+    public static boolean contains(String resourcePath, double fitHeight) {
+        return images.containsKey(keyFor(resourcePath, fitHeight));
+    }
+
+    /**
+     * Builds the cache key of an image and its requested height.
+     *
+     * @param resourcePath The classpath location of the image.
+     * @param fitHeight    The height the image is scaled to, or 0 for its original size.
+     * @return The cache key.
+     */
+    private static String keyFor(String resourcePath, double fitHeight) {
+        return fitHeight > 0 ? resourcePath + "@" + fitHeight : resourcePath;
+    }
+
+    /**
+     * Decodes an image from the classpath.
+     *
+     * @param resourcePath The classpath location of the image.
+     * @param fitHeight    The height to scale the image to, or 0 to keep its original size.
+     * @return The decoded image.
+     */
+    private static Image load(String resourcePath, double fitHeight) {
+        misses.incrementAndGet();
+        URL url = Objects.requireNonNull(SpriteCache.class.getResource(resourcePath), "Image not found: " + resourcePath);
+        if (HeadlessMode.isEnabled()) {
+            return placeholder(url, fitHeight);
+        }
+        if (fitHeight > 0) {
+            return new Image(url.toExternalForm(), 0, fitHeight, true, true);
+        }
+        return new Image(url.toExternalForm());
+    }
+
+    /**
+     * Creates a blank image with the size the real image would be loaded at.
+     *
+     * @param url       The location of the image.
+     * @param fitHeight The height to scale the image to, or 0 to keep its original size.
+     * @return The blank image.
+     */
+    private static Image placeholder(URL url, double fitHeight) {
+        int[] size = readSize(url);
+        double width = size[0];
+        double height = size[1];
+        if (fitHeight > 0) {
+            width = width * fitHeight / height;
+            height = fitHeight;
+        }
+        return new WritableImage(Math.max(1, (int) Math.round(width)), Math.max(1, (int) Math.round(height)));
+    }
+
+    /**
+     * Reads the width and height of a PNG or JPEG image from its header, without decoding it.
+     *
+     * @param url The location of the image.
+     * @return The width and height in pixels.
+     * @throws IllegalArgumentException If the image is neither a PNG nor a JPEG.
+     */
+    private static int[] readSize(URL url) {
+        try (DataInputStream in = new DataInputStream(url.openStream())) {
+            int first = in.readUnsignedByte();
+            int second = in.readUnsignedByte();
+            if (first == 0x89 && second == 'P') {
+                in.skipNBytes(14); // Rest of the signature, then the IHDR length and type.
+                return new int[]{in.readInt(), in.readInt()};
+            }
+            if (first == 0xFF && second == 0xD8) {
+                return readJpegSize(in);
+            }
+            throw new IllegalArgumentException("Unsupported image format: " + url);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read image header: " + url, e);
+        }
+    }
+
+    /**
+     * Scans the segments of a JPEG for its start-of-frame marker, which holds the image size.
+     *
+     * @param in The stream positioned just after the start-of-image marker.
+     * @return The width and height in pixels.
+     * @throws IOException If the stream ends before a start-of-frame marker.
+     */
+    private static int[] readJpegSize(DataInputStream in) throws IOException {
+        while (true) {
+            int marker = in.readUnsignedByte();
+            if (marker != 0xFF) {
+                continue;
+            }
+            int type = in.readUnsignedByte();
+            if (type == 0xFF || type == 0x01 || (type >= 0xD0 && type <= 0xD7)) {
+                continue; // Fill byte or a marker without a length.
+            }
+            int length = in.readUnsignedShort();
+            boolean startOfFrame = type >= 0xC0 && type <= 0xCF && type != 0xC4 && type != 0xC8 && type != 0xCC;
+            if (startOfFrame) {
+                in.readUnsignedByte(); // Sample precision.
+                int height = in.readUnsignedShort();
+                int width = in.readUnsignedShort();
+                return new int[]{width, height};
+            }
+            in.skipNBytes(length - 2);
+        }
+    }
+
+    /**
+     * Retrieves the number of requests served from the cache.
+     *
+     * @return The hit count.
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Retrieves the number of requests that had to decode an image.
+     *
+     * @return The miss count.
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Retrieves the number of images currently cached.
+     *
+     * @return The number of cached images.
+     */
+    public static int size() {
+        return images.size();
+    }
+
+    /**
+     * Removes every cached image and resets the counters.
+     */
+    public static void clear() {
+        images.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.demo.managers;
+
+import com.example.demo.actor.ActiveActorDestructible;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sort-and-sweep broadphase for collisions between two groups of actors.
+ * Actors are kept sorted by the left edge of their hitbox, and the order from the previous
+ * frame is reused as the starting point of the next sort. Since almost every actor in the game
+ * only moves along the X axis at a constant speed, that order is nearly sorted already and the
+ * insertion sort runs in close to linear time. A single sweep along X then reports every pair
+ * of actors from different groups whose boxes overlap.
+ */
+public class SweepAndPrune {
+
+    private static final int INITIAL_CAPACITY = 64; // Initial capacity of the entry and pair arrays.
+
+    // Entries sorted by minX, stored as parallel arrays.
+    private ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private boolean[] inFirstGroup = new boolean[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private int entryCount;
+
+    // Indices of the entries whose X interval is still open during the sweep.
+    private int[] active = new int[INITIAL_CAPACITY];
+
+    // Overlapping pairs found by the last update.
+    private ActiveActorDestructible[] pairFirst = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private ActiveActorDestructible[] pairSecond = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private int pairCount;
+
+    // Current membership of each actor, mapped to whether it belongs to the first group.
+    private final Map<ActiveActorDestructible, Boolean> membership = new IdentityHashMap<>();
+
+    /**
+     * Rebuilds the sorted order from the current groups and sweeps it for overlapping pairs.
+     *
+     * @param first  The first group of actors.
+     * @param second The second group of actors.
+     */
+    public void update(List<ActiveActorDestructible> first, List<ActiveActorDestructible> second) {
+        rebuildOrder(first, second);
+        sortByMinX();
+        sweep();
+    }
+
+    /**
+     * Retrieves the number of overlapping pairs found by the last update.
+     *
+     * @return The pair count.
+     */
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    /**
+     * Retrieves the actor from the first group in an overlapping pair.
+     *
+     * @param pair The index of the pair.
+     * @return The actor from the first group.
+     */
+    public ActiveActorDestructible getFirst(int pair) {
+        return pairFirst[pair];
+    }
+
+    /**
+     * Retrieves the actor from the second group in an overlapping pair.
+     *
+     * @param pair The index of the pair.
+     * @return The actor from the second group.
+     */
+    public ActiveActorDestructible getSecond(int pair) {
+        return pairSecond[pair];
+    }
+
+    /**
+     * Fills the entry arrays with the current actors, keeping the survivors in their order from the
+     * previous frame and appending newly added actors at the end. Removed actors are dropped.
+     *
+     * @param first  The first group of actors.
+     * @param second The second group of actors.
+     */
+    private void rebuildOrder(List<ActiveActorDestructible> first, List<ActiveActorDestructible> second) {
+        membership.clear();
+        for (int i = 0; i < first.size(); i++) {
+            membership.put(first.get(i), Boolean.TRUE);
+        }
+        for (int i = 0; i < second.size(); i++) {
+            membership.put(second.get(i), Boolean.FALSE);
+        }
+        ensureEntryCapacity(membership.size());
+
+        int previousCount = entryCount;
+        entryCount = 0;
+        for (int i = 0; i < previousCount; i++) {
+            Boolean group = membership.remove(actors[i]);
+            if (group != null) {
+                addEntry(actors[i], group);
+            }
+        }
+        // Whatever is left in the map was added since the previous frame.
+        for (int i = 0; i < first.size(); i++) {
+            if (membership.remove(first.get(i)) != null) {
+                addEntry(first.get(i), true);
+            }
+        }
+        for (int i = 0; i < second.size(); i++) {
+            if (membership.remove(second.get(i)) != null) {
+                addEntry(second.get(i), false);
+            }
+        }
+        Arrays.fill(actors, entryCount, Math.max(entryCount, previousCount), null);
+    }
+
+    /**
+     * Appends an actor to the entry arrays, capturing its current hitbox.
+     *
+     * @param actor         The actor to add.
+     * @param firstGroup    True if the actor belongs to the first group.
+     */
+    private void addEntry(ActiveActorDestructible actor, boolean firstGroup) {
+        int entry = entryCount++;
+        actors[entry] = actor;
+        inFirstGroup[entry] = firstGroup;
+        minX[entry] = actor.getHitboxMinX();
+        minY[entry] = actor.getHitboxMinY();
+        maxX[entry] = actor.getHitboxMaxX();
+        maxY[entry] = actor.getHitboxMaxY();
+    }
+
+    /**
+     * Sorts the entries by minX with an insertion sort, which is close to linear for the nearly
+     * sorted order carried over from the previous frame.
+     */
+    private void sortByMinX() {
+        for (int i = 1; i < entryCount; i++) {
+            ActiveActorDestructible actor = actors[i];
+            boolean group = inFirstGroup[i];
+            double entryMinX = minX[i];
+            double entryMinY = minY[i];
+            double entryMaxX = maxX[i];
+            double entryMaxY = maxY[i];
+            int j = i - 1;
+            while (j >= 0 && minX[j] > entryMinX) {
+                actors[j + 1] = actors[j];
+                inFirstGroup[j + 1] = inFirstGroup[j];
+                minX[j + 1] = minX[j];
+                minY[j + 1] = minY[j];
+                maxX[j + 1] = maxX[j];
+                maxY[j + 1] = maxY[j];
+                j--;
+            }
+            actors[j + 1] = actor;
+            inFirstGroup[j + 1] = group;
+            minX[j + 1] = entryMinX;
+            minY[j + 1] = entryMinY;
+            maxX[j + 1] = entryMaxX;
+            maxY[j + 1] = entryMaxY;
+        }
+    }
+
+    /**
+     * Sweeps the sorted entries along X, keeping a list of open intervals, and records every pair
+     * from different groups whose boxes overlap (edges touching counts as overlap).
+     */
+    private void sweep() {
+        pairCount = 0;
+        int activeCount = 0;
+        for (int i = 0; i < entryCount; i++) {
+            int kept = 0;
+            for (int a = 0; a < activeCount; a++) {
+                int j = active[a];
+                if (maxX[j] < minX[i]) {
+                    continue; // Interval closed before this entry starts.
+                }
+                active[kept++] = j;
+                if (inFirstGroup[j] != inFirstGroup[i] && maxY[j] >= minY[i] && minY[j] <= maxY[i]) {
+                    if (inFirstGroup[j]) {
+                        addPair(actors[j], actors[i]);
+                    } else {
+                        addPair(actors[i], actors[j]);
+                    }
+                }
+            }
+            activeCount = kept;
+            active[activeCount++] = i;
+        }
+    }
+
+    /**
+     * Records an overlapping pair.
+     *
+     * @param first  The actor from the first group.
+     * @param second The actor from the second group.
+     */
+    private void addPair(ActiveActorDestructible first, ActiveActorDestructible second) {
+        if (pairCount == pairFirst.length) {
+            pairFirst = Arrays.copyOf(pairFirst, pairCount * 2);
+            pairSecond = Arrays.copyOf(pairSecond, pairCount * 2);
+        }
+        pairFirst[pairCount] = first;
+        pairSecond[pairCount] = second;
+        pairCount++;
+    }
+
+    /**
+     * Grows the entry arrays so they can hold at least the given number of actors.
+     *
+     * @param required The minimum capacity needed.
+     */
+    private void ensureEntryCapacity(int required) {
+        if (required <= actors.length) {
+            return;
+        }
+        int capacity = Math.max(required, actors.length * 2);
+        actors = Arrays.copyOf(actors, capacity);
+        inFirstGroup = Arrays.copyOf(inFirstGroup, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        active = Arrays.copyOf(active, capacity);
+    }
+}
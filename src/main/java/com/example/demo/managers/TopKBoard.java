@@ -0,0 +1,120 @@
+package com.example.demo.managers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The best entries of one leaderboard, bounded to a fixed capacity.
+ * A min-heap keeps the worst ranked entry on top, so once the board is full an entry that does not make
+ * it is rejected after a single comparison. Admitted entries are also kept in a ranked list, which is what
+ * reads return, so a read costs no more than copying the rows asked for.
+ */
+class TopKBoard {
+
+    // Higher scores rank first; among equal scores, the earlier game ranks first.
+    static final Comparator<ScoreEntry> RANKING = Comparator.comparingInt(ScoreEntry::getScore).reversed()
+            .thenComparingLong(ScoreEntry::getTimestamp);
+
+    private final int capacity; // Most entries the board holds.
+    private final PriorityQueue<ScoreEntry> heap; // Admitted entries, worst ranked on top.
+    private final List<ScoreEntry> ranked; // Admitted entries, best first.
+    private long periodStart; // Start of the period the entries belong to.
+
+    /**
+     * Constructor to initialize an empty board.
+     *
+     * @param capacity    The most entries the board holds.
+     * @param periodStart The start of the period the board ranks.
+     */
+    TopKBoard(int capacity, long periodStart) {
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(capacity + 1, RANKING.reversed());
+        this.ranked = new ArrayList<>(capacity + 1);
+        this.periodStart = periodStart;
+    }
+
+    /**
+     * Offers an entry to the board. If the board is full and the entry ranks higher than the worst entry,
+     * the worst entry is evicted.
+     *
+     * @param entry The entry to offer.
+     * @return The rank the entry was inserted at, starting from 0, or -1 if it did not make the board.
+     */
+    int offer(ScoreEntry entry) {
+        if (heap.size() >= capacity) {
+            if (RANKING.compare(entry, heap.peek()) >= 0) {
+                return -1; // Ranks no higher than the worst entry.
+            }
+            ScoreEntry evicted = heap.poll();
+            for (int i = ranked.size() - 1; i >= 0; i--) {
+                if (ranked.get(i) == evicted) {
+                    ranked.remove(i);
+                    break;
+                }
+            }
+        }
+        heap.add(entry);
+        int low = 0;
+        int high = ranked.size();
+        while (low < high) { // Find the first entry ranked lower.
+            int mid = (low + high) >>> 1;
+            if (RANKING.compare(ranked.get(mid), entry) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        ranked.add(low, entry);
+        return low;
+    }
+
+    /**
+     * Copies the best entries.
+     *
+     * @param topN The number of entries wanted.
+     * @return Up to `topN` entries, best first.
+     */
+    List<ScoreEntry> top(int topN) {
+        return new ArrayList<>(ranked.subList(0, Math.max(0, Math.min(topN, ranked.size()))));
+    }
+
+    /**
+     * Retrieves the number of entries on the board.
+     *
+     * @return The entry count.
+     */
+    int size() {
+        return ranked.size();
+    }
+
+    /**
+     * Checks whether the board is full, so that admitting an entry evicts another.
+     *
+     * @return True if the board holds its capacity, false otherwise.
+     */
+    boolean isFull() {
+        return ranked.size() >= capacity;
+    }
+
+    /**
+     * Retrieves the start of the period the board ranks.
+     *
+     * @return The period start in milliseconds since the epoch.
+     */
+    long getPeriodStart() {
+        return periodStart;
+    }
+
+    /**
+     * Empties the board for a new period.
+     *
+     * @param periodStart The start of the new period.
+     */
+    void reset(long periodStart) {
+        heap.clear();
+        ranked.clear();
+        this.periodStart = periodStart;
+    }
+}
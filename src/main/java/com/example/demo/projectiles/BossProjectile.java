@@ -6,10 +6,10 @@ package com.example.demo.projectiles;
  */
 public class BossProjectile extends Projectile {
 
-	private static final String IMAGE_NAME = "fireball.png"; // Image file representing the projectile.
-	private static final int IMAGE_HEIGHT = 50; // Height of the projectile image.
+	public static final String IMAGE_NAME = "fireball.png"; // Image file representing the projectile.
+	public static final int IMAGE_HEIGHT = 50; // Height of the projectile image.
 	private static final int HORIZONTAL_VELOCITY = -15; // Horizontal movement speed of the projectile.
-	private static final int INITIAL_X_POSITION = 950; // Initial X position of the projectile.
+	public static final int INITIAL_X_POSITION = 950; // Initial X position of the projectile.
 
 	/**
 	 * Constructor to initialize a `BossProjectile` at the specified Y position.
@@ -20,6 +20,16 @@ public class BossProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos); // Call the parent constructor to set up the projectile.
 	}
 
+	/**
+	 * Gets the horizontal distance the projectile moves each frame.
+	 *
+	 * @return the horizontal velocity of the projectile.
+	 */
+	@Override
+	public double getVelocityX() {
+		return HORIZONTAL_VELOCITY;
+	}
+
 	/**
 	 * Updates the position of the projectile.
 	 * Moves the projectile horizontally based on the defined velocity.
@@ -6,8 +6,8 @@ package com.example.demo.projectiles;
  */
 public class EnemyProjectile extends Projectile {
 
-	private static final String IMAGE_NAME = "enemyFire.png"; //Image file representing the enemy's projectile.
-	private static final int IMAGE_HEIGHT = 30; //Height of the projectile image.
+	public static final String IMAGE_NAME = "enemyFire.png"; //Image file representing the enemy's projectile.
+	public static final int IMAGE_HEIGHT = 30; //Height of the projectile image.
 	private static final int HORIZONTAL_VELOCITY = -10; //Horizontal speed of the projectile.
 
 	/**
@@ -20,6 +20,16 @@ public class EnemyProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos); //Call the parent constructor to initialize the projectile.
 	}
 
+	/**
+	 * Gets the horizontal distance the projectile moves each frame.
+	 *
+	 * @return the horizontal velocity of the projectile.
+	 */
+	@Override
+	public double getVelocityX() {
+		return HORIZONTAL_VELOCITY;
+	}
+
 	/**
 	 * Updates the position of the projectile.
 	 * Moves the projectile horizontally to simulate its flight.
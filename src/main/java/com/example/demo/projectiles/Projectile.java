@@ -9,6 +9,9 @@ import com.example.demo.actor.ActiveActorDestructible;
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+	//The pool this projectile was obtained from, or null when it is not in play from a pool.
+	private ProjectilePool<?> pool;
+
 	/**
 	 * Constructor to initialize a `Projectile`.
 	 *
@@ -30,6 +33,55 @@ public abstract class Projectile extends ActiveActorDestructible {
 		this.destroy(); // Mark the projectile as destroyed.
 	}
 
+	/**
+	 * Projectiles fly in a straight line, so their motion is integrated by the entity store.
+	 *
+	 * @return true, as a projectile's motion is fully described by its velocity.
+	 */
+	@Override
+	public boolean isKinematic() {
+		return true;
+	}
+
+	/**
+	 * Prepares a recycled projectile to be fired again from a new position.
+	 * Clears its movement and destroyed state and makes it visible again.
+	 *
+	 * @param initialXPos The new X position of the projectile.
+	 * @param initialYPos The new Y position of the projectile.
+	 */
+	public void reset(double initialXPos, double initialYPos) {
+		setLayoutX(initialXPos);
+		setLayoutY(initialYPos);
+		setTranslateX(0);
+		setTranslateY(0);
+		setVisible(true);
+		revive();
+		updateBoundingBox();
+	}
+
+	/**
+	 * Returns the projectile to the pool it was obtained from, if any.
+	 * Called once the projectile has been removed from the game.
+	 */
+	public void returnToPool() {
+		if (pool != null) {
+			ProjectilePool<?> owner = pool;
+			pool = null; // Guard against returning the same projectile twice.
+			setVisible(false);
+			owner.release(this);
+		}
+	}
+
+	/**
+	 * Records the pool this projectile was obtained from.
+	 *
+	 * @param pool The owning pool.
+	 */
+	void attachToPool(ProjectilePool<?> pool) {
+		this.pool = pool;
+	}
+
 	/**
 	 * Abstract method to update the position of the projectile.
 	 * This method must be implemented by subclasses to define specific movement behavior.
@@ -0,0 +1,171 @@
+package com.example.demo.projectiles;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pool of reusable projectiles of a single type.
+ * Destroyed projectiles are returned to the pool once they leave the game, and later shots
+ * reuse them instead of constructing a new ImageView, image and bounding box each time.
+ *
+ * @param <T> The type of projectile held by the pool.
+ */
+public class ProjectilePool<T extends Projectile> {
+
+	/**
+	 * Creates a new projectile at the given position when the pool has none available.
+	 *
+	 * @param <T> The type of projectile created.
+	 */
+	@FunctionalInterface
+	public interface Factory<T extends Projectile> {
+
+		/**
+		 * Creates a projectile at the given position.
+		 *
+		 * @param initialXPos The initial X position of the projectile.
+		 * @param initialYPos The initial Y position of the projectile.
+		 * @return The new projectile.
+		 */
+		T create(double initialXPos, double initialYPos);
+	}
+
+	private final Factory<T> factory; // Creates projectiles when the pool is empty.
+	private final int capacity; // Maximum number of idle projectiles kept for reuse.
+	private final ArrayDeque<T> available; // Idle projectiles ready to be reused.
+
+	// Statistics describing how the pool is used.
+	private int createdCount; // Projectiles constructed because none were available.
+	private int reusedCount; // Shots served by an idle projectile.
+	private int discardedCount; // Released projectiles dropped because the pool was full.
+	private int inUseCount; // Projectiles currently in play.
+	private int highWaterMark; // Largest number of projectiles in play at once.
+
+	/**
+	 * Constructor to initialize an empty pool.
+	 *
+	 * @param factory  Creates projectiles when the pool has none available.
+	 * @param capacity The maximum number of idle projectiles kept for reuse.
+	 */
+	public ProjectilePool(Factory<T> factory, int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Pool capacity must not be negative: " + capacity);
+		}
+		this.factory = factory;
+		this.capacity = capacity;
+		this.available = new ArrayDeque<>(capacity);
+	}
+
+	/**
+	 * Retrieves a projectile at the given position, reusing an idle one if possible.
+	 *
+	 * @param initialXPos The initial X position of the projectile.
+	 * @param initialYPos The initial Y position of the projectile.
+	 * @return A projectile ready to be added to the game.
+	 */
+	public T obtain(double initialXPos, double initialYPos) {
+		T projectile = available.pollFirst();
+		if (projectile != null) {
+			projectile.reset(initialXPos, initialYPos);
+			reusedCount++;
+		} else {
+			projectile = factory.create(initialXPos, initialYPos);
+			createdCount++;
+		}
+		projectile.attachToPool(this);
+		inUseCount++;
+		highWaterMark = Math.max(highWaterMark, inUseCount);
+		return projectile;
+	}
+
+	/**
+	 * Returns a projectile that has left the game to the pool. Called by the projectile itself,
+	 * so it is always one previously obtained from this pool.
+	 * Projectiles beyond the pool's capacity are dropped and left to the garbage collector.
+	 *
+	 * @param projectile The projectile to return.
+	 */
+	@SuppressWarnings("unchecked")
+	void release(Projectile projectile) {
+		inUseCount--;
+		if (available.size() < capacity) {
+			available.addFirst((T) projectile);
+		} else {
+			discardedCount++;
+		}
+	}
+
+	/**
+	 * Retrieves the maximum number of idle projectiles kept for reuse.
+	 *
+	 * @return The pool capacity.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Retrieves the number of idle projectiles ready to be reused.
+	 *
+	 * @return The number of available projectiles.
+	 */
+	public int getAvailableCount() {
+		return available.size();
+	}
+
+	/**
+	 * Retrieves the number of projectiles constructed because none were available.
+	 *
+	 * @return The number of projectiles created.
+	 */
+	public int getCreatedCount() {
+		return createdCount;
+	}
+
+	/**
+	 * Retrieves the number of shots served by reusing an idle projectile.
+	 *
+	 * @return The number of reuses.
+	 */
+	public int getReusedCount() {
+		return reusedCount;
+	}
+
+	/**
+	 * Retrieves the number of released projectiles dropped because the pool was full.
+	 *
+	 * @return The number of discarded projectiles.
+	 */
+	public int getDiscardedCount() {
+		return discardedCount;
+	}
+
+	/**
+	 * Retrieves the number of projectiles from this pool currently in play.
+	 *
+	 * @return The number of projectiles in use.
+	 */
+	public int getInUseCount() {
+		return inUseCount;
+	}
+
+	/**
+	 * Retrieves the largest number of projectiles from this pool in play at the same time.
+	 *
+	 * @return The high-water mark.
+	 */
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	/**
+	 * Summarizes the pool statistics, e.g. for logging at the end of a level.
+	 *
+	 * @return A description of the pool's usage.
+	 */
+	@Override
+	public String toString() {
+		return "ProjectilePool[created=" + createdCount + ", reused=" + reusedCount + ", discarded=" + discardedCount
+				+ ", inUse=" + inUseCount + ", available=" + available.size() + "/" + capacity
+				+ ", highWaterMark=" + highWaterMark + "]";
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.demo.projectiles;
+
+/**
+ * Holds one projectile pool per projectile type, shared by every plane of a level.
+ */
+public class ProjectilePools {
+
+	//Default number of idle projectiles each pool keeps for reuse.
+	public static final int DEFAULT_CAPACITY = 64;
+
+	private final ProjectilePool<UserProjectile> userProjectilePool;
+	private final ProjectilePool<EnemyProjectile> enemyProjectilePool;
+	private final ProjectilePool<BossProjectile> bossProjectilePool;
+
+	/**
+	 * Constructor to initialize the pools with the default capacity.
+	 */
+	public ProjectilePools() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor to initialize the pools with a specific capacity.
+	 *
+	 * @param capacity The maximum number of idle projectiles each pool keeps for reuse.
+	 */
+	public ProjectilePools(int capacity) {
+		userProjectilePool = new ProjectilePool<>(UserProjectile::new, capacity);
+		enemyProjectilePool = new ProjectilePool<>(EnemyProjectile::new, capacity);
+		bossProjectilePool = new ProjectilePool<>((initialXPos, initialYPos) -> new BossProjectile(initialYPos), capacity);
+	}
+
+	/**
+	 * Retrieves the pool of projectiles fired by the user's plane.
+	 *
+	 * @return The user projectile pool.
+	 */
+	public ProjectilePool<UserProjectile> getUserProjectilePool() {
+		return userProjectilePool;
+	}
+
+	/**
+	 * Retrieves the pool of projectiles fired by enemy planes.
+	 *
+	 * @return The enemy projectile pool.
+	 */
+	public ProjectilePool<EnemyProjectile> getEnemyProjectilePool() {
+		return enemyProjectilePool;
+	}
+
+	/**
+	 * Retrieves the pool of projectiles fired by the boss.
+	 *
+	 * @return The boss projectile pool.
+	 */
+	public ProjectilePool<BossProjectile> getBossProjectilePool() {
+		return bossProjectilePool;
+	}
+
+	/**
+	 * Summarizes the statistics of every pool.
+	 *
+	 * @return A description of each pool's usage.
+	 */
+	@Override
+	public String toString() {
+		return "user=" + userProjectilePool + ", enemy=" + enemyProjectilePool + ", boss=" + bossProjectilePool;
+	}
+}
@@ -1,16 +1,18 @@
 package com.example.demo.projectiles;
 
-import javafx.geometry.Bounds;
-
 /**
  * Represents a projectile fired by the user's plane in the game.
  * Extends the `Projectile` class and defines specific behavior for user projectiles.
  */
 public class UserProjectile extends Projectile {
 
-	private static final String IMAGE_NAME = "userfire.png"; // Image file representing the user's projectile.
-	private static final int IMAGE_HEIGHT = 125; // Height of the projectile image.
+	public static final String IMAGE_NAME = "userfire.png"; // Image file representing the user's projectile.
+	public static final int IMAGE_HEIGHT = 125; // Height of the projectile image.
 	private static final int HORIZONTAL_VELOCITY = 20; // Horizontal speed of the projectile.
+	private static final double HITBOX_OFFSET_X = 60; // Offset of the hitbox from the sprite's left edge.
+	private static final double HITBOX_OFFSET_Y = 50; // Offset of the hitbox from the sprite's top edge.
+	private static final double HITBOX_SCALE_WIDTH = 0.3; // Fraction of the sprite's width covered by the hitbox.
+	private static final double HITBOX_SCALE_HEIGHT = 0.3; // Fraction of the sprite's height covered by the hitbox.
 
 	/**
 	 * Constructor to initialize a `UserProjectile` at the specified X and Y positions.
@@ -20,6 +22,17 @@ public class UserProjectile extends Projectile {
 	 */
 	public UserProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos); // Call the parent constructor to initialize the projectile.
+		setHitbox(HITBOX_OFFSET_X, HITBOX_OFFSET_Y, HITBOX_SCALE_WIDTH, HITBOX_SCALE_HEIGHT); // Match the hitbox to the visible part of the sprite.
+	}
+
+	/**
+	 * Gets the horizontal distance the projectile moves each frame.
+	 *
+	 * @return the horizontal velocity of the projectile.
+	 */
+	@Override
+	public double getVelocityX() {
+		return HORIZONTAL_VELOCITY;
 	}
 
 	/**
@@ -39,22 +52,4 @@ public class UserProjectile extends Projectile {
 	public void updateActor() {
 		updatePosition(); // Call the method to update the position of the projectile.
 	}
-
-	/**
-	 * Updates the bounding box of the projectile to reflect its current position.
-	 * Adjusts the bounding box dimensions to align with the visual representation of the projectile.
-	 */
-	public void updateBoundingBox() {
-		// Apply offsets and scaling factors specific to UserPlane
-		double offsetX = 60; // Offset to fine-tune the X position.
-		double offsetY = 50; // Offset to fine-tune the Y position.
-		double scaleWidth = 0.3; // Scale factor for the width.
-		double scaleHeight = 0.3; // Scale factor for the height.
-
-		Bounds bounds = this.getBoundsInParent();
-		boundingBox.setX(bounds.getMinX() + offsetX); // Adjust the X position of the bounding box.
-		boundingBox.setY(bounds.getMinY() + offsetY); // Adjust the Y position of the bounding box.
-		boundingBox.setWidth(bounds.getWidth() * scaleWidth); // Scale the width of the bounding box.
-		boundingBox.setHeight(bounds.getHeight() * scaleHeight); // Scale the height of the bounding box.
-	}
 }
@@ -1,17 +1,15 @@
 package com.example.demo.ui;
 
-import javafx.scene.image.Image;
+import com.example.demo.managers.SpriteCache;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 /**
  * Represents the "Game Over" image displayed when the player loses the game.
  * Extends `ImageView` to display an image with predefined properties.
  */
 public class GameOverImage extends ImageView {
 
-	private static final String IMAGE_NAME = "/com/example/demo/images/gameover.png"; // Path to the "Game Over" image file.
+	public static final String IMAGE_NAME = "/com/example/demo/images/gameover.png"; // Path to the "Game Over" image file.
 	private static final double DEFAULT_WIDTH = 500; // Default width for resizing the image.
 
 	/**
@@ -21,8 +19,8 @@ public class GameOverImage extends ImageView {
 	 * @param yPosition The Y coordinate where the image should be placed.
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
-		// Load and set the "Game Over" image.
-		setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm()));
+		// Set the shared "Game Over" image.
+		setImage(SpriteCache.get(IMAGE_NAME));
 
 		// Set the layout position of the image.
 		setLayoutX(xPosition);
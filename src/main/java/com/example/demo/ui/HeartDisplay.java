@@ -1,19 +1,17 @@
 package com.example.demo.ui;
 
-import javafx.scene.image.Image;
+import com.example.demo.managers.SpriteCache;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
-import java.util.Objects;
-
 /**
  * Represents a display of hearts used to show the player's remaining health.
  * The hearts are displayed in a horizontal layout.
  */
 public class HeartDisplay {
 
-	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png"; // Path to the heart image file.
-	private static final int HEART_HEIGHT = 50; // Height of each heart image.
+	public static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png"; // Path to the heart image file.
+	public static final int HEART_HEIGHT = 50; // Height of each heart image.
 	private static final int INDEX_OF_FIRST_ITEM = 0; // Index of the first heart in the container.
 	private HBox container; // Container to hold the heart images.
 	private final double containerXPosition; // X position of the container.
@@ -51,13 +49,22 @@ public class HeartDisplay {
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(HEART_IMAGE_NAME)).toExternalForm()));
-			heart.setFitHeight(HEART_HEIGHT); // Set the height of the heart.
-			heart.setPreserveRatio(true); // Preserve the aspect ratio of the image.
-			container.getChildren().add(heart); // Add the heart to the container.
+			container.getChildren().add(createHeart()); // Add the heart to the container.
 		}
 	}
 
+	/**
+	 * Creates one heart image.
+	 *
+	 * @return The heart, sized for the container.
+	 */
+	private ImageView createHeart() {
+		ImageView heart = new ImageView(SpriteCache.get(HEART_IMAGE_NAME, HEART_HEIGHT)); // Every heart shares one image.
+		heart.setFitHeight(HEART_HEIGHT); // Set the height of the heart.
+		heart.setPreserveRatio(true); // Preserve the aspect ratio of the image.
+		return heart;
+	}
+
 	/**
 	 * Removes one heart from the container, representing a loss of health.
 	 * Removes the first heart if the container is not empty.
@@ -68,6 +75,15 @@ public class HeartDisplay {
 		}
 	}
 
+	/**
+	 * Adds back the hearts removed since the display was created, so it shows full health again.
+	 */
+	public void reset() {
+		for (int i = container.getChildren().size(); i < numberOfHeartsToDisplay; i++) {
+			container.getChildren().add(createHeart());
+		}
+	}
+
 	/**
 	 * Retrieves the container holding the heart images.
 	 *
@@ -1,16 +1,15 @@
 package com.example.demo.ui;
 
-import javafx.scene.image.Image;
+import com.example.demo.managers.SpriteCache;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 /**
  * Represents a shield image displayed when the boss activates its shield.
  * Extends `ImageView` to visually represent the shield.
  */
 public class ShieldImage extends ImageView {
 
+	public static final String IMAGE_NAME = "/com/example/demo/images/shield.png"; // Path to the shield image file.
 	private static final int SHIELD_SIZE = 150; // Default size for the shield image.
 
 	/**
@@ -20,7 +19,7 @@ public class ShieldImage extends ImageView {
 	public ShieldImage() {
 		this.setLayoutX(1150); // Initial X position of the shield.
 		this.setLayoutY(5); // Initial Y position of the shield.
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource("/com/example/demo/images/shield.png")).toExternalForm())); // Load the shield image.
+		this.setImage(SpriteCache.get(IMAGE_NAME)); // Use the shared shield image.
 		this.setVisible(false); // Initially, the shield is not visible.
 		this.setFitHeight(SHIELD_SIZE); // Set the height of the shield image.
 		this.setFitWidth(SHIELD_SIZE); // Set the width of the shield image.
@@ -1,17 +1,15 @@
 package com.example.demo.ui;
 
-import javafx.scene.image.Image;
+import com.example.demo.managers.SpriteCache;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 /**
  * Represents a "You Win" image displayed when the player wins the game.
  * Extends `ImageView` to visually represent the victory screen.
  */
 public class WinImage extends ImageView {
 
-	private static final String IMAGE_NAME = "/com/example/demo/images/youwin.png"; // Path to the "You Win" image file.
+	public static final String IMAGE_NAME = "/com/example/demo/images/youwin.png"; // Path to the "You Win" image file.
 	private static final int HEIGHT = 500; // Height of the "You Win" image.
 	private static final int WIDTH = 600; // Width of the "You Win" image.
 
@@ -23,7 +21,7 @@ public class WinImage extends ImageView {
 	 * @param yPosition The Y coordinate where the image should be displayed.
 	 */
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm())); // Load the "You Win" image.
+		this.setImage(SpriteCache.get(IMAGE_NAME)); // Use the shared "You Win" image.
 		this.setVisible(false); // Initially, the image is not visible.
 		this.setFitHeight(HEIGHT); // Set the height of the image.
 		this.setFitWidth(WIDTH); // Set the width of the image.
@@ -3,6 +3,8 @@ module com.example.demo {
     requires javafx.fxml;
     requires java.logging;
     requires javafx.media;
+    requires jdk.httpserver;
+    requires java.net.http;
 
     opens com.example.demo.controller to javafx.fxml;  // Open to javafx.fxml for FXML access
     exports com.example.demo.controller;
@@ -0,0 +1,133 @@
+package com.example.demo.actor;
+
+import com.example.demo.JavaFXInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityStoreTest extends JavaFXInitializer {
+
+    private EntityStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new EntityStore();
+    }
+
+    @Test
+    void testAddCapturesActorState() {
+        EnemyPlane enemy = new EnemyPlane(500, 200, 3);
+        store.add(enemy);
+
+        assertEquals(1, store.size(), "Store should contain one actor");
+        assertSame(enemy, store.getActor(0), "Slot 0 should hold the added actor");
+        assertEquals(500, store.getX(0), 0.001, "X position should be captured from the actor");
+        assertEquals(200, store.getY(0), 0.001, "Y position should be captured from the actor");
+        assertEquals(3, store.getHealth(0), "Health should be captured from the actor");
+    }
+
+    @Test
+    void testUpdateIntegratesKinematicActors() {
+        EnemyPlane enemy = new EnemyPlane(500, 200, 1);
+        store.add(enemy);
+
+        store.update();
+        store.syncViews();
+
+        assertEquals(494, store.getX(0), 0.001, "Enemy plane should move left by its velocity");
+        assertEquals(-6, enemy.getTranslateX(), 0.001, "View translate should be synced from the store");
+    }
+
+    @Test
+    void testInterpolateViewsBlendsStepsWithoutMovingHitbox() {
+        EnemyPlane enemy = new EnemyPlane(500, 200, 1);
+        store.add(enemy);
+
+        store.update();
+        store.syncViews();
+        double hitboxMinX = enemy.getHitboxMinX();
+        store.interpolateViews(0.5);
+
+        assertEquals(497, store.getInterpolatedX(0, 0.5), 0.001, "Interpolated X should lie halfway between steps");
+        assertEquals(-3, enemy.getTranslateX(), 0.001, "View should be drawn between the two steps");
+        assertEquals(494, store.getX(0), 0.001, "Simulation state should keep the current position");
+        assertEquals(hitboxMinX, enemy.getHitboxMinX(), 0.001, "Hitbox should stay at the current position");
+    }
+
+    @Test
+    void testSyncViewsMovesHitbox() {
+        EnemyPlane enemy = new EnemyPlane(500, 200, 1);
+        store.add(enemy);
+        double width = enemy.getHitboxMaxX() - enemy.getHitboxMinX();
+
+        store.update();
+        store.syncViews();
+
+        assertEquals(499, enemy.getHitboxMinX(), 0.001, "Hitbox should follow the actor with its offset applied");
+        assertEquals(235, enemy.getHitboxMinY(), 0.001, "Hitbox Y should include its offset");
+        assertEquals(width, enemy.getHitboxMaxX() - enemy.getHitboxMinX(), 0.001, "Hitbox width should not change");
+        assertEquals(enemy.getHitboxMinX(), enemy.getBoundingBox().getX(), 0.001, "Debug rectangle should match the hitbox");
+    }
+
+    @Test
+    void testSetSpeedUpdatesStoredVelocity() {
+        EnemyPlane enemy = new EnemyPlane(500, 200, 1);
+        store.add(enemy);
+        enemy.setSpeed(10);
+
+        store.update();
+
+        assertEquals(490, store.getX(0), 0.001, "Changed speed should be used by the store");
+    }
+
+    @Test
+    void testDamageIsMirroredInStore() {
+        EnemyPlane enemy = new EnemyPlane(500, 200, 2);
+        store.add(enemy);
+
+        enemy.takeDamage();
+        assertEquals(1, store.getHealth(0), "Health change should be written through to the store");
+        assertFalse(store.isDestroyed(0), "Actor should not be destroyed yet");
+
+        enemy.takeDamage();
+        assertTrue(store.isDestroyed(0), "Destruction should be written through to the store");
+    }
+
+    @Test
+    void testRemoveDestroyedCompactsInOrder() {
+        EnemyPlane first = new EnemyPlane(100, 0, 1);
+        EnemyPlane second = new EnemyPlane(200, 0, 1);
+        EnemyPlane third = new EnemyPlane(300, 0, 1);
+        store.add(first);
+        store.add(second);
+        store.add(third);
+
+        second.takeDamage();
+        List<ActiveActorDestructible> removed = new ArrayList<>();
+        int count = store.removeDestroyed(removed::add);
+
+        assertEquals(1, count, "One actor should be removed");
+        assertEquals(List.of(second), removed, "Callback should receive the destroyed actor");
+        assertEquals(List.of(first, third), store.asList(), "Survivors should keep their order");
+        assertEquals(300, store.getX(1), 0.001, "Survivor state should move with its actor");
+
+        third.takeDamage();
+        assertTrue(store.isDestroyed(1), "Moved actor should stay bound to its new slot");
+    }
+
+    @Test
+    void testRemoveThroughListView() {
+        EnemyPlane first = new EnemyPlane(100, 0, 1);
+        EnemyPlane second = new EnemyPlane(200, 0, 1);
+        store.add(first);
+        store.add(second);
+
+        assertTrue(store.asList().remove(first), "List view should support removal");
+        assertEquals(1, store.size(), "Store should shrink after removal");
+        assertSame(second, store.getActor(0), "Remaining actor should shift down");
+    }
+}
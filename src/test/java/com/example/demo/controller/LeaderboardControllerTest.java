@@ -14,8 +14,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -92,6 +96,38 @@ class LeaderboardControllerTest extends JavaFXInitializer {
         waitForFXEvents();
     }
 
+    @Test
+    void testInsertScorePatchesRowsBelowIt() throws Exception {
+        mockedLeaderboardManager.when(() -> LeaderboardManager.getTopScores(5))
+                .thenReturn(Arrays.asList(100, 90, 80, 70, 60));
+
+        FXMLLoader loader = new FXMLLoader(getClass().getResource("/leaderboard.fxml"));
+        loader.load();
+        leaderboardController = loader.getController();
+
+        List<String> items = insertScoreOnFxThread(1, 95);
+
+        assertEquals(5, items.size(), "ListView should still contain 5 scores");
+        assertEquals("Rank 1: 100", items.get(0), "Rows above the new score should not change");
+        assertEquals("Rank 2: 95", items.get(1), "The new score should be inserted at its rank");
+        assertEquals("Rank 5: 70", items.get(4), "The lowest score should be pushed off the list");
+    }
+
+    @Test
+    void testInsertScoreReplacesPlaceholder() throws Exception {
+        mockedLeaderboardManager.when(() -> LeaderboardManager.getTopScores(5))
+                .thenReturn(Collections.emptyList());
+
+        FXMLLoader loader = new FXMLLoader(getClass().getResource("/leaderboard.fxml"));
+        loader.load();
+        leaderboardController = loader.getController();
+
+        List<String> items = insertScoreOnFxThread(0, 42);
+
+        assertEquals(1, items.size(), "ListView should contain 1 score");
+        assertEquals("Rank 1: 42", items.getFirst(), "The placeholder should be replaced");
+    }
+
     @Test
     void testBackToMenu() throws Exception {
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/leaderboard.fxml"));
@@ -107,6 +143,21 @@ class LeaderboardControllerTest extends JavaFXInitializer {
         waitForFXEvents();
     }
 
+    private List<String> insertScoreOnFxThread(int rank, int score) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> items = new ArrayList<>();
+        Platform.runLater(() -> {
+            try {
+                leaderboardController.insertScore(rank, score);
+                items.addAll(leaderboardController.leaderboardListView.getItems()); // Copied for the test thread.
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "JavaFX thread timed out inserting the score.");
+        return items;
+    }
+
     private void waitForFXEvents() throws InterruptedException {
         Thread.sleep(100); // Allow JavaFX events to process
     }
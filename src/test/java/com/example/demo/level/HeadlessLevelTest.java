@@ -0,0 +1,223 @@
+package com.example.demo.level;
+
+import com.example.demo.levelview.EndlessLevelView;
+import com.example.demo.managers.HeadlessMode;
+import com.example.demo.managers.InputAction;
+import com.example.demo.managers.InputLog;
+import com.example.demo.managers.InputRecorder;
+import com.example.demo.managers.SoundManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessLevelTest {
+
+    @BeforeEach
+    void setUp() {
+        HeadlessMode.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HeadlessMode.setEnabled(false);
+        System.clearProperty("demo.seed");
+    }
+
+    @Test
+    void testLevelRunsWithoutStage() {
+        LevelOne level = new LevelOne(1300, 750, new SoundManager(), null);
+
+        assertTrue(level.isHeadless(), "Level should run headless");
+        assertNull(level.initializeScene(), "Headless level should not build a scene");
+    }
+
+    @Test
+    void testSimulateStopsWhenLevelEnds() {
+        LevelOne level = new LevelOne(1300, 750, new SoundManager(), null);
+        level.initializeScene();
+        level.startGame();
+
+        int steps = level.simulate(100_000);
+
+        assertTrue(level.isFinished(), "Without input the player should eventually lose");
+        assertTrue(steps < 100_000, "Simulation should stop once the level ends");
+        assertEquals(0, level.simulate(10), "A finished level should not advance");
+    }
+
+    @Test
+    void testBossLevelRunsHeadless() {
+        BossLevel level = new BossLevel(1300, 750, new SoundManager(), null);
+        level.initializeScene();
+
+        level.simulate(50);
+
+        assertEquals(1, level.getCurrentNumberOfEnemies(), "The boss should be spawned");
+    }
+
+    @Test
+    void testHeadlessGameOverShowsNoOverlay() {
+        Logger viewLogger = Logger.getLogger(EndlessLevelView.class.getName());
+        List<LogRecord> errors = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getLevel().intValue() >= Level.SEVERE.intValue()) {
+                    errors.add(record);
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        viewLogger.addHandler(handler);
+        try {
+            EndlessMode level = new EndlessMode(new SoundManager(), null);
+            level.startGame();
+            level.simulate(100_000);
+
+            assertTrue(level.isFinished(), "Without input the player should eventually lose");
+            assertTrue(errors.isEmpty(), "A headless game over should not try to show the game-over screen");
+        } finally {
+            viewLogger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    void testSameSeedReplaysSameGame() {
+        System.setProperty("demo.seed", "2024");
+        LevelOne first = new LevelOne(1300, 750, new SoundManager(), null);
+        LevelOne second = new LevelOne(1300, 750, new SoundManager(), null);
+        first.startGame();
+        second.startGame();
+
+        assertEquals(2024, first.getGameRandom().getSeed(), "Level should be seeded from the system property");
+        assertEquals(first.simulate(100_000), second.simulate(100_000), "Levels with the same seed should end on the same step");
+        assertEquals(first.getUserKillCount(), second.getUserKillCount(), "Levels with the same seed should have the same outcome");
+    }
+
+    @Test
+    void testReplayReseedsLevelAndFeedsRecordedInput() {
+        InputRecorder recorder = new InputRecorder(LevelOne.class.getName(), 99);
+        recorder.record(0, InputAction.MOVE_UP);
+        for (int step = 0; step < 2000; step += 4) {
+            recorder.record(step, InputAction.FIRE);
+            if (step == 12) {
+                recorder.record(step, InputAction.STOP_VERTICAL);
+            }
+        }
+        InputLog log = recorder.toLog(2000);
+        LevelOne first = new LevelOne(1300, 750, new SoundManager(), null);
+        LevelOne second = new LevelOne(1300, 750, new SoundManager(), null);
+        first.replay(log);
+        second.replay(log);
+
+        assertTrue(first.isReplaying(), "Level should be fed from the recording");
+        assertEquals(99, first.getGameRandom().getSeed(), "Level should take the recording's seed");
+        assertEquals(first.simulate(2000), second.simulate(2000), "Replays should end on the same step");
+        assertEquals(first.getUser().getHealth(), second.getUser().getHealth(), "Replays should have the same outcome");
+        assertTrue(first.getUser().getTranslateY() < 0, "Recorded moves should be applied");
+    }
+
+    @Test
+    void testResetLevelPlaysTheSameGameAgain() {
+        System.setProperty("demo.seed", "2024");
+        LevelOne level = new LevelOne(1300, 750, new SoundManager(), null);
+        level.startGame();
+        int steps = level.simulate(100_000);
+        int kills = level.getUserKillCount();
+
+        level.resetLevel();
+
+        assertFalse(level.isFinished(), "A reset level should be playable again");
+        assertEquals(0, level.getStepCount(), "A reset level should start from the first step");
+        assertEquals(5, level.getUserHealth(), "The player should have full health again");
+        assertEquals(0, level.getCurrentNumberOfEnemies(), "Enemies should be cleared");
+        assertEquals(0, level.getUserKillCount(), "The kill count should be cleared");
+        level.startGame();
+        assertEquals(steps, level.simulate(100_000), "A reset level should replay the same game for the same seed");
+        assertEquals(kills, level.getUserKillCount(), "A reset level should have the same outcome");
+    }
+
+    @Test
+    void testResetLevelKeepsThePlayerBelowTheHud() {
+        LevelTwo level = new LevelTwo(1300, 750, new SoundManager(), null);
+        level.getLevelView().showKillCountDisplay(); // As initializeScene() does with a scene.
+        level.startGame();
+        int userIndex = level.getRoot().getChildren().indexOf(level.getUser());
+        level.simulate(500);
+
+        level.resetLevel();
+
+        assertEquals(userIndex, level.getRoot().getChildren().indexOf(level.getUser()), "The player should be drawn at the same depth as in a new level");
+    }
+
+    @Test
+    void testResetEndlessModeStartsFromTheFirstWave() {
+        EndlessMode level = new EndlessMode(new SoundManager(), null);
+        level.startGame();
+        level.incrementKillCount(25);
+        level.simulate(3); // One wave is checked per step.
+        assertEquals(3, level.getCurrentWave(), "Every 10 kills should start a new wave");
+
+        level.resetLevel();
+
+        assertEquals(1, level.getCurrentWave(), "A reset endless game should start from the first wave");
+        level.startGame();
+        level.simulate(3);
+        assertEquals(1, level.getCurrentWave(), "Without kills the first wave should go on");
+    }
+
+    @Test
+    void testResetBossLevelPlaysTheSameGameAgain() {
+        System.setProperty("demo.seed", "2024");
+        BossLevel level = new BossLevel(1300, 750, new SoundManager(), null);
+        level.startGame();
+        int steps = level.simulate(100_000);
+        int bossHealth = level.getBoss().getHealth();
+
+        level.resetLevel();
+        level.startGame();
+
+        assertEquals(steps, level.simulate(100_000), "A reset boss level should replay the same game for the same seed");
+        assertEquals(bossHealth, level.getBoss().getHealth(), "A reset boss level should have the same outcome");
+    }
+
+    @Test
+    void testResetLevelBringsBackTheBoss() {
+        BossLevel level = new BossLevel(1300, 750, new SoundManager(), null);
+        level.initializeScene();
+        level.simulate(1);
+        level.getBoss().destroy();
+        level.simulate(1);
+        assertTrue(level.isFinished(), "Destroying the boss should win the level");
+
+        level.resetLevel();
+        level.simulate(1);
+
+        assertFalse(level.getBoss().isDestroyed(), "The boss should be back");
+        assertEquals(20, level.getBoss().getHealth(), "The boss should have full health again");
+        assertEquals(1, level.getCurrentNumberOfEnemies(), "The boss should be spawned again");
+    }
+
+    @Test
+    void testReplayIsRejectedForAnotherLevel() {
+        LevelOne level = new LevelOne(1300, 750, new SoundManager(), null);
+        InputLog log = new InputRecorder(LevelTwo.class.getName(), 1).toLog(0);
+
+        assertThrows(IllegalArgumentException.class, () -> level.replay(log));
+    }
+}
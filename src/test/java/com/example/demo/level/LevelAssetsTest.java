@@ -0,0 +1,36 @@
+package com.example.demo.level;
+
+import com.example.demo.managers.AssetManifest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelAssetsTest {
+
+    @Test
+    void testLevelOneManifestPointsToLevelTwo() {
+        AssetManifest manifest = LevelAssets.manifestFor(LevelOne.class.getName());
+
+        assertEquals(LevelOne.NEXT_LEVEL, manifest.getNextLevelClassName(), "Level One should warm Level Two");
+        assertTrue(manifest.getMusicPaths().contains(LevelParent.BACKGROUND_MUSIC), "Level One should load the default music");
+        assertTrue(manifest.getFxmlPaths().contains("/PauseMenu.fxml"), "Every level should load the pause menu");
+    }
+
+    @Test
+    void testBossLevelManifestLoadsBossAssets() {
+        AssetManifest manifest = LevelAssets.manifestFor(BossLevel.class.getName());
+
+        assertNull(manifest.getNextLevelClassName(), "Boss level is the last level");
+        assertTrue(manifest.getMusicPaths().contains(BossLevel.BOSS_MUSIC), "Boss level should load the boss music");
+        assertTrue(manifest.getImages().stream().anyMatch(image -> image.getPath().endsWith("bossplane.png")),
+                "Boss level should load the boss sprite");
+    }
+
+    @Test
+    void testManifestSizeCountsEveryAsset() {
+        AssetManifest manifest = LevelAssets.manifestFor(LevelTwo.class.getName());
+
+        assertEquals(manifest.getImages().size() + manifest.getFxmlPaths().size() + manifest.getMusicPaths().size(),
+                manifest.size(), "Size should include images, layouts and music");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.level;
+
+import com.example.demo.managers.HeadlessMode;
+import com.example.demo.managers.InputAction;
+import com.example.demo.managers.InputLog;
+import com.example.demo.managers.InputRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayBatchRunnerTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("recordings");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Plays a session with some input once and saves it with the outcome it reached.
+     *
+     * @param levelClass The level to play.
+     * @param seed       The seed of the session.
+     * @param health     The health to record, or null to record the actual health.
+     * @return The saved recording.
+     */
+    private Path capture(Class<? extends LevelParent> levelClass, long seed, Integer health) throws Exception {
+        InputRecorder recorder = new InputRecorder(levelClass.getName(), seed);
+        recorder.record(0, InputAction.MOVE_DOWN);
+        for (int step = 0; step < 600; step += 5) {
+            recorder.record(step, InputAction.FIRE);
+        }
+        HeadlessMode.setEnabled(true);
+        LevelParent level;
+        try {
+            level = ReplayBatchRunner.createLevel(levelClass.getName());
+            level.replay(recorder.toLog(600));
+            level.simulate(600);
+        } finally {
+            HeadlessMode.setEnabled(false);
+        }
+        Path file = directory.resolve(levelClass.getSimpleName() + "-" + seed + ReplayBatchRunner.RECORDING_EXTENSION);
+        recorder.toLog(level.getStepCount(), level.getEnemiesDestroyed(), health != null ? health : level.getUserHealth()).save(file);
+        return file;
+    }
+
+    @Test
+    void testRecordedSessionsReplayIdentically() throws Exception {
+        capture(LevelOne.class, 1, null);
+        capture(LevelTwo.class, 2, null);
+        capture(BossLevel.class, 3, null);
+        capture(EndlessMode.class, 4, null);
+
+        ReplayBatchRunner.Report report = new ReplayBatchRunner(2).run(directory);
+
+        assertEquals(4, report.getResults().size(), "Every recording should be replayed");
+        assertEquals(0, report.getFailureCount(), "Replays should match their recordings: " + report.getResults());
+        assertTrue(report.getTotalSteps() > 0, "Steps should be counted");
+        assertFalse(HeadlessMode.isEnabled(), "Headless mode should be restored after the batch");
+    }
+
+    @Test
+    void testMismatchAndUnreadableFilesAreReported() throws Exception {
+        capture(LevelOne.class, 5, 99);
+        Files.write(directory.resolve("broken" + ReplayBatchRunner.RECORDING_EXTENSION), new byte[] {1, 2, 3});
+        Files.writeString(directory.resolve("notes.txt"), "ignored");
+
+        ReplayBatchRunner.Report report = new ReplayBatchRunner(2).run(directory);
+
+        assertEquals(2, report.getResults().size(), "Only recordings should be replayed");
+        assertEquals(2, report.getFailureCount(), "Both the mismatch and the broken file should fail");
+        assertNull(report.getResults().get(0).getError(), "The mismatching session should still run");
+        assertNotNull(report.getResults().get(1).getError(), "The broken file should report why it failed");
+    }
+
+    @Test
+    void testNonLevelClassIsRejected() {
+        assertThrows(ClassCastException.class, () -> ReplayBatchRunner.createLevel(String.class.getName()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.managers;
+
+import com.example.demo.JavaFXInitializer;
+import com.example.demo.actor.EnemyPlane;
+import com.example.demo.projectiles.EnemyProjectile;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanvasRendererTest extends JavaFXInitializer {
+
+    private Group root;
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        root = new Group();
+        entityManager = new EntityManager(root, 8, EntityManager.RenderMode.CANVAS, 1300, 750);
+    }
+
+    @Test
+    void testCanvasIsTheOnlyActorNode() {
+        assertEquals(1, root.getChildren().size(), "Only the canvas should be added to the root");
+        assertTrue(root.getChildren().getFirst() instanceof Canvas, "The root should hold the canvas");
+    }
+
+    @Test
+    void testSceneGraphSizeStaysConstant() {
+        for (int i = 0; i < 20; i++) {
+            entityManager.addEnemyUnit(new EnemyPlane(1000, 50 + i * 10, 1));
+            entityManager.addEnemyProjectile(new EnemyProjectile(900, 50 + i * 10));
+        }
+        entityManager.updateEntities();
+        entityManager.render(1);
+
+        assertEquals(1, root.getChildren().size(), "Actors should be drawn without adding nodes");
+        assertEquals(20, entityManager.getEnemyUnits().size(), "Actors should still be simulated");
+    }
+
+    @Test
+    void testRemovingActorsLeavesCanvasInPlace() {
+        EnemyPlane enemy = new EnemyPlane(1000, 50, 1);
+        entityManager.addEnemyUnit(enemy);
+        enemy.destroy();
+        entityManager.removeAllDestroyedActors();
+        entityManager.render(1);
+
+        assertTrue(entityManager.getEnemyUnits().isEmpty(), "Destroyed actor should be removed");
+        assertEquals(1, root.getChildren().size(), "Canvas should remain in the root");
+    }
+
+    @Test
+    void testSceneGraphModeIsTheDefault() {
+        EntityManager defaultManager = new EntityManager(new Group());
+
+        assertEquals(EntityManager.RenderMode.SCENE_GRAPH, defaultManager.getRenderMode(), "Scene graph rendering should be the default");
+    }
+}
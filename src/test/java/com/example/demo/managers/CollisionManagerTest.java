@@ -2,13 +2,13 @@ package com.example.demo.managers;
 
 import com.example.demo.actor.ActiveActorDestructible;
 import javafx.scene.Group;
-import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 class CollisionManagerTest {
@@ -68,6 +68,52 @@ class CollisionManagerTest {
         verify(friendly).takeDamage();
     }
 
+    @Test
+    void testDistantActorsDoNotCollide() {
+        ActiveActorDestructible userProjectile = mockActor(100, 100, 10, 10);
+        ActiveActorDestructible nearEnemy = mockActor(105, 105, 50, 50);
+        ActiveActorDestructible farEnemy = mockActor(900, 500, 50, 50);
+
+        List<ActiveActorDestructible> userProjectiles = new ArrayList<>();
+        userProjectiles.add(userProjectile);
+        List<ActiveActorDestructible> enemyUnits = new ArrayList<>();
+        enemyUnits.add(farEnemy);
+        enemyUnits.add(nearEnemy);
+
+        collisionManager.handleUserProjectileCollisions(userProjectiles, enemyUnits);
+
+        verify(userProjectile, times(1)).takeDamage();
+        verify(nearEnemy, times(1)).takeDamage();
+        verify(farEnemy, never()).takeDamage();
+    }
+
+    @Test
+    void testDefaultStrategyIsSpatialHash() {
+        assertEquals(CollisionManager.Strategy.SPATIAL_HASH, collisionManager.getStrategy());
+    }
+
+    @Test
+    void testAllStrategiesResolveTheSameCollisions() {
+        for (CollisionManager.Strategy strategy : CollisionManager.Strategy.values()) {
+            CollisionManager manager = new CollisionManager(strategy);
+            ActiveActorDestructible projectile = mockActor(100, 100, 10, 10);
+            ActiveActorDestructible nearEnemy = mockActor(105, 105, 50, 50);
+            ActiveActorDestructible farEnemy = mockActor(900, 500, 50, 50);
+
+            List<ActiveActorDestructible> projectiles = new ArrayList<>();
+            projectiles.add(projectile);
+            List<ActiveActorDestructible> enemyUnits = new ArrayList<>();
+            enemyUnits.add(farEnemy);
+            enemyUnits.add(nearEnemy);
+
+            manager.handleUserProjectileCollisions(projectiles, enemyUnits);
+
+            verify(projectile, times(1)).takeDamage();
+            verify(nearEnemy, times(1)).takeDamage();
+            verify(farEnemy, never()).takeDamage();
+        }
+    }
+
     @Test
     void testHandleEnemyPenetration() {
         ActiveActorDestructible enemy = mockActor(800, 100, 50, 50);
@@ -88,8 +134,10 @@ class CollisionManagerTest {
 
     private ActiveActorDestructible mockActor(double x, double y, double width, double height) {
         ActiveActorDestructible actor = mock(ActiveActorDestructible.class);
-        Rectangle boundingBox = new Rectangle(x, y, width, height);
-        when(actor.getBoundingBox()).thenReturn(boundingBox);
+        when(actor.getHitboxMinX()).thenReturn(x);
+        when(actor.getHitboxMinY()).thenReturn(y);
+        when(actor.getHitboxMaxX()).thenReturn(x + width);
+        when(actor.getHitboxMaxY()).thenReturn(y + height);
         when(actor.getTranslateX()).thenReturn(x);
         return actor;
     }
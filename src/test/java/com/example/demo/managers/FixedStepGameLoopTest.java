@@ -0,0 +1,70 @@
+package com.example.demo.managers;
+
+import com.example.demo.JavaFXInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedStepGameLoopTest extends JavaFXInitializer {
+
+    private static final long MILLIS = 1_000_000;
+
+    private int steps;
+    private double lastAlpha;
+    private FixedStepGameLoop loop;
+
+    @BeforeEach
+    void setUp() {
+        steps = 0;
+        lastAlpha = -1;
+        loop = new FixedStepGameLoop(50, 3, () -> steps++, alpha -> lastAlpha = alpha);
+    }
+
+    @Test
+    void testFirstFrameOnlyRenders() {
+        assertEquals(0, loop.advance(0), "The first frame should not simulate");
+        assertEquals(1, lastAlpha, 0.0001, "The first frame should render the current state");
+    }
+
+    @Test
+    void testStepsFollowElapsedTimeAndInterpolate() {
+        loop.advance(0);
+        loop.advance(16 * MILLIS);
+        assertEquals(0, steps, "Less than a step elapsed, so nothing should be simulated");
+        assertEquals(16.0 / 50, lastAlpha, 0.0001, "Frame should be drawn part way to the next step");
+
+        loop.advance(116 * MILLIS);
+        assertEquals(2, steps, "Two whole steps elapsed");
+        assertEquals(16.0 / 50, lastAlpha, 0.0001, "Leftover time should carry over");
+    }
+
+    @Test
+    void testCatchUpIsCapped() {
+        loop.advance(0);
+        int run = loop.advance(1000 * MILLIS);
+
+        assertEquals(3, run, "No more than the cap should run in one frame");
+        assertTrue(lastAlpha < 1, "The dropped backlog should not leave a full step pending");
+    }
+
+    @Test
+    void testStopDuringStepEndsTheFrame() {
+        FixedStepGameLoop[] holder = new FixedStepGameLoop[1];
+        holder[0] = new FixedStepGameLoop(50, 5, () -> {
+            steps++;
+            holder[0].stop();
+        }, alpha -> lastAlpha = alpha);
+        holder[0].advance(0);
+        lastAlpha = -1;
+        holder[0].advance(200 * MILLIS);
+
+        assertEquals(1, steps, "No steps should run after the loop is stopped");
+        assertEquals(-1, lastAlpha, 0.0001, "A stopped loop should not render");
+    }
+
+    @Test
+    void testInvalidStepIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepGameLoop(0, () -> { }, alpha -> { }));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    private FrameProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new FrameProfiler(4);
+    }
+
+    private void recordFrame() {
+        profiler.beginFrame();
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            if (phase != FrameProfiler.Phase.FRAME) {
+                profiler.mark(phase);
+            }
+        }
+        profiler.endFrame();
+    }
+
+    @Test
+    void testEmptyProfilerReportsZero() {
+        FrameProfiler.Stats stats = profiler.getStats(FrameProfiler.Phase.FRAME);
+
+        assertEquals(0, profiler.getFrameCount(), "No frames should be recorded");
+        assertEquals(0, stats.getP99(), "Percentiles of an empty window should be zero");
+    }
+
+    @Test
+    void testPercentilesAreOrdered() {
+        for (int i = 0; i < 10; i++) {
+            recordFrame();
+        }
+        FrameProfiler.Stats stats = profiler.getStats(FrameProfiler.Phase.FRAME);
+
+        assertEquals(10, profiler.getFrameCount(), "Every frame should be counted");
+        assertTrue(stats.getP50() <= stats.getP95(), "p50 should not exceed p95");
+        assertTrue(stats.getP95() <= stats.getP99(), "p95 should not exceed p99");
+        assertTrue(stats.getP99() <= stats.getMax(), "p99 should not exceed the maximum");
+    }
+
+    @Test
+    void testFrameCoversItsPhases() {
+        recordFrame();
+        long phases = 0;
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            if (phase != FrameProfiler.Phase.FRAME) {
+                phases += profiler.getStats(phase).getMax();
+            }
+        }
+
+        assertTrue(profiler.getStats(FrameProfiler.Phase.FRAME).getMax() >= phases, "A frame should last at least as long as its phases");
+    }
+
+    @Test
+    void testDumpWritesSummaryAndWindow() throws IOException {
+        for (int i = 0; i < 6; i++) {
+            recordFrame();
+        }
+        Path file = Files.createTempFile("frame-profile", ".csv");
+        try {
+            profiler.dump(file);
+            List<String> lines = Files.readAllLines(file);
+            int phases = FrameProfiler.Phase.values().length;
+
+            assertEquals("phase,p50_ms,p95_ms,p99_ms,max_ms", lines.getFirst(), "Summary header should come first");
+            assertTrue(lines.get(phases + 2).startsWith("frame,SPAWN"), "Raw samples header should follow the summary");
+            assertEquals(phases + 3 + 4, lines.size(), "Only the frames in the window should be dumped");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testInvalidWindowIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FrameProfiler(0));
+    }
+}
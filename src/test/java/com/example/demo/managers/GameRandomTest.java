@@ -0,0 +1,55 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("demo.seed");
+    }
+
+    @Test
+    void testSameSeedGivesSameSequence() {
+        RandomGenerator first = new GameRandom(42).stream(GameRandom.Stream.SPAWN);
+        RandomGenerator second = new GameRandom(42).stream(GameRandom.Stream.SPAWN);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextDouble(), second.nextDouble(), "Streams with the same seed should match");
+        }
+    }
+
+    @Test
+    void testStreamsAreIndependent() {
+        GameRandom random = new GameRandom(42);
+        GameRandom reference = new GameRandom(42);
+
+        for (int i = 0; i < 10; i++) {
+            random.stream(GameRandom.Stream.ENEMY_FIRE).nextDouble(); // Extra draws in another subsystem.
+        }
+
+        assertEquals(reference.stream(GameRandom.Stream.SPAWN).nextLong(), random.stream(GameRandom.Stream.SPAWN).nextLong(),
+                "Draws in one stream should not shift another");
+        assertNotEquals(reference.stream(GameRandom.Stream.SPAWN).nextLong(), reference.stream(GameRandom.Stream.BOSS).nextLong(),
+                "Different subsystems should get different numbers");
+    }
+
+    @Test
+    void testSeedIsReadFromSystemProperty() {
+        System.setProperty("demo.seed", "1234");
+
+        assertEquals(1234, GameRandom.fromSystemProperty().getSeed(), "Configured seed should be used");
+    }
+
+    @Test
+    void testInvalidSeedFallsBackToRandomSeed() {
+        System.setProperty("demo.seed", "not-a-number");
+
+        assertNotNull(GameRandom.fromSystemProperty(), "An invalid seed should not prevent the level from starting");
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputLogTest {
+
+    private static final String LEVEL = "com.example.demo.level.LevelOne";
+
+    private InputLog roundTrip(InputLog log) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+        return InputLog.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    void testRoundTripKeepsSeedAndActions() throws IOException {
+        InputRecorder recorder = new InputRecorder(LEVEL, -77L);
+        recorder.record(0, InputAction.MOVE_UP);
+        recorder.record(0, InputAction.FIRE);
+        recorder.record(300, InputAction.STOP_VERTICAL);
+        recorder.record(100_000, InputAction.MOVE_RIGHT);
+
+        InputLog log = roundTrip(recorder.toLog(100_500));
+
+        assertEquals(LEVEL, log.getLevelClassName(), "Level should be kept");
+        assertEquals(-77L, log.getSeed(), "Seed should be kept");
+        assertEquals(100_500, log.getSteps(), "Length should be kept");
+        assertEquals(4, log.size(), "Every action should be kept");
+        assertEquals(300, log.getStep(2), "Steps should be restored from their deltas");
+        assertEquals(100_000, log.getStep(3), "Large step gaps should survive");
+        assertEquals(InputAction.FIRE, log.getAction(1), "Actions should be kept in order");
+    }
+
+    @Test
+    void testActionsTakeTwoBytes() throws IOException {
+        InputRecorder recorder = new InputRecorder(LEVEL, 1);
+        for (int i = 0; i < 1000; i++) {
+            recorder.record(i * 10L, InputAction.FIRE);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toLog(10_000).write(out);
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        new InputRecorder(LEVEL, 1).toLog(10_000).write(empty);
+
+        assertEquals(2000, out.size() - empty.size(), "Each action with a short gap should take two bytes");
+    }
+
+    @Test
+    void testOutOfOrderActionsAreRejected() {
+        InputRecorder recorder = new InputRecorder(LEVEL, 1);
+        recorder.record(5, InputAction.FIRE);
+
+        assertThrows(IllegalArgumentException.class, () -> recorder.record(4, InputAction.FIRE));
+    }
+
+    @Test
+    void testGarbageIsRejected() {
+        byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8};
+
+        assertThrows(IOException.class, () -> InputLog.read(new ByteArrayInputStream(garbage)));
+    }
+
+    @Test
+    void testOversizedActionCountIsRejectedAsCorrupt() throws IOException {
+        InputRecorder recorder = new InputRecorder(LEVEL, 1L);
+        recorder.record(5, InputAction.FIRE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toLog(10).write(out);
+        byte[] bytes = out.toByteArray();
+        int countOffset = bytes.length - 2 - Integer.BYTES; // The count precedes the one two-byte action.
+        bytes[countOffset] = 0x7F; // Claims about two billion actions.
+
+        IOException e = assertThrows(IOException.class, () -> InputLog.read(new ByteArrayInputStream(bytes)));
+        assertTrue(e.getMessage().startsWith("Corrupt input log"), "A count larger than the stream should be reported as corrupt");
+    }
+
+    @Test
+    void testPlaybackAppliesActionsWhenDue() {
+        InputRecorder recorder = new InputRecorder(LEVEL, 1);
+        recorder.record(0, InputAction.MOVE_UP);
+        recorder.record(2, InputAction.FIRE);
+        recorder.record(2, InputAction.STOP_VERTICAL);
+        InputPlayback playback = new InputPlayback(recorder.toLog(3));
+        List<InputAction> applied = new ArrayList<>();
+
+        assertEquals(1, playback.applyDue(0, applied::add), "Only the first action should be due");
+        assertEquals(0, playback.applyDue(1, applied::add), "Nothing should be due in between");
+        assertEquals(2, playback.applyDue(2, applied::add), "Both actions of the same step should be applied");
+        assertEquals(List.of(InputAction.MOVE_UP, InputAction.FIRE, InputAction.STOP_VERTICAL), applied, "Actions should be applied in order");
+        assertFalse(playback.isFinished(2), "Playback should last as long as the recording");
+        assertTrue(playback.isFinished(3), "Playback should end with the recording");
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardIndexTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private static final long MONDAY = Instant.parse("2024-12-02T00:00:00Z").toEpochMilli();
+
+    private final List<String> changes = new ArrayList<>();
+    private LeaderboardIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = indexAt(MONDAY + 2 * DAY + 1000); // Wednesday.
+    }
+
+    private LeaderboardIndex indexAt(long now) {
+        LeaderboardIndex created = new LeaderboardIndex(3, Clock.fixed(Instant.ofEpochMilli(now), ZONE));
+        created.addListener(new LeaderboardIndex.Listener() {
+            @Override
+            public void onInsert(String mode, LeaderboardPeriod period, int rank, ScoreEntry entry, boolean evicted) {
+                changes.add(mode + " " + period + " insert " + rank + (evicted ? " evict" : ""));
+            }
+
+            @Override
+            public void onReset(String mode, LeaderboardPeriod period) {
+                changes.add(mode + " " + period + " reset");
+            }
+        });
+        return created;
+    }
+
+    private static List<Integer> scores(List<ScoreEntry> entries) {
+        return entries.stream().map(ScoreEntry::getScore).toList();
+    }
+
+    @Test
+    void testBoardKeepsOnlyTheBestEntries() {
+        long now = MONDAY + 2 * DAY;
+        for (int score : new int[]{5, 9, 1, 7, 3, 8}) {
+            index.add(new ScoreEntry(now, "ENDLESS", score, 1, 100));
+        }
+
+        assertEquals(List.of(9, 8, 7), scores(index.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 10)), "Only the best three should be kept");
+        assertEquals(List.of(9, 8), scores(index.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 2)), "Reads should stop at the requested count");
+    }
+
+    @Test
+    void testEqualScoresRankEarlierGameFirst() {
+        index.add(new ScoreEntry(MONDAY + 20, "ENDLESS", 5, 2, 100));
+        index.add(new ScoreEntry(MONDAY + 10, "ENDLESS", 5, 1, 100));
+
+        assertEquals(1, index.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 1).get(0).getWave(), "The earlier game should rank first");
+    }
+
+    @Test
+    void testModesHaveSeparateBoards() {
+        index.add(new ScoreEntry(MONDAY, "ENDLESS", 5, 1, 100));
+        index.add(new ScoreEntry(MONDAY, "CAMPAIGN", 50, 1, 100));
+
+        assertEquals(List.of(5), scores(index.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 5)), "Endless scores should stay on their board");
+        assertEquals(List.of(50), scores(index.getTop("CAMPAIGN", LeaderboardPeriod.ALL_TIME, 5)), "Campaign scores should stay on their board");
+        assertTrue(index.getTop("SURVIVAL", LeaderboardPeriod.ALL_TIME, 5).isEmpty(), "An unknown mode should have an empty board");
+    }
+
+    @Test
+    void testDayAndWeekBoardsOnlyRankTheirPeriod() {
+        index.add(new ScoreEntry(MONDAY - DAY, "ENDLESS", 90, 1, 100)); // Last week's Sunday.
+        index.add(new ScoreEntry(MONDAY + DAY, "ENDLESS", 60, 1, 100)); // Tuesday.
+        index.add(new ScoreEntry(MONDAY + 2 * DAY, "ENDLESS", 30, 1, 100)); // Today.
+
+        assertEquals(List.of(30), scores(index.getTop("ENDLESS", LeaderboardPeriod.DAY, 5)), "The day board should hold today's games");
+        assertEquals(List.of(60, 30), scores(index.getTop("ENDLESS", LeaderboardPeriod.WEEK, 5)), "The week board should start on Monday");
+        assertEquals(List.of(90, 60, 30), scores(index.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 5)), "The all-time board should hold every game");
+    }
+
+    @Test
+    void testEndedPeriodReadsEmpty() {
+        index.add(new ScoreEntry(MONDAY, "ENDLESS", 40, 1, 100)); // Monday, read on Wednesday.
+
+        assertTrue(index.getTop("ENDLESS", LeaderboardPeriod.DAY, 5).isEmpty(), "A board from an earlier day should read as empty");
+        assertEquals(List.of(40), scores(index.getTop("ENDLESS", LeaderboardPeriod.WEEK, 5)), "The week is not over yet");
+        assertTrue(changes.contains("ENDLESS DAY reset"), "Listeners should hear that the day board started over");
+    }
+
+    @Test
+    void testListenersHearRankAndEviction() {
+        long now = MONDAY + 2 * DAY;
+        index.add(new ScoreEntry(now, "ENDLESS", 5, 1, 100));
+        index.add(new ScoreEntry(now, "ENDLESS", 9, 1, 100));
+        index.add(new ScoreEntry(now, "ENDLESS", 7, 1, 100));
+        changes.clear();
+
+        index.add(new ScoreEntry(now, "ENDLESS", 8, 1, 100));
+        index.add(new ScoreEntry(now, "ENDLESS", 1, 1, 100));
+
+        assertTrue(changes.contains("ENDLESS ALL_TIME insert 1 evict"), "An insert into a full board should report its rank and the eviction");
+        assertEquals(3, changes.size(), "A score that makes no board should not be reported");
+    }
+
+    @Test
+    void testInvalidCapacityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LeaderboardIndex(0, Clock.systemUTC()), "A board needs room for an entry");
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardManagerTest {
+
+    private Path directory;
+    private Path logFile;
+    private Path textLogFile;
+    private Path legacyFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("leaderboard");
+        logFile = directory.resolve("scores.dat");
+        textLogFile = directory.resolve("scores.log");
+        legacyFile = directory.resolve("leaderboard.txt");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        LeaderboardManager.load(Paths.get("scores.dat"), Paths.get("scores.log"), Paths.get("leaderboard.txt"));
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void testTopScoresAreRebuiltFromLog() {
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+        LeaderboardManager.addScore(new ScoreEntry(1, "ENDLESS", 30, 3, 1000));
+        LeaderboardManager.addScore(new ScoreEntry(2, "ENDLESS", 50, 5, 2000));
+        LeaderboardManager.addScore(new ScoreEntry(3, "ENDLESS", 10, 1, 500));
+
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+
+        assertEquals(List.of(50, 30, 10), LeaderboardManager.getTopScores(5), "Scores should be ranked highest first");
+        assertEquals(List.of(50), LeaderboardManager.getTopScores(1), "Only the requested number should be returned");
+        assertEquals(5, LeaderboardManager.getTopEntries("ENDLESS", LeaderboardPeriod.ALL_TIME, 1).get(0).getWave(), "Entries should keep their wave");
+    }
+
+    @Test
+    void testHistoryKeepsScoresBeyondTheTop() {
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+        for (int i = 0; i < 25; i++) {
+            LeaderboardManager.addScore(new ScoreEntry(i, "ENDLESS", i, 1, 100));
+        }
+
+        assertEquals(25, LeaderboardManager.getHistory().size(), "Every game should stay in the history");
+        assertEquals(10, LeaderboardManager.getTopScores(100).size(), "The index should hold only the best entries");
+        assertEquals(24, (int) LeaderboardManager.getTopScores(1).get(0), "The best score should rank first");
+    }
+
+    @Test
+    void testLegacyScoresAreImportedOnFirstSave() throws IOException {
+        Files.writeString(legacyFile, "70\n68\nbad\n3\n", StandardCharsets.UTF_8);
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+
+        assertEquals(List.of(70, 68, 3), LeaderboardManager.getTopScores(5), "Old scores should be ranked");
+        assertFalse(Files.exists(logFile), "Loading should not write the log");
+
+        LeaderboardManager.addScore(5);
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+
+        assertEquals(List.of(70, 68, 5, 3), LeaderboardManager.getTopScores(5), "Old scores should be carried into the log");
+        assertEquals(4, LeaderboardManager.getHistory().size(), "The log should hold the old scores and the new one");
+    }
+
+    @Test
+    void testAddScoreIsVisibleBeforeItIsWritten() {
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+        LeaderboardManager.addScore(new ScoreEntry(1, "ENDLESS", 30, 3, 1000));
+
+        assertEquals(List.of(30), LeaderboardManager.getTopScores(5), "The index should not wait for the disk");
+        assertTrue(LeaderboardManager.flush(5, TimeUnit.SECONDS), "The score should be written in the background");
+        assertEquals(1, LeaderboardManager.getHistory().size(), "The flushed score should be in the log");
+    }
+
+    @Test
+    void testTextLogIsMigratedOnFirstSave() throws IOException {
+        Files.writeString(textLogFile, new ScoreEntry(1, "ENDLESS", 40, 4, 1000).toLine() + "\n"
+                + new ScoreEntry(2, "ENDLESS", 20, 2, 500).toLine() + "\n", StandardCharsets.UTF_8);
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+
+        assertEquals(List.of(40, 20), LeaderboardManager.getTopScores(5), "Scores from the text log should be ranked");
+
+        LeaderboardManager.addScore(new ScoreEntry(3, "ENDLESS", 30, 3, 800));
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+
+        assertEquals(List.of(40, 30, 20), LeaderboardManager.getTopScores(5), "The binary log should hold the migrated scores");
+        assertEquals(4, LeaderboardManager.getTopEntries("ENDLESS", LeaderboardPeriod.ALL_TIME, 1).get(0).getWave(), "Migrated entries should keep their wave");
+    }
+
+    @Test
+    void testDamagedLogIsCompactedOnLoad() throws IOException {
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+        LeaderboardManager.addScore(new ScoreEntry(1, "ENDLESS", 30, 3, 1000));
+        LeaderboardManager.addScore(new ScoreEntry(2, "ENDLESS", 20, 2, 1000));
+        assertTrue(LeaderboardManager.flush(5, TimeUnit.SECONDS), "The scores should be written");
+        byte[] bytes = Files.readAllBytes(logFile);
+        bytes[ScoreLog.HEADER_SIZE + 3] ^= 0x7F; // Corrupt the first record's score.
+        Files.write(logFile, bytes);
+
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+
+        assertEquals(List.of(20), LeaderboardManager.getTopScores(5), "The damaged record should be ignored");
+        assertEquals(ScoreLog.HEADER_SIZE + ScoreLog.RECORD_SIZE, Files.size(logFile), "The damaged record should be compacted away");
+    }
+
+    @Test
+    void testOpeningReadsTheSnapshotAndOnlyNewerRecords() throws IOException {
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+        LeaderboardManager.addScore(new ScoreEntry(1, "ENDLESS", 30, 3, 1000));
+        LeaderboardManager.addScore(new ScoreEntry(2, "ENDLESS", 20, 2, 1000));
+        LeaderboardManager.load(logFile, textLogFile, legacyFile); // Closing saves the snapshot.
+        assertTrue(Files.exists(directory.resolve("scores.dat.idx")), "Closing should save the index");
+        byte[] bytes = Files.readAllBytes(logFile);
+        bytes[ScoreLog.HEADER_SIZE + 3] ^= 0x7F; // Damage a record the snapshot covers.
+        Files.write(logFile, bytes);
+        new ScoreLog(logFile).append(new ScoreEntry(3, "ENDLESS", 40, 4, 1000)); // As another process would.
+
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+
+        assertEquals(List.of(40, 30, 20), LeaderboardManager.getTopScores(5), "Covered records should come from the snapshot and newer ones from the log");
+    }
+
+    @Test
+    void testSnapshotOfAnotherLogIsIgnored() throws IOException {
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+        LeaderboardManager.addScore(new ScoreEntry(1, "ENDLESS", 30, 3, 1000));
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+        new ScoreLog(logFile).compact(List.of(new ScoreEntry(2, "ENDLESS", 60, 6, 1000)));
+
+        LeaderboardManager.load(logFile, textLogFile, legacyFile);
+
+        assertEquals(List.of(60), LeaderboardManager.getTopScores(5), "A log the snapshot does not match should be read in full");
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardServiceTest {
+
+    private Path directory;
+    private FileLeaderboardStore fileStore;
+    private LeaderboardService service;
+    private final List<HttpLeaderboardStore> clients = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("leaderboard-service");
+        fileStore = new FileLeaderboardStore(directory.resolve("scores.dat"), directory.resolve("scores.log"),
+                directory.resolve("leaderboard.txt"), 10, Clock.systemDefaultZone());
+        service = new LeaderboardService(fileStore, 0);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        clients.forEach(HttpLeaderboardStore::close);
+        service.stop();
+        fileStore.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private HttpLeaderboardStore client() {
+        HttpLeaderboardStore client = new HttpLeaderboardStore(service.getUri(), Duration.ZERO);
+        clients.add(client);
+        return client;
+    }
+
+    @Test
+    void testSubmittedScoresAreServedToEveryClient() {
+        HttpLeaderboardStore first = client();
+        HttpLeaderboardStore second = client();
+        first.submit(new ScoreEntry(System.currentTimeMillis(), "ENDLESS", 40, 4, 1000));
+        second.submit(new ScoreEntry(System.currentTimeMillis(), "ENDLESS", 70, 7, 2000));
+
+        assertTrue(first.flush(5, TimeUnit.SECONDS), "The first client's score should be stored");
+        assertTrue(second.flush(5, TimeUnit.SECONDS), "The second client's score should be stored");
+        first.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 5);
+        second.getTop("ENDLESS", LeaderboardPeriod.DAY, 1);
+        assertTrue(first.awaitRefresh(5, TimeUnit.SECONDS), "The first client's leaderboard should be fetched");
+        assertTrue(second.awaitRefresh(5, TimeUnit.SECONDS), "The second client's leaderboard should be fetched");
+        List<ScoreEntry> top = first.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 5);
+        assertEquals(List.of(70, 40), top.stream().map(ScoreEntry::getScore).toList(), "Both clients should share one leaderboard");
+        assertEquals(7, top.get(0).getWave(), "Entries should keep every field over the wire");
+        assertEquals(1, second.getTop("ENDLESS", LeaderboardPeriod.DAY, 1).size(), "Period boards should be served");
+    }
+
+    @Test
+    void testConcurrentWritersKeepEveryScore() throws Exception {
+        int writers = 4;
+        int scoresEach = 50;
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            HttpLeaderboardStore client = client();
+            int offset = w * scoresEach;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < scoresEach; i++) {
+                    client.submit(new ScoreEntry(offset + i, "ENDLESS", offset + i, 1, 100));
+                }
+                client.flush(10, TimeUnit.SECONDS);
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(writers * scoresEach, fileStore.getHistory().size(), "No score should be lost or torn");
+        assertEquals(writers * scoresEach - 1, fileStore.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 1).get(0).getScore(),
+                "The best score should rank first");
+    }
+
+    @Test
+    void testListenersAreToldWhenScoresAreStored() {
+        HttpLeaderboardStore client = client();
+        AtomicInteger resets = new AtomicInteger();
+        client.addListener((mode, period, rank, entry, evicted) -> fail("Remote changes are not known row by row"));
+        client.addListener(new LeaderboardIndex.Listener() {
+            @Override
+            public void onInsert(String mode, LeaderboardPeriod period, int rank, ScoreEntry entry, boolean evicted) {
+            }
+
+            @Override
+            public void onReset(String mode, LeaderboardPeriod period) {
+                resets.incrementAndGet();
+            }
+        });
+        client.submit(new ScoreEntry(1, "ENDLESS", 10, 1, 100));
+
+        assertTrue(client.flush(5, TimeUnit.SECONDS), "The score should be stored");
+        assertEquals(LeaderboardPeriod.values().length, resets.get(), "Every board of the mode should be read again");
+    }
+
+    @Test
+    void testDamagedPostIsRejectedWhole() throws Exception {
+        String body = new ScoreEntry(1, "ENDLESS", 10, 1, 100).toLine() + "\nnot a score\n";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(service.getUri() + LeaderboardService.SCORES_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode(), "A post with a damaged line should be refused");
+        assertTrue(fileStore.getHistory().isEmpty(), "No game of a refused post should be stored");
+    }
+
+    @Test
+    void testRepeatedPostIsStoredOnce() throws Exception {
+        String body = LeaderboardService.toLines(List.of(new ScoreEntry(1, "ENDLESS", 10, 1, 100)));
+        HttpClient http = HttpClient.newHttpClient();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(service.getUri() + LeaderboardService.SCORES_PATH))
+                    .header(LeaderboardService.IDEMPOTENCY_KEY_HEADER, "batch-1")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+
+            assertEquals(200, http.send(request, HttpResponse.BodyHandlers.ofString()).statusCode(), "Every attempt should be answered as stored");
+        }
+
+        assertEquals(1, fileStore.getHistory().size(), "A retried post should not store its games twice");
+    }
+
+    @Test
+    void testChangedLeaderboardIsFetchedAndAnnounced() {
+        HttpLeaderboardStore reader = client();
+        HttpLeaderboardStore writer = client();
+        AtomicInteger resets = new AtomicInteger();
+        reader.addListener(new LeaderboardIndex.Listener() {
+            @Override
+            public void onInsert(String mode, LeaderboardPeriod period, int rank, ScoreEntry entry, boolean evicted) {
+            }
+
+            @Override
+            public void onReset(String mode, LeaderboardPeriod period) {
+                resets.incrementAndGet();
+            }
+        });
+        reader.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 5);
+        assertTrue(reader.awaitRefresh(5, TimeUnit.SECONDS), "The leaderboard should be fetched");
+        int announced = resets.get();
+
+        writer.submit(new ScoreEntry(System.currentTimeMillis(), "ENDLESS", 30, 3, 1000));
+        assertTrue(writer.flush(5, TimeUnit.SECONDS), "The score should be stored");
+        assertTrue(reader.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 5).isEmpty(), "Reads should answer from the local copy");
+        assertTrue(reader.awaitRefresh(5, TimeUnit.SECONDS), "The stale leaderboard should be fetched again");
+
+        assertEquals(announced + 1, resets.get(), "Listeners should be told that the leaderboard changed");
+        assertEquals(30, reader.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 5).get(0).getScore(), "The new score should be read");
+    }
+
+    @Test
+    void testUnreachableServiceDoesNotBlockTheGame() throws IOException {
+        int port = service.getPort();
+        service.stop();
+        HttpLeaderboardStore client = new HttpLeaderboardStore(URI.create("http://127.0.0.1:" + port));
+        clients.add(client);
+        client.submit(new ScoreEntry(1, "ENDLESS", 10, 1, 100));
+
+        long start = System.nanoTime();
+        assertTrue(client.getTop("ENDLESS", LeaderboardPeriod.ALL_TIME, 5).isEmpty(), "An unreachable service should read as empty");
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500), "Reads should not wait on the service");
+        assertFalse(client.flush(500, TimeUnit.MILLISECONDS), "A failed post should stay pending");
+
+        service = new LeaderboardService(fileStore, port);
+        service.start();
+
+        assertTrue(client.flush(10, TimeUnit.SECONDS), "The pending post should be retried once the service is back");
+        assertEquals(1, fileStore.getHistory().size(), "The retried score should be stored");
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.managers;
+
+import com.example.demo.JavaFXInitializer;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SceneCacheTest extends JavaFXInitializer {
+
+    @BeforeEach
+    void setUp() {
+        SceneCache.clear();
+    }
+
+    @Test
+    void testLayoutIsParsedOnceAndShared() {
+        Parent first = SceneCache.getRoot(SceneCache.PAUSE_MENU);
+        Parent second = SceneCache.getRoot(SceneCache.PAUSE_MENU);
+
+        assertSame(first, second, "Repeated requests should return the shared node tree");
+        assertSame(SceneCache.getController(SceneCache.PAUSE_MENU), SceneCache.getController(SceneCache.PAUSE_MENU),
+                "Repeated requests should return the shared controller");
+        assertEquals(1, SceneCache.getMissCount(), "The layout should be parsed once");
+        assertEquals(3, SceneCache.getHitCount(), "Later requests should be cache hits");
+    }
+
+    @Test
+    void testSceneIsCreatedOnce() {
+        Scene first = SceneCache.getScene(SceneCache.PAUSE_MENU, 1300, 750);
+        Scene second = SceneCache.getScene(SceneCache.PAUSE_MENU, 800, 600);
+
+        assertSame(first, second, "The root can only belong to one scene");
+        assertEquals(1300, second.getWidth(), 0.5, "The scene should keep the size it was created at");
+    }
+
+    @Test
+    void testLoadTimeIsRecorded() {
+        assertEquals(-1, SceneCache.getLoadMillis(SceneCache.PAUSE_MENU), 0.0, "A layout not parsed yet has no load time");
+
+        SceneCache.load(SceneCache.PAUSE_MENU);
+
+        assertTrue(SceneCache.contains(SceneCache.PAUSE_MENU), "Loading should cache the layout");
+        assertTrue(SceneCache.getLoadMillis(SceneCache.PAUSE_MENU) >= 0, "The parse time should be kept");
+    }
+
+    @Test
+    void testCachedLayoutCountsAsPreloaded() {
+        AssetManifest manifest = new AssetManifest().fxml(SceneCache.PAUSE_MENU);
+
+        SceneCache.load(SceneCache.PAUSE_MENU);
+
+        assertTrue(AssetPreloader.isWarm(manifest), "A cached layout should not be preloaded again");
+    }
+
+    @Test
+    void testMissingLayoutThrows() {
+        assertThrows(NullPointerException.class, () -> SceneCache.getRoot("/Missing.fxml"));
+        assertEquals(0, SceneCache.size(), "Nothing should be cached for a missing layout");
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreLogTest {
+
+    private Path directory;
+    private ScoreLog log;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("scores");
+        log = new ScoreLog(directory.resolve("scores.dat"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void testAppendedEntriesAreLoadedInOrder() throws IOException {
+        log.append(new ScoreEntry(1000, "ENDLESS", 42, 5, 61_000));
+        log.append(new ScoreEntry(2000, "CAMPAIGN", 7, 1, 9_500));
+
+        List<ScoreEntry> entries = log.load();
+
+        assertEquals(2, entries.size(), "Every appended entry should be loaded");
+        ScoreEntry first = entries.get(0);
+        assertEquals(1000, first.getTimestamp(), "Timestamp should be kept");
+        assertEquals("ENDLESS", first.getMode(), "Mode should be kept");
+        assertEquals(42, first.getScore(), "Score should be kept");
+        assertEquals(5, first.getWave(), "Wave should be kept");
+        assertEquals(61_000, first.getDurationMillis(), "Duration should be kept");
+        assertEquals("CAMPAIGN", entries.get(1).getMode(), "Entries should stay in the order they were saved");
+        assertFalse(log.needsCompaction(), "An intact log should not need compaction");
+    }
+
+    @Test
+    void testRecordsHaveFixedWidthAndCountIsInHeader() throws IOException {
+        List<ScoreEntry> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            batch.add(new ScoreEntry(i, "ENDLESS", i, 1, 100));
+        }
+        log.append(batch, true);
+
+        assertEquals(10, log.count(), "The header should hold the record count");
+        assertEquals(ScoreLog.HEADER_SIZE + 10L * ScoreLog.RECORD_SIZE, Files.size(log.getFile()), "Every record should take the same space");
+    }
+
+    @Test
+    void testUncommittedRecordsAreRecovered() throws IOException {
+        log.append(new ScoreEntry(1000, "ENDLESS", 42, 5, 61_000));
+        log.append(new ScoreEntry(2000, "ENDLESS", 7, 1, 9_500));
+        byte[] bytes = Files.readAllBytes(log.getFile());
+        bytes[15] = 1; // Count back to 1, as if the crash came before the commit.
+        Files.write(log.getFile(), bytes);
+
+        assertEquals(2, log.load().size(), "An intact record past the count should be recovered");
+
+        log.append(new ScoreEntry(3000, "ENDLESS", 8, 2, 20_000));
+        assertEquals(3, log.count(), "The next append should commit the recovered record too");
+    }
+
+    @Test
+    void testTornRecordIsOverwrittenByNextAppend() throws IOException {
+        log.append(new ScoreEntry(1000, "ENDLESS", 42, 5, 61_000));
+        byte[] bytes = Files.readAllBytes(log.getFile());
+        byte[] torn = Arrays.copyOf(bytes, bytes.length + ScoreLog.RECORD_SIZE / 2);
+        Arrays.fill(torn, bytes.length, torn.length, (byte) 9);
+        Files.write(log.getFile(), torn);
+
+        assertEquals(1, log.load().size(), "A torn record should be skipped");
+        assertFalse(log.needsCompaction(), "An uncommitted torn record is not damage");
+
+        log.append(new ScoreEntry(3000, "ENDLESS", 8, 2, 20_000));
+        List<ScoreEntry> entries = log.load();
+        assertEquals(2, entries.size(), "An entry appended after a crash should be intact");
+        assertEquals(8, entries.get(1).getScore(), "The new entry should follow the old ones");
+        assertEquals(ScoreLog.HEADER_SIZE + 2L * ScoreLog.RECORD_SIZE, Files.size(log.getFile()), "The torn bytes should be gone");
+    }
+
+    @Test
+    void testCompactionRemovesDamagedRecords() throws IOException {
+        log.append(new ScoreEntry(1000, "ENDLESS", 42, 5, 61_000));
+        log.append(new ScoreEntry(2000, "ENDLESS", 7, 1, 9_500));
+        byte[] bytes = Files.readAllBytes(log.getFile());
+        bytes[ScoreLog.HEADER_SIZE + 10] ^= 1; // Damage the first record's timestamp.
+        Files.write(log.getFile(), bytes);
+
+        List<ScoreEntry> entries = log.load();
+        assertEquals(1, entries.size(), "A record whose checksum does not match should be skipped");
+        assertEquals(1, log.getDamagedRecordCount(), "The damaged record should be counted");
+
+        log.compact(entries);
+
+        assertEquals(1, log.load().size(), "Compaction should keep every intact entry");
+        assertEquals(1, log.count(), "Compaction should rewrite the count");
+        assertFalse(Files.exists(directory.resolve("scores.dat.tmp")), "The temporary file should be moved into place");
+    }
+
+    @Test
+    void testCompactionKeepsEntriesAppendedByAnotherWriter() throws IOException {
+        log.append(new ScoreEntry(1000, "ENDLESS", 42, 5, 61_000));
+        byte[] bytes = Files.readAllBytes(log.getFile());
+        bytes[ScoreLog.HEADER_SIZE + 10] ^= 1; // Damage the only record.
+        Files.write(log.getFile(), bytes);
+        log.load();
+        assertTrue(log.needsCompaction(), "The damaged record should call for compaction");
+
+        new ScoreLog(log.getFile()).append(new ScoreEntry(2000, "ENDLESS", 7, 1, 9_500));
+        log.compact();
+
+        List<ScoreEntry> entries = log.load();
+        assertEquals(1, entries.size(), "Compaction should keep entries appended after the log was read");
+        assertEquals(7, entries.get(0).getScore(), "The entry appended by the other writer should be kept");
+        assertFalse(log.needsCompaction(), "A compacted log should not need compaction");
+    }
+
+    @Test
+    void testReplacedFileIsMarked() throws IOException {
+        log.append(new ScoreEntry(1000, "ENDLESS", 42, 5, 61_000));
+        try (FileChannel old = FileChannel.open(log.getFile(), StandardOpenOption.READ)) {
+            log.compact();
+
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            old.read(magic, 0);
+            assertEquals("SKYX", new String(magic.array(), StandardCharsets.US_ASCII), "The replaced file should be marked, so writers reopen the new one");
+        }
+        log.append(new ScoreEntry(2000, "ENDLESS", 7, 1, 9_500));
+        assertEquals(2, log.load().size(), "Appends after compaction should go to the new file");
+    }
+
+    @Test
+    void testFileCanBeReplacedAndTruncatedRightAfterAScan() throws IOException {
+        for (int i = 0; i < 3000; i++) { // More than one read buffer.
+            log.append(List.of(new ScoreEntry(i, "ENDLESS", i, 1, 100)), false);
+        }
+        byte[] bytes = Files.readAllBytes(log.getFile());
+        byte[] torn = Arrays.copyOf(bytes, bytes.length + ScoreLog.RECORD_SIZE / 2);
+        Files.write(log.getFile(), torn);
+        List<ScoreEntry> scanned = new ArrayList<>();
+
+        log.scan(scanned::add);
+        log.append(new ScoreEntry(3000, "ENDLESS", 3000, 1, 100)); // Truncates the torn tail.
+        log.scan(scanned::add);
+        log.compact(); // Replaces the file that was just read.
+
+        assertEquals(3000 + 3001, scanned.size(), "Every record should be read across read buffers");
+        assertEquals(3001, log.count(), "The file should be truncated and replaced after being read");
+        assertEquals(3000, log.load().get(3000).getScore(), "Records should stay in order");
+    }
+
+    @Test
+    void testTextLogIsReadForMigration() throws IOException {
+        Path textLog = directory.resolve("scores.log");
+        String partial = new ScoreEntry(3000, "ENDLESS", 99, 9, 1).toLine().substring(0, 12);
+        Files.writeString(textLog, new ScoreEntry(1000, "ENDLESS", 42, 5, 61_000).toLine() + "\n" + partial, StandardCharsets.UTF_8);
+
+        List<ScoreEntry> entries = ScoreLog.readTextLog(textLog);
+
+        assertEquals(1, entries.size(), "Intact lines should be read and partial ones skipped");
+        assertEquals(61_000, entries.get(0).getDurationMillis(), "Every field should be read");
+    }
+
+    @Test
+    void testOtherFilesAreRejected() throws IOException {
+        Files.writeString(log.getFile(), "70\n68\n3\n2\n1\n", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> log.load(), "A text file is not a score file");
+    }
+
+    @Test
+    void testMissingLogLoadsEmpty() throws IOException {
+        assertFalse(log.exists(), "The log should not exist before the first write");
+        assertTrue(log.load().isEmpty(), "A missing log should hold no entries");
+        assertEquals(0, log.count(), "A missing log should hold no records");
+    }
+
+    @Test
+    void testInvalidModesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ScoreEntry(0, "A\tB", 1, 0, 0),
+                "A mode containing a control character should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new ScoreEntry(0, "ENDLESS_CHALLENGE_MODE", 1, 0, 0),
+                "A mode too long for a record should be rejected");
+    }
+}
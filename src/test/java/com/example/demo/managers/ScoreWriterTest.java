@@ -0,0 +1,170 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreWriterTest {
+
+    private Path directory;
+    private ScoreLog log;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("scores");
+        log = new ScoreLog(directory.resolve("scores.dat"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static ScoreEntry entry(int score) {
+        return new ScoreEntry(score, "ENDLESS", score, 1, 100);
+    }
+
+    @Test
+    void testFlushWritesEverySubmittedEntryInOrder() throws IOException {
+        ScoreWriter writer = new ScoreWriter(log, ScoreWriter.SyncPolicy.EVERY_BATCH);
+        for (int i = 0; i < 200; i++) {
+            writer.submit(entry(i));
+        }
+
+        assertTrue(writer.flush(5, TimeUnit.SECONDS), "Flush should wait for every entry");
+        List<ScoreEntry> entries = log.load();
+        assertEquals(200, entries.size(), "Every entry should be written");
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(i, entries.get(i).getScore(), "Entries should be written in submission order");
+        }
+        assertTrue(writer.getBatchCount() <= 200, "Entries should be written in batches");
+        assertTrue(writer.close(5, TimeUnit.SECONDS), "Closing an idle writer should succeed");
+    }
+
+    @Test
+    void testEntriesSubmittedTogetherShareBatches() throws IOException {
+        ScoreWriter writer = new ScoreWriter(log, ScoreWriter.SyncPolicy.ON_FLUSH);
+        List<ScoreEntry> entries = new ArrayList<>();
+        for (int i = 0; i < ScoreWriter.MAX_BATCH_SIZE; i++) {
+            entries.add(entry(i));
+        }
+        writer.submitAll(entries);
+
+        assertTrue(writer.close(5, TimeUnit.SECONDS), "Close should flush pending entries");
+        assertEquals(ScoreWriter.MAX_BATCH_SIZE, log.load().size(), "Every entry should be written");
+        assertTrue(writer.getBatchCount() <= 2, "Entries queued together should not be written one by one");
+    }
+
+    @Test
+    void testClosedWriterRejectsEntries() {
+        ScoreWriter writer = new ScoreWriter(log, ScoreWriter.SyncPolicy.EVERY_BATCH);
+        writer.close(5, TimeUnit.SECONDS);
+
+        assertTrue(writer.isClosed(), "The writer should report being closed");
+        assertThrows(IllegalStateException.class, () -> writer.submit(entry(1)), "A closed writer should not accept entries");
+    }
+
+    @Test
+    void testFailedBatchesAreRetried() throws IOException {
+        AtomicInteger failures = new AtomicInteger(2);
+        ScoreSink flaky = (entries, force) -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IOException("Unavailable");
+            }
+            log.append(entries, force);
+        };
+        ScoreWriter writer = new ScoreWriter(flaky, ScoreWriter.SyncPolicy.EVERY_BATCH, Duration.ofMillis(10));
+        writer.submit(entry(1));
+        writer.submit(entry(2));
+
+        assertTrue(writer.close(5, TimeUnit.SECONDS), "Close should wait until the batch is retried");
+        assertEquals(2, log.load().size(), "Every entry should be written once the sink recovers");
+        assertEquals(0, writer.getFailedCount(), "Retried entries should not count as failed");
+    }
+
+    @Test
+    void testRetriedEntriesAreDroppedOnClose() {
+        ScoreWriter writer = new ScoreWriter((entries, force) -> {
+            throw new IOException("Unavailable");
+        }, ScoreWriter.SyncPolicy.EVERY_BATCH, Duration.ofMillis(10));
+        writer.submit(entry(1));
+
+        assertFalse(writer.close(200, TimeUnit.MILLISECONDS), "Close should give up on a sink that never recovers");
+    }
+
+    @Test
+    void testUnwritableLogCountsFailures() {
+        ScoreWriter writer = new ScoreWriter(new ScoreLog(directory), ScoreWriter.SyncPolicy.EVERY_BATCH);
+        writer.submit(entry(1));
+
+        assertTrue(writer.close(5, TimeUnit.SECONDS), "A failed write should still complete the flush");
+        assertEquals(1, writer.getFailedCount(), "The entry that could not be written should be counted");
+        assertEquals(0, writer.getBatchCount(), "No batch should count as written");
+    }
+
+    @Test
+    void testCloseLetsTheBatchInHandFinishInsteadOfInterruptingIt() throws InterruptedException {
+        CountDownLatch appending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        ScoreWriter writer = new ScoreWriter((entries, force) -> {
+            appending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+        }, ScoreWriter.SyncPolicy.EVERY_BATCH);
+        writer.submit(entry(1));
+        assertTrue(appending.await(5, TimeUnit.SECONDS), "The writer should start appending");
+
+        assertFalse(writer.close(100, TimeUnit.MILLISECONDS), "Close should time out while the batch is still being appended");
+        release.countDown();
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS), "The batch in hand should be allowed to finish");
+        assertFalse(interrupted.get(), "Closing should not interrupt the append");
+    }
+
+    @Test
+    void testFlushSyncsOnTheWriterThread() {
+        List<String> syncThreads = new CopyOnWriteArrayList<>();
+        ScoreWriter writer = new ScoreWriter(new ScoreSink() {
+            @Override
+            public void append(Collection<ScoreEntry> entries, boolean force) {
+            }
+
+            @Override
+            public void sync() {
+                syncThreads.add(Thread.currentThread().getName());
+            }
+        }, ScoreWriter.SyncPolicy.ON_FLUSH);
+        writer.submit(entry(1));
+
+        assertTrue(writer.flush(5, TimeUnit.SECONDS), "Flush should complete");
+        assertEquals(List.of("score-writer"), syncThreads, "The writer thread should sync, not the flushing thread");
+        assertTrue(writer.close(5, TimeUnit.SECONDS), "Closing with nothing pending should succeed");
+    }
+}
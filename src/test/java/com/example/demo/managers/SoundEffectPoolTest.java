@@ -0,0 +1,100 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundEffectPoolTest {
+
+    /**
+     * Voice that stays busy once started, until stopped.
+     */
+    private static class FakeVoice implements SoundEffectPool.Voice {
+        private boolean playing;
+        private int stops;
+
+        @Override
+        public void play(double volume) {
+            playing = true;
+        }
+
+        @Override
+        public void stop() {
+            if (playing) {
+                stops++;
+            }
+            playing = false;
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return playing;
+        }
+    }
+
+    private List<FakeVoice> voices;
+    private SoundEffectPool pool;
+
+    @BeforeEach
+    void setUp() {
+        voices = new ArrayList<>();
+        pool = new SoundEffectPool(() -> {
+            FakeVoice voice = new FakeVoice();
+            voices.add(voice);
+            return voice;
+        }, 3);
+    }
+
+    @Test
+    void testRepeatedPlaysOverlap() {
+        int first = pool.play(1.0);
+        int second = pool.play(1.0);
+
+        assertNotEquals(first, second, "A second play should use another voice");
+        assertEquals(2, pool.getActiveVoiceCount(), "Both plays should sound at once");
+        assertEquals(0, voices.get(first).stops, "The first play should not be cut off");
+    }
+
+    @Test
+    void testOldestVoiceIsStolenWhenAllAreBusy() {
+        int oldest = pool.play(1.0);
+        pool.play(1.0);
+        pool.play(1.0);
+
+        int stolen = pool.play(1.0);
+
+        assertEquals(oldest, stolen, "The voice started longest ago should be reused");
+        assertEquals(1, voices.get(oldest).stops, "The stolen voice should be stopped first");
+        assertEquals(3, pool.getActiveVoiceCount(), "No more voices than the polyphony should sound");
+        assertNotEquals(stolen, pool.play(1.0), "The next steal should take the next oldest voice");
+    }
+
+    @Test
+    void testFinishedVoicesAreReused() {
+        int first = pool.play(1.0);
+        pool.play(1.0);
+        voices.get(first).playing = false; // The first play ends.
+
+        assertEquals(first, pool.play(1.0), "An idle voice should be used before stealing");
+        assertEquals(0, voices.get(first).stops, "An idle voice should not need stopping");
+    }
+
+    @Test
+    void testStopAllSilencesEveryVoice() {
+        pool.play(1.0);
+        pool.play(1.0);
+
+        pool.stopAll();
+
+        assertEquals(0, pool.getActiveVoiceCount(), "Every voice should be stopped");
+    }
+
+    @Test
+    void testInvalidPolyphonyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SoundEffectPool(FakeVoice::new, 0));
+    }
+}
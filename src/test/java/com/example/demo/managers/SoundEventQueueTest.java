@@ -0,0 +1,93 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundEventQueueTest {
+
+    private final List<String> played = new ArrayList<>();
+    private final List<Runnable> dispatched = new ArrayList<>();
+    private long now;
+    private SoundEventQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        Executor dispatcher = dispatched::add;
+        queue = new SoundEventQueue(played::add, dispatcher, () -> now);
+    }
+
+    private void runDispatched() {
+        dispatched.forEach(Runnable::run);
+        dispatched.clear();
+    }
+
+    @Test
+    void testEffectsWaitForFlushAndRunOnDispatcher() {
+        queue.submit("shoot");
+
+        assertTrue(played.isEmpty(), "Nothing should play before the frame is flushed");
+        assertEquals(1, queue.flush(), "The effect should be dispatched");
+        assertTrue(played.isEmpty(), "The effect should be played by the dispatcher, not the caller");
+
+        runDispatched();
+
+        assertEquals(List.of("shoot"), played, "The dispatcher should play the effect");
+    }
+
+    @Test
+    void testRepeatsInAFrameAreMerged() {
+        queue.submit("explosion");
+        queue.submit("shoot");
+        queue.submit("explosion");
+
+        queue.flush();
+        assertEquals(1, dispatched.size(), "A frame's effects should be dispatched as one task");
+        runDispatched();
+
+        assertEquals(List.of("explosion", "shoot"), played, "Each effect should play once, in request order");
+        assertEquals(1, queue.getMergedCount(), "The repeat should be counted as merged");
+    }
+
+    @Test
+    void testRepeatsWithinWindowAreMerged() {
+        queue.setCoalesceWindowMillis(30);
+        queue.submit("shoot");
+        queue.flush();
+
+        now += 10_000_000; // 10 ms later.
+        queue.submit("shoot");
+        assertEquals(0, queue.flush(), "A repeat inside the window should not start a voice");
+
+        now += 40_000_000; // 50 ms after the first play.
+        queue.submit("shoot");
+        assertEquals(1, queue.flush(), "A repeat after the window should play again");
+        assertEquals(1, queue.getMergedCount(), "Only the early repeat should be merged");
+        assertEquals(2, queue.getDispatchedCount(), "Two plays should be dispatched");
+    }
+
+    @Test
+    void testVoiceLimitDropsExtraEffects() {
+        queue.setMaxVoicesPerFrame(2);
+        queue.submit("shoot");
+        queue.submit("explosion");
+        queue.submit("win");
+
+        assertEquals(2, queue.flush(), "Only the voice limit should be dispatched");
+        runDispatched();
+
+        assertEquals(List.of("shoot", "explosion"), played, "The earliest requests should be kept");
+        assertEquals(1, queue.getDroppedCount(), "The extra effect should be counted as dropped");
+    }
+
+    @Test
+    void testInvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> queue.setCoalesceWindowMillis(-1));
+        assertThrows(IllegalArgumentException.class, () -> queue.setMaxVoicesPerFrame(0));
+    }
+}
@@ -9,26 +9,42 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 
 class SoundManagerTest {
 
-    @Mock
-    private MediaPlayer mockShootPlayer;
-
-    @Mock
-    private MediaPlayer mockExplosionPlayer;
-
-    @Mock
-    private MediaPlayer mockWinPlayer;
+    /**
+     * Voice that records the volumes it was played at instead of making sound.
+     */
+    private static class RecordingVoice implements SoundEffectPool.Voice {
+        private final List<Double> plays = new ArrayList<>();
+
+        @Override
+        public void play(double volume) {
+            plays.add(volume);
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return false;
+        }
+    }
 
-    @Mock
-    private MediaPlayer mockGameOverPlayer;
+    private final RecordingVoice shootVoice = new RecordingVoice();
+    private final RecordingVoice explosionVoice = new RecordingVoice();
 
     @Mock
     private MediaPlayer mockBackgroundMusicPlayer;
@@ -41,20 +57,27 @@ class SoundManagerTest {
         MockitoAnnotations.openMocks(this);
 
         // Mock the Media objects to prevent actual media loading
-        when(mockShootPlayer.getVolume()).thenReturn(1.0);
-        when(mockExplosionPlayer.getVolume()).thenReturn(1.0);
-        when(mockWinPlayer.getVolume()).thenReturn(1.0);
-        when(mockGameOverPlayer.getVolume()).thenReturn(1.0);
         when(mockBackgroundMusicPlayer.getVolume()).thenReturn(1.0);
 
-        // Use reflection to replace the MediaPlayer instances in the soundEffects map
+        // Use reflection to replace the voice pools in the soundEffects map with silent ones
         Field soundEffectsField = SoundManager.class.getDeclaredField("soundEffects");
         soundEffectsField.setAccessible(true);
-        Map<String, MediaPlayer> soundEffects = (Map<String, MediaPlayer>) soundEffectsField.get(soundManager);
-        soundEffects.put("shoot.mp3", mockShootPlayer);
-        soundEffects.put("explosion.mp3", mockExplosionPlayer);
-        soundEffects.put("win.mp3", mockWinPlayer);
-        soundEffects.put("game_over.mp3", mockGameOverPlayer);
+        Map<String, SoundEffectPool> soundEffects = (Map<String, SoundEffectPool>) soundEffectsField.get(soundManager);
+        soundEffects.put("shoot.mp3", new SoundEffectPool(() -> shootVoice, 1));
+        soundEffects.put("explosion.mp3", new SoundEffectPool(() -> explosionVoice, 1));
+
+        // Play flushed effects on the calling thread so they can be checked right away
+        Field soundEventsField = SoundManager.class.getDeclaredField("soundEvents");
+        soundEventsField.setAccessible(true);
+        Method startSoundEffect = SoundManager.class.getDeclaredMethod("startSoundEffect", String.class);
+        startSoundEffect.setAccessible(true);
+        soundEventsField.set(soundManager, new SoundEventQueue(key -> {
+            try {
+                startSoundEffect.invoke(soundManager, key);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }, Runnable::run));
 
         // Replace backgroundMusicPlayer with mock
         Field backgroundMusicPlayerField = SoundManager.class.getDeclaredField("backgroundMusicPlayer");
@@ -67,11 +90,11 @@ class SoundManagerTest {
     void testPlaySoundEffect_ValidKey() {
         // Act
         soundManager.playSoundEffect("shoot.mp3");
+        soundManager.flushSoundEffects();
 
         // Assert
-        verify(mockShootPlayer, times(1)).stop();
-        verify(mockShootPlayer, times(1)).seek(any());
-        verify(mockShootPlayer, times(1)).play();
+        assertEquals(List.of(1.0), shootVoice.plays, "The shoot effect should be played once at full volume");
+        assertTrue(explosionVoice.plays.isEmpty(), "Other effects should not be played");
     }
 
     @Test
@@ -79,8 +102,9 @@ class SoundManagerTest {
     void testPlaySoundEffect_InvalidKey() {
         // Act & Assert
         assertDoesNotThrow(() -> soundManager.playSoundEffect("invalid_key"));
-        // No interactions should occur
-        verifyNoInteractions(mockShootPlayer, mockExplosionPlayer, mockWinPlayer, mockGameOverPlayer);
+        soundManager.flushSoundEffects();
+        // No effect should be played
+        assertTrue(shootVoice.plays.isEmpty() && explosionVoice.plays.isEmpty(), "No effect should be played");
     }
 
     @Test
@@ -88,12 +112,13 @@ class SoundManagerTest {
     void testSetSoundEffectsVolume() throws Exception {
         // Act
         soundManager.setSoundEffectsVolume(0.5);
+        soundManager.playSoundEffect("shoot.mp3");
+        soundManager.playSoundEffect("explosion.mp3");
+        soundManager.flushSoundEffects();
 
         // Assert
-        verify(mockShootPlayer, times(1)).setVolume(0.5);
-        verify(mockExplosionPlayer, times(1)).setVolume(0.5);
-        verify(mockWinPlayer, times(1)).setVolume(0.5);
-        verify(mockGameOverPlayer, times(1)).setVolume(0.5);
+        assertEquals(List.of(0.5), shootVoice.plays, "Effects should be played at the new volume");
+        assertEquals(List.of(0.5), explosionVoice.plays, "Effects should be played at the new volume");
 
         // Verify internal state
         Field soundEffectsVolumeField = SoundManager.class.getDeclaredField("soundEffectsVolume");
@@ -102,6 +127,20 @@ class SoundManagerTest {
         assertEquals(0.5, volume, 0.001, "Sound effects volume should be updated to 0.5");
     }
 
+    @Test
+    @DisplayName("Test effects are only played when the frame is flushed, once per effect")
+    void testPlaySoundEffect_QueuedUntilFlush() {
+        // Act
+        soundManager.playSoundEffect("shoot.mp3");
+        soundManager.playSoundEffect("shoot.mp3");
+
+        // Assert
+        assertTrue(shootVoice.plays.isEmpty(), "Effects should wait for the end of the frame");
+        soundManager.flushSoundEffects();
+        assertEquals(1, shootVoice.plays.size(), "Repeats within a frame should be merged");
+        assertEquals(1, soundManager.getSoundEventQueue().getMergedCount(), "The merged repeat should be counted");
+    }
+
     @Test
     @DisplayName("Test setting background music volume")
     void testSetBackgroundMusicVolume() throws Exception {
@@ -127,5 +166,42 @@ class SoundManagerTest {
         // Assert
         verify(mockBackgroundMusicPlayer, times(1)).stop();
     }
-}
 
+    @Test
+    @DisplayName("Test the playing track carries on when requested again")
+    void testPlayBackgroundMusic_SameTrackContinues() throws Exception {
+        // Arrange
+        Field backgroundMusicPathField = SoundManager.class.getDeclaredField("backgroundMusicPath");
+        backgroundMusicPathField.setAccessible(true);
+        backgroundMusicPathField.set(soundManager, "/sounds/background.mp3");
+        when(mockBackgroundMusicPlayer.getStatus()).thenReturn(MediaPlayer.Status.PLAYING);
+
+        // Act
+        soundManager.playBackgroundMusic("/sounds/background.mp3");
+
+        // Assert
+        verify(mockBackgroundMusicPlayer, never()).stop();
+        verify(mockBackgroundMusicPlayer, never()).dispose();
+    }
+
+    @Test
+    @DisplayName("Test a prepared track is started without creating a player")
+    void testPlayBackgroundMusic_UsesPreparedPlayer() throws Exception {
+        // Arrange
+        MediaPlayer preparedPlayer = mock(MediaPlayer.class);
+        Field preparedMusicField = SoundManager.class.getDeclaredField("preparedMusic");
+        preparedMusicField.setAccessible(true);
+        Map<String, MediaPlayer> preparedMusic = (Map<String, MediaPlayer>) preparedMusicField.get(soundManager);
+        preparedMusic.put("/sounds/boss.background.mp3", preparedPlayer);
+        when(mockBackgroundMusicPlayer.getStatus()).thenReturn(MediaPlayer.Status.STOPPED);
+
+        // Act
+        soundManager.playBackgroundMusic("/sounds/boss.background.mp3");
+
+        // Assert
+        verify(preparedPlayer, times(1)).setVolume(1.0);
+        verify(preparedPlayer, times(1)).play();
+        verify(mockBackgroundMusicPlayer, times(1)).dispose();
+        assertTrue(preparedMusic.isEmpty(), "The prepared player should be used up");
+    }
+}
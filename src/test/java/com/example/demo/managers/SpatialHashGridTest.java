@@ -0,0 +1,81 @@
+package com.example.demo.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashGridTest {
+
+    private SpatialHashGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHashGrid(100);
+    }
+
+    @Test
+    void testQueryFindsOverlappingItem() {
+        grid.insert(10, 10, 50, 50);
+
+        assertEquals(1, grid.query(40, 40, 60, 60), "Overlapping box should be found");
+        assertEquals(0, grid.getResult(0), "Result should be the inserted item");
+    }
+
+    @Test
+    void testQueryIgnoresDistantItemInSameCell() {
+        grid.insert(0, 0, 10, 10);
+
+        assertEquals(0, grid.query(80, 80, 90, 90), "Boxes sharing a cell but not overlapping should be rejected");
+    }
+
+    @Test
+    void testTouchingEdgesCountAsOverlap() {
+        grid.insert(0, 0, 100, 100);
+
+        assertEquals(1, grid.query(100, 0, 150, 50), "Touching boxes should be reported like Bounds.intersects");
+    }
+
+    @Test
+    void testItemSpanningCellsIsReportedOnce() {
+        grid.insert(50, 50, 350, 350); // Covers a 4x4 block of cells.
+
+        assertEquals(1, grid.query(0, 0, 400, 400), "Item sharing many cells should be reported once");
+    }
+
+    @Test
+    void testResultsAreInInsertionOrder() {
+        grid.insert(250, 0, 260, 10);
+        grid.insert(-40, -40, -30, -30);
+        grid.insert(120, 120, 130, 130);
+
+        assertEquals(3, grid.query(-50, -50, 300, 300), "All three items should be found");
+        assertEquals(0, grid.getResult(0));
+        assertEquals(1, grid.getResult(1));
+        assertEquals(2, grid.getResult(2));
+    }
+
+    @Test
+    void testClearRemovesItems() {
+        grid.insert(10, 10, 20, 20);
+        grid.clear();
+
+        assertEquals(0, grid.size(), "Grid should be empty after clear");
+        assertEquals(0, grid.query(0, 0, 100, 100), "Cleared items should not be found");
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 500; i++) {
+            grid.insert(i * 10, 0, i * 10 + 5, 5);
+        }
+
+        assertEquals(500, grid.size(), "All items should be stored");
+        assertEquals(500, grid.query(0, 0, 5000, 5), "Every item should be found");
+    }
+
+    @Test
+    void testRejectsNonPositiveCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(0));
+    }
+}
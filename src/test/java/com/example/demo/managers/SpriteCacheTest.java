@@ -0,0 +1,57 @@
+package com.example.demo.managers;
+
+import com.example.demo.JavaFXInitializer;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteCacheTest extends JavaFXInitializer {
+
+    private static final String HEART = "/com/example/demo/images/heart.png";
+
+    @BeforeEach
+    void setUp() {
+        SpriteCache.clear();
+    }
+
+    @Test
+    void testImageIsLoadedOnceAndShared() {
+        Image first = SpriteCache.get(HEART);
+        Image second = SpriteCache.get(HEART);
+
+        assertSame(first, second, "Repeated requests should return the shared image");
+        assertEquals(1, SpriteCache.getMissCount(), "Image should be decoded once");
+        assertEquals(1, SpriteCache.getHitCount(), "Second request should be a cache hit");
+    }
+
+    @Test
+    void testScaledImageIsCachedSeparately() {
+        Image original = SpriteCache.get(HEART);
+        Image scaled = SpriteCache.get(HEART, 50);
+
+        assertNotSame(original, scaled, "Each requested height should have its own image");
+        assertEquals(50, scaled.getHeight(), 0.5, "Scaled image should be decoded at the requested height");
+        assertEquals(2, SpriteCache.size(), "Both variants should be cached");
+    }
+
+    @Test
+    void testHeadlessModeReturnsPlaceholderOfTheSameSize() {
+        HeadlessMode.setEnabled(true);
+        try {
+            Image placeholder = SpriteCache.get(HEART, 50);
+
+            assertEquals(50, placeholder.getHeight(), 0.5, "Placeholder should have the requested height");
+            assertTrue(placeholder.getWidth() > 0, "Placeholder width should follow the image's aspect ratio");
+        } finally {
+            HeadlessMode.setEnabled(false);
+        }
+        assertEquals(0, SpriteCache.size(), "Leaving headless mode should drop the placeholders");
+    }
+
+    @Test
+    void testMissingImageThrows() {
+        assertThrows(NullPointerException.class, () -> SpriteCache.get("/com/example/demo/images/missing.png"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.managers;
+
+import com.example.demo.actor.ActiveActorDestructible;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SweepAndPruneTest {
+
+    private SweepAndPrune sweep;
+
+    @BeforeEach
+    void setUp() {
+        sweep = new SweepAndPrune();
+    }
+
+    @Test
+    void testFindsOverlappingPair() {
+        ActiveActorDestructible projectile = mockActor(100, 100, 10, 10);
+        ActiveActorDestructible enemy = mockActor(105, 105, 50, 50);
+
+        sweep.update(List.of(projectile), List.of(enemy));
+
+        assertEquals(1, sweep.getPairCount(), "Overlapping actors should form one pair");
+        assertSame(projectile, sweep.getFirst(0), "First actor should come from the first group");
+        assertSame(enemy, sweep.getSecond(0), "Second actor should come from the second group");
+    }
+
+    @Test
+    void testIgnoresPairsWithinTheSameGroup() {
+        ActiveActorDestructible first = mockActor(100, 100, 50, 50);
+        ActiveActorDestructible second = mockActor(110, 110, 50, 50);
+
+        sweep.update(List.of(first, second), new ArrayList<>());
+
+        assertEquals(0, sweep.getPairCount(), "Actors of the same group should never pair");
+    }
+
+    @Test
+    void testIgnoresActorsOverlappingOnlyAlongX() {
+        ActiveActorDestructible projectile = mockActor(100, 0, 10, 10);
+        ActiveActorDestructible enemy = mockActor(100, 500, 50, 50);
+
+        sweep.update(List.of(projectile), List.of(enemy));
+
+        assertEquals(0, sweep.getPairCount(), "Actors in different rows should not pair");
+    }
+
+    @Test
+    void testOrderIsUpdatedAsActorsMove() {
+        ActiveActorDestructible projectile = mockActor(0, 100, 10, 10);
+        ActiveActorDestructible enemy = mockActor(300, 100, 50, 50);
+        List<ActiveActorDestructible> projectiles = List.of(projectile);
+        List<ActiveActorDestructible> enemies = List.of(enemy);
+
+        sweep.update(projectiles, enemies);
+        assertEquals(0, sweep.getPairCount(), "Actors should not overlap yet");
+
+        moveTo(projectile, 310, 100, 10, 10);
+        sweep.update(projectiles, enemies);
+        assertEquals(1, sweep.getPairCount(), "Actors should overlap after the projectile passes the enemy's edge");
+
+        moveTo(projectile, 400, 100, 10, 10);
+        sweep.update(projectiles, enemies);
+        assertEquals(0, sweep.getPairCount(), "Actors should separate once the projectile has passed");
+    }
+
+    @Test
+    void testRemovedActorsAreDropped() {
+        ActiveActorDestructible projectile = mockActor(100, 100, 10, 10);
+        ActiveActorDestructible enemy = mockActor(105, 105, 50, 50);
+        List<ActiveActorDestructible> enemies = new ArrayList<>(List.of(enemy));
+
+        sweep.update(List.of(projectile), enemies);
+        enemies.remove(enemy);
+        sweep.update(List.of(projectile), enemies);
+
+        assertEquals(0, sweep.getPairCount(), "Removed actors should no longer pair");
+    }
+
+    private ActiveActorDestructible mockActor(double x, double y, double width, double height) {
+        ActiveActorDestructible actor = mock(ActiveActorDestructible.class);
+        moveTo(actor, x, y, width, height);
+        return actor;
+    }
+
+    private void moveTo(ActiveActorDestructible actor, double x, double y, double width, double height) {
+        when(actor.getHitboxMinX()).thenReturn(x);
+        when(actor.getHitboxMinY()).thenReturn(y);
+        when(actor.getHitboxMaxX()).thenReturn(x + width);
+        when(actor.getHitboxMaxY()).thenReturn(y + height);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.projectiles;
+
+import com.example.demo.JavaFXInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectilePoolTest extends JavaFXInitializer {
+
+    private ProjectilePool<UserProjectile> pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ProjectilePool<>(UserProjectile::new, 2);
+    }
+
+    @Test
+    void testObtainCreatesProjectileWhenEmpty() {
+        UserProjectile projectile = pool.obtain(100, 200);
+
+        assertEquals(100, projectile.getLayoutX(), 0.001, "Projectile should start at the requested X");
+        assertEquals(200, projectile.getLayoutY(), 0.001, "Projectile should start at the requested Y");
+        assertEquals(1, pool.getCreatedCount(), "A new projectile should be created");
+        assertEquals(1, pool.getInUseCount(), "Projectile should be counted as in use");
+    }
+
+    @Test
+    void testReleasedProjectileIsReusedAndReset() {
+        UserProjectile projectile = pool.obtain(100, 200);
+        projectile.setTranslateX(300);
+        projectile.takeDamage();
+        projectile.returnToPool();
+
+        assertFalse(projectile.isVisible(), "Pooled projectile should be hidden");
+        assertEquals(1, pool.getAvailableCount(), "Released projectile should be available");
+
+        UserProjectile reused = pool.obtain(50, 60);
+
+        assertSame(projectile, reused, "Pool should hand out the released projectile");
+        assertFalse(reused.isDestroyed(), "Reused projectile should no longer be destroyed");
+        assertTrue(reused.isVisible(), "Reused projectile should be visible again");
+        assertEquals(50, reused.getLayoutX(), 0.001, "Reused projectile should move to the new X");
+        assertEquals(0, reused.getTranslateX(), 0.001, "Reused projectile should lose its old translation");
+        assertEquals(1, pool.getReusedCount(), "Reuse should be counted");
+        assertEquals(1, pool.getCreatedCount(), "No new projectile should be created");
+    }
+
+    @Test
+    void testReturningTwiceIsIgnored() {
+        UserProjectile projectile = pool.obtain(0, 0);
+        projectile.returnToPool();
+        projectile.returnToPool();
+
+        assertEquals(1, pool.getAvailableCount(), "Projectile should only be pooled once");
+        assertEquals(0, pool.getInUseCount(), "In-use count should not go negative");
+    }
+
+    @Test
+    void testCapacityLimitsIdleProjectiles() {
+        UserProjectile first = pool.obtain(0, 0);
+        UserProjectile second = pool.obtain(0, 0);
+        UserProjectile third = pool.obtain(0, 0);
+        first.returnToPool();
+        second.returnToPool();
+        third.returnToPool();
+
+        assertEquals(2, pool.getAvailableCount(), "Pool should keep at most its capacity");
+        assertEquals(1, pool.getDiscardedCount(), "Overflowing projectile should be discarded");
+        assertEquals(3, pool.getHighWaterMark(), "High-water mark should record peak usage");
+    }
+
+    @Test
+    void testUnpooledProjectileIsNotReturned() {
+        UserProjectile projectile = new UserProjectile(0, 0);
+        projectile.returnToPool();
+
+        assertEquals(0, pool.getAvailableCount(), "Projectile not obtained from a pool should be ignored");
+    }
+}